@@ -107,6 +107,16 @@ val errorPronePluginVersion = "5.1.0"
  */
 val protobufPluginVersion = "0.10.0"
 
+/**
+ * The version of GraalVM Native Build Tools.
+ *
+ * Please keep in sync with [io.spine.dependency.lib.GraalVm.NativeBuildTools.version].
+ *
+ * @see <a href="https://github.com/graalvm/native-build-tools/releases">
+ *     Native Build Tools Releases</a>
+ */
+val nativeBuildToolsVersion = "0.10.6"
+
 /**
  * The version of Dokka Gradle Plugins.
  *
@@ -198,6 +208,7 @@ dependencies {
         "net.lingala.zip4j:zip4j:2.10.0",
         "net.ltgt.gradle:gradle-errorprone-plugin:$errorPronePluginVersion",
         "org.ajoberstar.grgit:grgit-core:$grGitVersion",
+        "org.graalvm.buildtools:native-gradle-plugin:$nativeBuildToolsVersion",
         "org.jetbrains.dokka:dokka-base:$dokkaVersion",
         "org.jetbrains.dokka:dokka-gradle-plugin:$dokkaVersion",
         "org.jetbrains.kotlin:kotlin-gradle-plugin:$kotlinEmbeddedVersion",
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.dependency.lib
+
+// https://github.com/oracle/graal
+@Suppress(
+    "MemberVisibilityCanBePrivate" /* used directly from the outside */,
+    "ConstPropertyName" /* https://bit.ly/kotlin-prop-names */
+)
+object GraalVm {
+    private const val version = "24.2.1"
+
+    /**
+     * The API for customizing native image builds, such as
+     * [Feature](https://www.graalvm.org/sdk/javadoc/org/graalvm/nativeimage/hosted/Feature.html)s.
+     *
+     * The library is provided by the `native-image` tool, so it should be
+     * a `compileOnly` dependency.
+     */
+    const val nativeImage = "org.graalvm.sdk:nativeimage:$version"
+
+    // https://github.com/graalvm/native-build-tools/releases
+    object NativeBuildTools {
+        /**
+         * The version of this plugin is already specified in the `buildSrc/build.gradle.kts` file.
+         * Thus, when applying the plugin to project build files, only the [id] should be used.
+         *
+         * When changing the version, also change the version used in the `build.gradle.kts`.
+         */
+        const val version = "0.10.6"
+        const val id = "org.graalvm.buildtools.native"
+        const val lib = "org.graalvm.buildtools:native-gradle-plugin:$version"
+    }
+}
@@ -62,6 +62,8 @@ dependencies {
     testFixturesImplementation(Compiler.testlib)
     testFixturesImplementation(Jupiter.artifact { params })
     testFixturesImplementation(contextProject)
+    testFixturesImplementation(project(":jvm-runtime"))
+        ?.because("We need `spine/validation/size_options.proto`.")
 }
 
 protobuf {
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation
+
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.validation.given.SizeLimitBytesAboveIntRange
+import io.spine.tools.validation.given.SizeLimitBytesOfNumericField
+import io.spine.tools.validation.given.SizeLimitCountAboveIntRange
+import io.spine.tools.validation.given.SizeLimitCountOfSingularField
+import io.spine.tools.validation.option.SIZE_LIMIT
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`SizeLimitReaction` should")
+internal class SizeLimitReactionSpec : CompilationErrorTest() {
+
+    @Test
+    fun `reject 'max_count' for a singular field`() =
+        assertCompilationFails(SizeLimitCountOfSingularField::class) { field ->
+            shouldContain(field.qualifiedName)
+            shouldContain("($SIZE_LIMIT).max_count")
+            shouldContain("`map` and `repeated` fields")
+        }
+
+    @Test
+    fun `reject 'max_bytes' for a numeric field`() =
+        assertCompilationFails(SizeLimitBytesOfNumericField::class) { field ->
+            shouldContain(field.qualifiedName)
+            shouldContain("($SIZE_LIMIT).max_bytes")
+            shouldContain("`string` and `bytes` fields")
+        }
+
+    @Test
+    fun `reject 'max_count' exceeding the 'int' range`() =
+        assertCompilationFails(SizeLimitCountAboveIntRange::class) { field ->
+            shouldContain(field.qualifiedName)
+            shouldContain("($SIZE_LIMIT).max_count")
+            shouldContain("2147483648")
+        }
+
+    @Test
+    fun `reject 'max_bytes' exceeding the 'int' range`() =
+        assertCompilationFails(SizeLimitBytesAboveIntRange::class) { field ->
+            shouldContain(field.qualifiedName)
+            shouldContain("($SIZE_LIMIT).max_bytes")
+            shouldContain("4294967295")
+        }
+}
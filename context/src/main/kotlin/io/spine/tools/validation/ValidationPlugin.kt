@@ -53,6 +53,8 @@ import io.spine.tools.validation.option.RequireMessageView
 import io.spine.tools.validation.option.RequireReaction
 import io.spine.tools.validation.option.SetOnceFieldView
 import io.spine.tools.validation.option.SetOnceReaction
+import io.spine.tools.validation.option.SizeLimitFieldView
+import io.spine.tools.validation.option.SizeLimitReaction
 import io.spine.tools.validation.option.ValidateReaction
 import io.spine.tools.validation.option.ValidatedFieldView
 import io.spine.tools.validation.option.required.IfMissingReaction
@@ -85,6 +87,7 @@ public abstract class ValidationPlugin(
         SetOnceFieldView::class.java,
         ChoiceGroupView::class.java,
         RequireMessageView::class.java,
+        SizeLimitFieldView::class.java,
     ),
     viewRepositories = viewRepositories,
     reactions = reactions + setOf<Reaction<*>>(
@@ -103,6 +106,7 @@ public abstract class ValidationPlugin(
         GoesReaction(),
         SetOnceReaction(),
         IfSetAgainReaction(),
-        RequireReaction()
+        RequireReaction(),
+        SizeLimitReaction()
     )
 ) // Plugin
@@ -78,6 +78,11 @@ public const val IF_MISSING: String = "if_missing"
  */
 public const val SET_ONCE: String = "set_once"
 
+/**
+ * The name of the `(size_limit)` option.
+ */
+public const val SIZE_LIMIT: String = "size_limit"
+
 /**
  * The name of `(if_set_again)` option.
  */
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.option
+
+import io.spine.core.External
+import io.spine.core.Subscribe
+import io.spine.core.Where
+import io.spine.server.event.NoReaction
+import io.spine.server.event.React
+import io.spine.server.event.asA
+import io.spine.server.tuple.EitherOf2
+import io.spine.tools.compiler.Compilation
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.FieldRef
+import io.spine.tools.compiler.ast.FieldType
+import io.spine.tools.compiler.ast.File
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_BYTES
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_STRING
+import io.spine.tools.compiler.ast.event.FieldOptionDiscovered
+import io.spine.tools.compiler.ast.isList
+import io.spine.tools.compiler.ast.isMap
+import io.spine.tools.compiler.ast.name
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.ast.ref
+import io.spine.tools.compiler.ast.unpack
+import io.spine.tools.compiler.check
+import io.spine.tools.compiler.plugin.Reaction
+import io.spine.tools.compiler.plugin.View
+import io.spine.tools.validation.OPTION_NAME
+import io.spine.tools.validation.SizeLimitField
+import io.spine.tools.validation.event.SizeLimitFieldDiscovered
+import io.spine.tools.validation.event.sizeLimitFieldDiscovered
+import io.spine.validation.SizeLimitOption
+
+/**
+ * Controls whether a field should be validated with the `(size_limit)` option.
+ *
+ * Whenever a field marked with `(size_limit)` option is discovered, emits
+ * [SizeLimitFieldDiscovered] event if the following conditions are met:
+ *
+ * 1. If `max_count` is set, the field is `repeated` or `map`.
+ * 2. If `max_bytes` is set, the field or its elements are of `string` or `bytes` type.
+ * 3. At least one of the limits is set.
+ * 4. The limits do not exceed [Int.MAX_VALUE]. The Java collections and arrays cannot
+ *    be larger, and the `uint32` values above it would turn negative in the Java code.
+ *
+ * If (1), (2), or (4) is violated, the reaction reports a compilation error.
+ *
+ * Violation of (3) means that the option is applied correctly, but effectively
+ * disabled. In this case, the reaction emits [NoReaction] meaning that
+ * the option is ignored.
+ */
+internal class SizeLimitReaction : Reaction<FieldOptionDiscovered>() {
+
+    @React
+    override fun whenever(
+        @External @Where(field = OPTION_NAME, equals = SIZE_LIMIT)
+        event: FieldOptionDiscovered
+    ): EitherOf2<SizeLimitFieldDiscovered, NoReaction> {
+        val field = event.subject
+        val file = event.file
+        val option = event.option.unpack<SizeLimitOption>()
+        checkWithinIntRange(option.maxCount, "max_count", field, file)
+        checkWithinIntRange(option.maxBytes, "max_bytes", field, file)
+        if (option.maxCount > 0) {
+            checkCountSupported(field, file)
+        }
+        if (option.maxBytes > 0) {
+            checkBytesSupported(field, file)
+        }
+
+        if (option.maxCount == 0 && option.maxBytes == 0) {
+            return ignore()
+        }
+
+        return sizeLimitFieldDiscovered {
+            id = field.ref
+            subject = field
+            maxCount = option.maxCount
+            maxBytes = option.maxBytes
+        }.asA()
+    }
+}
+
+/**
+ * A view of a field that is marked with the `(size_limit)` option.
+ */
+internal class SizeLimitFieldView : View<FieldRef, SizeLimitField, SizeLimitField.Builder>() {
+
+    @Subscribe
+    fun on(e: SizeLimitFieldDiscovered) = alter {
+        subject = e.subject
+        maxCount = e.maxCount
+        maxBytes = e.maxBytes
+    }
+}
+
+private fun checkCountSupported(field: Field, file: File) =
+    Compilation.check(field.type.isList || field.type.isMap, file, field.span) {
+        "The field type `${field.type.name}` of `${field.qualifiedName}` is not supported" +
+                " by `($SIZE_LIMIT).max_count`. This limit supports `map` and `repeated` fields."
+    }
+
+private fun checkBytesSupported(field: Field, file: File) =
+    Compilation.check(field.type.extractPrimitive() in SIZED_PRIMITIVES, file, field.span) {
+        "The field type `${field.type.name}` of `${field.qualifiedName}` is not supported" +
+                " by `($SIZE_LIMIT).max_bytes`. This limit supports `string` and `bytes` fields," +
+                " including the repeated ones."
+    }
+
+/**
+ * Checks that the given `uint32` [limit] does not exceed [Int.MAX_VALUE].
+ *
+ * Such values are read as negative [Int]s.
+ */
+private fun checkWithinIntRange(limit: Int, name: String, field: Field, file: File) =
+    Compilation.check(limit >= 0, file, field.span) {
+        "The value `${limit.toUInt()}` of `($SIZE_LIMIT).$name` of `${field.qualifiedName}`" +
+                " is too large. The limit must not exceed ${Int.MAX_VALUE}."
+    }
+
+/**
+ * Extracts a primitive type if this [FieldType] is singular or repeated field.
+ */
+private fun FieldType.extractPrimitive(): PrimitiveType? = when {
+    isPrimitive -> primitive
+    isList -> list.primitive
+    else -> null
+}
+
+private val SIZED_PRIMITIVES = setOf(TYPE_STRING, TYPE_BYTES)
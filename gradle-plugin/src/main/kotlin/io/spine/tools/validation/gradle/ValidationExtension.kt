@@ -28,6 +28,9 @@ package io.spine.tools.validation.gradle
 
 import javax.inject.Inject
 import org.gradle.api.Action
+import org.gradle.api.InvalidUserDataException
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.MapProperty
 import org.gradle.api.model.ObjectFactory
 import org.gradle.api.provider.Property
 
@@ -100,6 +103,122 @@ public abstract class ValidationExtension @Inject public constructor(objects: Ob
             action.execute(suppressWarnings)
         }
 
+        /**
+         * Settings of the parallel validation of elements of `repeated` and `map`
+         * fields marked with `(validate) = true`.
+         *
+         * Configure via the nested [parallelValidation] block:
+         * ```kotlin
+         * spine {
+         *     validation {
+         *         java {
+         *             parallelValidation {
+         *                 elementThreshold.set(10_000)
+         *             }
+         *         }
+         *     }
+         * }
+         * ```
+         */
+        public val parallelValidation: ParallelValidation =
+            objects.newInstance(ParallelValidation::class.java)
+
+        /**
+         * Configures the parallel validation of field elements using a Gradle DSL block.
+         *
+         * Equivalent to mutating [parallelValidation] directly.
+         */
+        public fun parallelValidation(action: Action<ParallelValidation>) {
+            action.execute(parallelValidation)
+        }
+
+        /**
+         * Settings of recording the constraint profiles, and of ordering
+         * the generated fail-fast checks using a recorded profile.
+         *
+         * Configure via the nested [profiling] block:
+         * ```kotlin
+         * spine {
+         *     validation {
+         *         java {
+         *             profiling {
+         *                 record.set(true)
+         *                 profileFile.set(file("validation.profile"))
+         *             }
+         *         }
+         *     }
+         * }
+         * ```
+         */
+        public val profiling: Profiling =
+            objects.newInstance(Profiling::class.java)
+
+        /**
+         * Configures the constraint profiling using a Gradle DSL block.
+         *
+         * Equivalent to mutating [profiling] directly.
+         */
+        public fun profiling(action: Action<Profiling>) {
+            action.execute(profiling)
+        }
+
+        /**
+         * The named validation profiles mapped to the options, the constraints of
+         * which the profiles skip.
+         *
+         * A profile is activated at run time via `io.spine.validation.ValidationProfile`,
+         * for example, on trusted internal paths, the messages of which are already
+         * validated at the edge of the system:
+         * ```kotlin
+         * spine {
+         *     validation {
+         *         java {
+         *             validationProfiles.put("structural", listOf("pattern", "validate"))
+         *         }
+         *     }
+         * }
+         * ```
+         * The options are named without parentheses. Only the built-in options can be
+         * skipped: `required`, `pattern`, `goes`, `distinct`, `validate`, `range`, `min`,
+         * `max`, `choice`, and `require`.
+         *
+         * The profile names may contain only letters, digits, `_`, `.`, and `-`.
+         * The build fails if a name is invalid, or an option cannot be skipped.
+         *
+         * Empty by default, in which case all the constraints are checked.
+         */
+        @Suppress("UNCHECKED_CAST") // Gradle accepts only the raw class of the values.
+        public val validationProfiles: MapProperty<String, List<String>> =
+            objects.mapProperty(String::class.java, List::class.java)
+                as MapProperty<String, List<String>>
+
+        /**
+         * Returns the [validationProfiles] making sure they are valid.
+         *
+         * @throws InvalidUserDataException if a profile name is invalid, or
+         *   a profile skips an option, which cannot be skipped.
+         */
+        internal fun checkedValidationProfiles(): Map<String, List<String>> {
+            val profiles = validationProfiles.get()
+            profiles.forEach { (name, options) ->
+                if (!PROFILE_NAME.matches(name)) {
+                    throw InvalidUserDataException(
+                        "The validation profile name `$name` is invalid." +
+                                " Please use only letters, digits, `_`, `.`, and `-`."
+                    )
+                }
+                val unknown = options.map { it.removeSurrounding("(", ")") } - SKIPPABLE_OPTIONS
+                if (unknown.isNotEmpty()) {
+                    throw InvalidUserDataException(
+                        "The validation profile `$name` skips unknown options: $unknown." +
+                                " Only the built-in options can be skipped:" +
+                                " ${SKIPPABLE_OPTIONS.sorted()}."
+                    )
+                }
+            }
+            return profiles
+        }
+
         /**
          * Holds the per-kind warning suppression toggles for the Java target
          * of the Validation Compiler.
@@ -127,6 +246,75 @@ public abstract class ValidationExtension @Inject public constructor(objects: Ob
                 unsignedFields.convention(false)
             }
         }
+
+        /**
+         * Holds the settings of the parallel validation of elements of `repeated`
+         * and `map` fields marked with `(validate) = true`.
+         *
+         * Parallel validation is disabled by default.
+         */
+        public abstract class ParallelValidation
+        @Inject public constructor(objects: ObjectFactory) {
+
+            /**
+             * The minimal number of elements in a field, at which the elements
+             * are validated in parallel.
+             *
+             * Fields with fewer elements are validated sequentially. Violations
+             * are reported in the order of the elements in both cases.
+             *
+             * Defaults to `0`, which disables parallel validation.
+             *
+             * A field may set its own threshold via the `(parallel_validation)` option
+             * declared in `spine/validation/parallel_options.proto`.
+             */
+            public val elementThreshold: Property<Int> =
+                objects.property(Int::class.java)
+
+            init {
+                elementThreshold.convention(0)
+            }
+        }
+
+        /**
+         * Holds the settings of recording the constraint profiles and of ordering
+         * the generated fail-fast checks by a recorded profile.
+         *
+         * The profile is recorded by `io.spine.validation.ConstraintProfiler` when
+         * the code generated with [record] enabled runs, for example, in tests or
+         * in a staging environment. Then, the profile is passed back via [profileFile]
+         * so that the checks most likely to detect a violation come first when
+         * looking for the first violation of a message, e.g., via
+         * `ValidatableMessage.firstViolation()`.
+         *
+         * The checks collecting all the violations, such as the ones of `validate()`,
+         * are not reordered. They report the violations in the order of declaration.
+         */
+        public abstract class Profiling
+        @Inject public constructor(objects: ObjectFactory) {
+
+            /**
+             * Tells if the generated code should record the checks of constraints.
+             *
+             * Defaults to `false`. The recording code should not be enabled in
+             * production builds, as it counts every check.
+             */
+            public val record: Property<Boolean> =
+                objects.property(Boolean::class.java)
+
+            /**
+             * The profile file used to order the generated fail-fast checks.
+             *
+             * Not set by default, in which case the fail-fast checks are ordered
+             * by their cost only.
+             */
+            public val profileFile: RegularFileProperty =
+                objects.fileProperty()
+
+            init {
+                record.convention(false)
+            }
+        }
     }
 
     public companion object {
@@ -137,3 +325,20 @@ public abstract class ValidationExtension @Inject public constructor(objects: Ob
         public const val NAME: String = "validation"
     }
 }
+
+/**
+ * The names of the options, the constraints of which can be skipped by
+ * the validation profiles.
+ */
+private val SKIPPABLE_OPTIONS = setOf(
+    "required", "pattern", "goes", "distinct", "validate",
+    "range", "max", "min", "choice", "require"
+)
+
+/**
+ * Matches the allowed names of the validation profiles.
+ *
+ * The names are rendered into Java string literals, so they may not contain
+ * the characters, which need escaping.
+ */
+private val PROFILE_NAME = Regex("[A-Za-z0-9_.-]+")
@@ -39,11 +39,15 @@ import io.spine.tools.gradle.lib.LibraryPlugin
 import io.spine.tools.gradle.lib.spineExtension
 import io.spine.tools.meta.MavenArtifact
 import io.spine.tools.validation.settings.JavaValidationRendererSettings
+import io.spine.tools.validation.settings.constraintProfiling
 import io.spine.tools.validation.settings.javaValidationRendererSettings
+import io.spine.tools.validation.settings.parallelValidation
+import io.spine.tools.validation.settings.skippedOptions
 import io.spine.tools.validation.settings.suppressWarnings
 import io.spine.type.toJson
 import org.gradle.api.Project
 import org.gradle.api.artifacts.Dependency
+import org.gradle.api.tasks.PathSensitivity
 import org.gradle.kotlin.dsl.apply
 import io.spine.tools.compiler.gradle.plugin.Plugin as CompilerGradlePlugin
 
@@ -73,6 +77,8 @@ private fun Project.configureValidation() {
     afterEvaluate {
         // Add the Validation Java Compiler only if `spine/validation/enabled` is true.
         if (validationExtension.enabled.get()) {
+            // Fail the build on invalid validation profiles during the configuration.
+            validationExtension.java.checkedValidationProfiles()
             (compilerSettings as Extension).run {
                 // Put the Validation Java Compiler first in the list of the plugins.
                 // Other plugins may rely on the validation code.
@@ -85,7 +91,14 @@ private fun Project.configureValidation() {
             // task (which runs during execution) deletes `build/` — including
             // the settings file — before the compiler task can read it.
             val theProject = this
+            val profiling = validationExtension.java.profiling
             tasks.withType(LaunchSpineCompiler::class.java).configureEach { task ->
+                // The recorded profile changes the order of the generated checks,
+                // so the code is regenerated when the content of the profile changes.
+                task.inputs.file(profiling.profileFile)
+                    .optional()
+                    .withPathSensitivity(PathSensitivity.NONE)
+                    .withPropertyName("validationProfileFile")
                 task.doFirst {
                     theProject.writeJavaValidationRendererSettings()
                 }
@@ -115,10 +128,23 @@ private fun Project.configureValidation() {
  */
 private fun Project.writeJavaValidationRendererSettings() {
     val suppress = validationExtension.java.suppressWarnings
+    val parallel = validationExtension.java.parallelValidation
+    val profile = validationExtension.java.profiling
+    val profiles = validationExtension.java.checkedValidationProfiles()
     val message = javaValidationRendererSettings {
         suppressWarnings = suppressWarnings {
             unsignedFields = suppress.unsignedFields.get()
         }
+        parallelValidation = parallelValidation {
+            elementThreshold = parallel.elementThreshold.get()
+        }
+        profiling = constraintProfiling {
+            record = profile.record.get()
+            profileFile = profile.profileFile.orNull?.asFile?.absolutePath.orEmpty()
+        }
+        profiles.forEach { (name, options) ->
+            validationProfiles.put(name, skippedOptions { option.addAll(options) })
+        }
     }
     val workingDir = WorkingDirectory(compilerWorkingDir.asFile.toPath())
     workingDir.settingsDirectory.write(
@@ -28,14 +28,19 @@ package io.spine.tools.validation.gradle
 
 import io.kotest.matchers.shouldBe
 import io.spine.tools.validation.settings.JavaValidationRendererSettings
+import io.spine.tools.validation.settings.constraintProfiling
 import io.spine.tools.validation.settings.javaValidationRendererSettings
+import io.spine.tools.validation.settings.parallelValidation
+import io.spine.tools.validation.settings.skippedOptions
 import io.spine.tools.validation.settings.suppressWarnings
 import org.gradle.api.Action
+import org.gradle.api.InvalidUserDataException
 import org.gradle.api.Project
 import org.gradle.testfixtures.ProjectBuilder
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 
 /**
  * Exercises the user-facing surface of [ValidationExtension] — specifically
@@ -108,6 +113,90 @@ internal class ValidationExtensionSpec {
         message.suppressWarnings.unsignedFields shouldBe false
     }
 
+    @Test
+    fun `disable parallel validation by default`() {
+        extension.java.parallelValidation.elementThreshold.get() shouldBe 0
+        buildSettings(extension).parallelValidation.elementThreshold shouldBe 0
+    }
+
+    @Test
+    fun `allow setting the parallel validation threshold via the nested DSL block`() {
+        extension.java { java ->
+            java.parallelValidation { parallel ->
+                parallel.elementThreshold.set(10_000)
+            }
+        }
+
+        val message = buildSettings(extension)
+
+        message.parallelValidation.elementThreshold shouldBe 10_000
+    }
+
+    @Test
+    fun `disable constraint profiling by default`() {
+        extension.java.profiling.record.get() shouldBe false
+        extension.java.profiling.profileFile.isPresent shouldBe false
+
+        val message = buildSettings(extension)
+
+        message.profiling.record shouldBe false
+        message.profiling.profileFile shouldBe ""
+    }
+
+    @Test
+    fun `allow setting the constraint profiling via the nested DSL block`() {
+        val profile = project.layout.projectDirectory.file("validation.profile")
+        extension.java { java ->
+            java.profiling { profiling ->
+                profiling.record.set(true)
+                profiling.profileFile.set(profile)
+            }
+        }
+
+        val message = buildSettings(extension)
+
+        message.profiling.record shouldBe true
+        message.profiling.profileFile shouldBe profile.asFile.absolutePath
+    }
+
+    @Test
+    fun `have no validation profiles by default`() {
+        extension.java.validationProfiles.get() shouldBe emptyMap()
+
+        buildSettings(extension).validationProfilesMap shouldBe emptyMap()
+    }
+
+    @Test
+    fun `allow setting the validation profiles`() {
+        extension.java { java ->
+            java.validationProfiles.put("structural", listOf("pattern", "validate"))
+        }
+
+        val message = buildSettings(extension)
+
+        message.validationProfilesMap.keys shouldBe setOf("structural")
+        message.validationProfilesMap["structural"]!!.optionList shouldBe
+                listOf("pattern", "validate")
+    }
+
+    @Test
+    fun `reject validation profile names requiring escaping`() {
+        extension.java.validationProfiles.put("say \"hi\"", listOf("pattern"))
+
+        assertThrows<InvalidUserDataException> {
+            extension.java.checkedValidationProfiles()
+        }
+    }
+
+    @Test
+    fun `reject validation profiles skipping unknown options`() {
+        extension.java.validationProfiles.put("structural", listOf("(pattern)", "paterns"))
+
+        assertThrows<InvalidUserDataException> {
+            extension.java.checkedValidationProfiles()
+        }
+    }
+
     /**
      * Builds the [JavaValidationRendererSettings] proto from the DSL values in
      * the same shape that the Validation Gradle plugin produces at task time.
@@ -117,5 +206,16 @@ internal class ValidationExtensionSpec {
             suppressWarnings = suppressWarnings {
                 unsignedFields = extension.java.suppressWarnings.unsignedFields.get()
             }
+            parallelValidation = parallelValidation {
+                elementThreshold = extension.java.parallelValidation.elementThreshold.get()
+            }
+            profiling = constraintProfiling {
+                record = extension.java.profiling.record.get()
+                profileFile = extension.java.profiling.profileFile.orNull
+                    ?.asFile?.absolutePath.orEmpty()
+            }
+            extension.java.checkedValidationProfiles().forEach { (name, options) ->
+                validationProfiles.put(name, skippedOptions { option.addAll(options) })
+            }
         }
 }
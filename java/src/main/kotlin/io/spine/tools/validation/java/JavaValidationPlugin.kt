@@ -28,12 +28,13 @@ package io.spine.tools.validation.java
 
 import io.spine.tools.validation.ValidationPlugin
 import io.spine.tools.validation.java.setonce.SetOnceRenderer
+import io.spine.tools.validation.java.sizelimit.SizeLimitRenderer
 import java.util.ServiceLoader
 
 /**
  * An implementation of [ValidationPlugin] for Java language.
  *
- * The validation constraints for Java are implemented with two renderers:
+ * The validation constraints for Java are implemented with three renderers:
  *
  * 1. [JavaValidationRenderer][io.spine.tools.validation.java.JavaValidationRenderer]
  *   is the main renderer for Java. It renders the validation
@@ -44,12 +45,18 @@ import java.util.ServiceLoader
  *   It is a standalone renderer because it significantly differs from the rest of constraints.
  *   Its implementation modifies the message builder behavior, affecting every setter or merge
  *   method that can change the field value.
+ *
+ * 3. [SizeLimitRenderer][io.spine.tools.validation.java.sizelimit.SizeLimitRenderer]
+ *   is responsible for the `(size_limit)` option. It modifies the parsing code of
+ *   the message builder to reject oversize values before they are allocated.
+ *   It runs after [SetOnceRenderer] because both renderers patch the same parsing method.
  */
 @Suppress("unused") // Accessed via reflection.
 public open class JavaValidationPlugin : ValidationPlugin(
     renderers = listOf(
         JavaValidationRenderer(customGenerators = customOptions.map { it.generator }),
-        SetOnceRenderer()
+        SetOnceRenderer(),
+        SizeLimitRenderer()
     ),
     views = customOptions.flatMap { it.view }.toSet(),
     reactions = customOptions.flatMap { it.reactions }.toSet(),
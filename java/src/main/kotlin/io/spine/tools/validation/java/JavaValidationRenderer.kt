@@ -28,8 +28,11 @@ package io.spine.tools.validation.java
 
 import com.google.protobuf.Message
 import com.intellij.psi.PsiJavaFile
+import io.spine.server.query.Querying
+import io.spine.server.query.select
 import io.spine.tools.code.Java
 import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.jvm.file.hasJavaRoot
 import io.spine.tools.compiler.jvm.javaClassName
 import io.spine.tools.compiler.jvm.render.JavaRenderer
@@ -38,9 +41,16 @@ import io.spine.tools.compiler.jvm.render.findMessageTypes
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.compiler.settings.loadSettings
+import io.spine.tools.validation.ValidateField
+import io.spine.tools.validation.java.generate.ConstraintFreeTypes
+import io.spine.tools.validation.java.generate.ConstraintPlan
+import io.spine.tools.validation.java.generate.FieldChanges
+import io.spine.tools.validation.java.generate.FieldReaders
 import io.spine.tools.validation.java.generate.MessageValidationCode
 import io.spine.tools.validation.java.generate.OptionGenerator
+import io.spine.tools.validation.java.generate.SingleOptionCode
 import io.spine.tools.validation.java.generate.ValidationCodeInjector
+import io.spine.tools.validation.java.generate.inlinableConstraints
 import io.spine.tools.validation.java.generate.option.ChoiceGenerator
 import io.spine.tools.validation.java.generate.option.DistinctGenerator
 import io.spine.tools.validation.java.generate.option.GoesGenerator
@@ -53,6 +63,8 @@ import io.spine.tools.validation.java.generate.option.bound.MinGenerator
 import io.spine.tools.validation.java.generate.option.bound.RangeGenerator
 import io.spine.tools.validation.java.generate.option.bound.UnsignedIntegerWarnings
 import io.spine.tools.validation.settings.JavaValidationRendererSettings
+import io.spine.validation.ConstraintProfile
+import kotlin.io.path.Path
 
 /**
  * The main Java renderer of the validation library.
@@ -66,6 +78,75 @@ internal class JavaValidationRenderer(
 
     private val codeInjector = ValidationCodeInjector()
     private val querying = this@JavaValidationRenderer
+
+    /**
+     * The settings written by the Validation Gradle plugin, if any.
+     *
+     * If the settings file is missing (e.g., the renderer is invoked outside
+     * the Gradle plugin), the default settings are used.
+     */
+    private val settings by lazy {
+        if (settingsAvailable()) {
+            loadSettings<JavaValidationRendererSettings>()
+        } else {
+            JavaValidationRendererSettings.getDefaultInstance()
+        }
+    }
+
+    /**
+     * The recorded profile of the constraints used to order the generated checks
+     * looking for the first violation.
+     *
+     * If the profile file is not configured or missing, the profile is empty.
+     */
+    private val profile by lazy {
+        val file = settings.profiling.profileFile
+        if (file.isEmpty()) {
+            ConstraintProfile.EMPTY
+        } else {
+            ConstraintProfile.read(Path(file))
+        }
+    }
+
+    /**
+     * The names of the validation profiles mapped to the names of the options,
+     * the constraints of which the profiles skip.
+     *
+     * The option names are accepted both with and without parentheses.
+     *
+     * The names are checked even though the Gradle plugin checks them, as the profile
+     * names are rendered into the generated code.
+     */
+    private val validationProfiles by lazy {
+        settings.validationProfilesMap.mapValues { (_, skipped) ->
+            skipped.optionList
+                .map { it.removeSurrounding("(", ")") }
+                .toSet()
+        }.also(::checkValidationProfiles)
+    }
+
+    /**
+     * The message types of the current compilation having no constraints.
+     *
+     * Computed for each [render] pass before the code is generated.
+     */
+    private lateinit var constraintFree: ConstraintFreeTypes
+
+    /**
+     * The message types of the current compilation.
+     *
+     * Computed for each [render] pass before the code is generated.
+     */
+    private var compiledTypes: Set<TypeName> = emptySet()
+
+    /**
+     * The code generated for the constraints declared in the message types
+     * of the current compilation.
+     *
+     * Computed for each [render] pass before the code is generated.
+     */
+    private var ownCode: Map<TypeName, Map<OptionGenerator, List<SingleOptionCode>>> = emptyMap()
+
     private val optionGenerators by lazy {
         (builtInGenerators() + customGenerators)
             .onEach { it.inject(querying, typeSystem) }
@@ -83,14 +164,33 @@ internal class JavaValidationRenderer(
         UnsignedIntegerWarnings.clear()
         UnsignedIntegerWarnings.setEnabled(unsignedFieldsWarningEnabled())
 
-        findMessageTypes()
-            .forEach { message ->
-                val code = generateCode(message)
-                val file = sources.javaFileOf(message)
-                file.render(code)
-            }
+        val messages = findMessageTypes().toList()
+        compiledTypes = messages.map { it.name }.toSet()
+        ownCode = messages.associate { it.name to ownConstraints(it.name) }
+        constraintFree = ConstraintFreeTypes(
+            types = ownCode.keys,
+            constrained = ownCode.filterValues { it.values.any(List<*>::isNotEmpty) }.keys,
+            validateFields = (this as Querying).select<ValidateField>().all()
+        )
+        messages.forEach { message ->
+            val code = generateCode(message, ownCode[message.name]!!)
+            val file = sources.javaFileOf(message)
+            file.render(code)
+        }
     }
 
+    /**
+     * Generates the code for the constraints declared in the given [type] itself.
+     *
+     * The code of [ValidateGenerator] is not included because it depends on
+     * the constraints of other types, which are known only after this method
+     * is called for all the types.
+     */
+    private fun ownConstraints(type: TypeName): Map<OptionGenerator, List<SingleOptionCode>> =
+        optionGenerators
+            .filter { it !is ValidateGenerator }
+            .associateWith { it.codeFor(type) }
+
     /**
      * Returns whether the "unsigned integer types are not supported in Java"
      * warning should be emitted in the current compilation.
@@ -101,11 +201,7 @@ internal class JavaValidationRenderer(
      * default — warning on — is preserved.
      */
     private fun unsignedFieldsWarningEnabled(): Boolean =
-        if (settingsAvailable()) {
-            !loadSettings<JavaValidationRendererSettings>().suppressWarnings.unsignedFields
-        } else {
-            true
-        }
+        !settings.suppressWarnings.unsignedFields
 
     /**
      * Returns code generators for the built-in options.
@@ -121,7 +217,12 @@ internal class JavaValidationRenderer(
         PatternGenerator(),
         GoesGenerator(),
         DistinctGenerator(),
-        ValidateGenerator(),
+        ValidateGenerator(
+            parallelThreshold = settings.parallelValidation.elementThreshold,
+            generated = { it in compiledTypes },
+            constraintFree = { constraintFree },
+            inlinable = ::inlinableConstraintsOf
+        ),
         RangeGenerator(),
         MaxGenerator(),
         MinGenerator(),
@@ -129,13 +230,46 @@ internal class JavaValidationRenderer(
         RequireOptionGenerator(),
     )
 
-    private fun generateCode(message: MessageType): MessageValidationCode {
-        val fieldOptions = optionGenerators.flatMap { it.codeFor(message.name) }
+    /**
+     * Returns the constraints declared in the given [type], if they can be inlined
+     * into the validation code of other messages.
+     *
+     * The constraints are never inlined when their checks are recorded,
+     * so that the checks are attributed to the type, which declares them.
+     */
+    private fun inlinableConstraintsOf(type: TypeName): List<SingleOptionCode>? {
+        if (settings.profiling.record) {
+            return null
+        }
+        val code = ownCode[type] ?: return null
+        return inlinableConstraints(code, validationProfiles)
+    }
+
+    private fun generateCode(
+        message: MessageType,
+        ownCode: Map<OptionGenerator, List<SingleOptionCode>>
+    ): MessageValidationCode {
+        val plan = ConstraintPlan(
+            type = message.name,
+            code = optionGenerators.associateWith { ownCode[it] ?: it.codeFor(message.name) },
+            profile = profile,
+            record = settings.profiling.record,
+            profiles = validationProfiles
+        )
+        val messageClass = message.javaClassName(typeSystem)
         val messageCode = MessageValidationCode(
-            message = message.javaClassName(typeSystem),
-            constraints = fieldOptions.map { it.constraint },
-            fields = fieldOptions.flatMap { it.fields },
-            methods = fieldOptions.flatMap { it.methods }
+            message = messageClass,
+            constraints = plan.constraints,
+            failFastConstraints = plan.failFastConstraints,
+            fields = plan.fields,
+            methods = plan.methods,
+            fieldReaders = FieldReaders(message).methods(),
+            fieldChanges = FieldChanges(message, messageClass).method(),
+            hasConstraints = message.name !in constraintFree,
+            parseChecks = plan.parseChecks,
+            constraintsAfterParse = plan.constraintsAfterParse,
+            messageFields = message.fieldList,
+            builderConstraints = plan.builderConstraints
         )
         return messageCode
     }
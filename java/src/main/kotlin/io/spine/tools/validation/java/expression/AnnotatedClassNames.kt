@@ -40,3 +40,9 @@ public val NullableAnnotation: ClassName = ClassName(Nullable::class)
  */
 public val NullableTypeNameClass: AnnotatedClassName =
     AnnotatedClassName(TypeNameClass, NullableAnnotation)
+
+/**
+ * The [FieldSelectionClass] annotated with [NullableAnnotation].
+ */
+public val NullableFieldSelectionClass: AnnotatedClassName =
+    AnnotatedClassName(FieldSelectionClass, NullableAnnotation)
@@ -42,10 +42,18 @@ import io.spine.tools.compiler.jvm.ClassName
 import io.spine.type.KnownTypes
 import io.spine.type.TypeName
 import io.spine.type.TypeUrl
+import io.spine.validation.ConstraintProfiler
 import io.spine.validation.ConstraintViolation
+import io.spine.validation.FieldAwareMessage
+import io.spine.validation.FieldSelection
 import io.spine.string.TemplateString
 import io.spine.validation.ValidatableMessage
+import io.spine.validation.ParallelValidation
+import io.spine.validation.SizeLimits
+import io.spine.validation.Utf8Patterns
 import io.spine.validation.ValidationError
+import io.spine.validation.ValidationProfile
+import io.spine.validation.ValidatorRegistry
 import java.util.*
 import java.util.regex.Pattern
 import java.util.stream.Collectors
@@ -70,6 +78,21 @@ public val TemplateStringClass: ClassName = ClassName(TemplateString::class)
  */
 public val PatternClass: ClassName = ClassName(Pattern::class)
 
+/**
+ * The [ClassName] of [Utf8Patterns].
+ */
+public val Utf8PatternsClass: ClassName = ClassName(Utf8Patterns::class)
+
+/**
+ * The [ClassName] of [SizeLimits].
+ */
+public val SizeLimitsClass: ClassName = ClassName(SizeLimits::class)
+
+/**
+ * The [ClassName] of [List].
+ */
+public val ListClass: ClassName = ClassName(List::class)
+
 /**
  * The [ClassName] of [Map].
  */
@@ -129,6 +152,11 @@ public val ValidationErrorClass: ClassName = ClassName(ValidationError::class)
  */
 public val ValidatableMessageClass: ClassName = ClassName(ValidatableMessage::class)
 
+/**
+ * The [ClassName] of [ParallelValidation].
+ */
+public val ParallelValidationClass: ClassName = ClassName(ParallelValidation::class)
+
 /**
  * The [ClassName] of [AnyPacker].
  */
@@ -192,3 +220,28 @@ public val SpineTime: ClassName = ClassName(Time::class)
  * a string literal here.
  */
 public val JsonExtensionsClass: ClassName = ClassName("io.spine.type", "Json")
+
+/**
+ * The [ClassName] of [FieldAwareMessage].
+ */
+public val FieldAwareMessageClass: ClassName = ClassName(FieldAwareMessage::class)
+
+/**
+ * The [ClassName] of [ValidatorRegistry].
+ */
+public val ValidatorRegistryClass: ClassName = ClassName(ValidatorRegistry::class)
+
+/**
+ * The [ClassName] of [ConstraintProfiler].
+ */
+public val ConstraintProfilerClass: ClassName = ClassName(ConstraintProfiler::class)
+
+/**
+ * The [ClassName] of [FieldSelection].
+ */
+public val FieldSelectionClass: ClassName = ClassName(FieldSelection::class)
+
+/**
+ * The [ClassName] of [ValidationProfile].
+ */
+public val ValidationProfileClass: ClassName = ClassName(ValidationProfile::class)
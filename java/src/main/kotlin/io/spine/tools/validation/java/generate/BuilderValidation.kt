@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.generate
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import com.intellij.psi.PsiMethodCallExpression
+import com.intellij.psi.util.PsiTreeUtil
+import io.spine.string.joinByLines
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.isMap
+import io.spine.tools.compiler.jvm.CodeBlock
+import io.spine.tools.compiler.jvm.MethodDeclaration
+import io.spine.tools.compiler.jvm.javaCase
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import io.spine.tools.psi.java.annotate
+import io.spine.tools.validation.java.expression.FieldPathClass
+import io.spine.tools.validation.java.expression.FieldSelectionClass
+import io.spine.tools.validation.java.expression.TypeNameClass
+import io.spine.tools.validation.java.expression.ValidationProfileClass
+import io.spine.tools.validation.java.generate.ValidateScope.parentName
+import io.spine.tools.validation.java.generate.ValidateScope.parentPath
+import io.spine.tools.validation.java.generate.ValidateScope.selection
+import io.spine.tools.validation.java.generate.ValidateScope.violations
+import io.spine.validation.ConstraintViolation
+
+/**
+ * Declares the `validate()` method in this builder class, overriding the default
+ * [ValidatingBuilder.validate][io.spine.validation.ValidatingBuilder.validate] method.
+ *
+ * The declared method checks the given [constraints] against the fields of the builder
+ * itself, with no message built, and keeps the violations of each constraint.
+ * On the subsequent calls, only the constraints depending on the fields changed
+ * since the previous call are checked again, and the violations of the rest are reused.
+ *
+ * The changed fields are tracked by the builder methods mutating the fields,
+ * see [trackChangedFields] for details. All the constraints are checked again if
+ * the active [ValidationProfile][io.spine.validation.ValidationProfile] changes.
+ *
+ * The validators from [ValidatorRegistry][io.spine.validation.ValidatorRegistry] are
+ * applied to the built partial message on each call, if there are any for the message type.
+ *
+ * If the [constraints] are `null`, i.e. the builder cannot check them, nothing is
+ * declared, and the builder relies on the default method validating the built
+ * partial message.
+ *
+ * @param message The class of the built message.
+ * @param fields The fields of the message type.
+ * @param constraints The constraints to check paired with the fields they depend on.
+ * @param methods The supporting methods used by the [constraints].
+ */
+internal fun PsiClass.declareIncrementalValidateMethod(
+    message: PsiClass,
+    fields: List<Field>,
+    constraints: List<Pair<CodeBlock, List<Field>?>>?,
+    methods: List<MethodDeclaration>
+) {
+    if (constraints == null) {
+        return
+    }
+    trackChangedFields(fields)
+    val constraintViolation = ConstraintViolation::class.java.canonicalName
+    val violationLists = "java.util.List<java.util.List<$constraintViolation>>"
+    listOf(
+        "private java.util.BitSet $CHANGED_FIELDS;",
+        "private java.util.BitSet $SHARED_FIELDS;",
+        "private $violationLists $CONSTRAINT_VIOLATIONS;",
+        "private String $VALIDATED_PROFILE;",
+    ).forEach {
+        addLast(elementFactory.createFieldFromText(it, this))
+    }
+    methods.forEach {
+        addLast(elementFactory.createMethodFromText(it.toString(), this))
+    }
+    val checks = constraints.mapIndexed { index, (code, dependsOn) ->
+        val condition = dependsOn?.let { dependencies ->
+            val anyChanged = dependencies.map { "changed.get(${it.number})" }
+            (listOf("changed == null") + anyChanged).joinToString(" || ")
+        } ?: "true"
+        """
+        if ($condition) {
+            var $violations = new java.util.ArrayList<$constraintViolation>();
+            $code
+            $CONSTRAINT_VIOLATIONS.set($index, $violations);
+        }
+        """.trimIndent()
+    }.joinByLines()
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        public java.util.List<$constraintViolation> validate() {
+            var $ACTIVE_PROFILE = $ValidationProfileClass.active();
+            java.util.BitSet changed = null;
+            if ($CONSTRAINT_VIOLATIONS != null && java.util.Objects.equals($ACTIVE_PROFILE, $VALIDATED_PROFILE)) {
+                changed = $CHANGED_FIELDS;
+                if ($SHARED_FIELDS != null) {
+                    changed.or($SHARED_FIELDS);
+                }
+            } else {
+                $CONSTRAINT_VIOLATIONS = new java.util.ArrayList<>(java.util.Collections.nCopies(${constraints.size}, java.util.List.of()));
+            }
+            $CHANGED_FIELDS = new java.util.BitSet();
+            $VALIDATED_PROFILE = $ACTIVE_PROFILE;
+            var $parentPath = $FieldPathClass.getDefaultInstance();
+            $TypeNameClass $parentName = null;
+            $FieldSelectionClass $selection = null;
+            $checks
+            var result = new java.util.ArrayList<$constraintViolation>();
+            for (var found : $CONSTRAINT_VIOLATIONS) {
+                result.addAll(found);
+            }
+            if (io.spine.validation.ValidatorRegistry.hasValidators(${message.qualifiedName}.class)) {
+                result.addAll(io.spine.validation.ValidatorRegistry.validate(buildPartial(), $parentPath, $parentName));
+            }
+            return result;
+        }
+        """.trimIndent(), this
+    )
+    psiMethod.annotate(Override::class.java)
+    addLast(psiMethod)
+}
+
+/**
+ * Makes the methods of this builder class, which mutate the fields, mark them as changed.
+ *
+ * The mutating methods are the ones calling `onChanged()`, along with `clear()`,
+ * `mergeFrom()` and the methods giving away the mutable storage of `map` fields.
+ * The fields are told by the names of the methods, e.g., `setName()` or `addAllItems()`.
+ * The methods, the names of which do not refer to a field, e.g., `clear()` or
+ * `clearKind()` for a `oneof`, mark all the fields as changed.
+ *
+ * The methods giving away the nested builders or the mutable maps, e.g., `getNameBuilder()`
+ * or `getMutableAttributes()`, mark their fields as shared. The builder cannot tell when
+ * the given away objects are changed, so the shared fields are considered changed
+ * on each validation.
+ */
+private fun PsiClass.trackChangedFields(fields: List<Field>) {
+    val mutators = mutatorNames(fields)
+    val shared = sharedNames(fields)
+    val mapFields = fields.filter { it.type.isMap }
+    methods.filter { it.body != null && !it.isConstructor }
+        .forEach { method ->
+            val name = method.name
+            val marks = when {
+                name.startsWith(MAP_FIELD_REFLECTION) -> mapFields.map { markShared(it) }
+                name in shared -> shared[name]!!.map { markShared(it) }
+                !method.mutates() -> return@forEach
+                name in mutators -> mutators[name]!!.map { markChanged(it) }
+                else -> listOf("$MARK_ALL_CHANGED();")
+            }
+            val body = method.body!!
+            marks.forEach {
+                val statement = elementFactory.createStatementFromText(it, null)
+                body.addAfter(statement, body.lBrace)
+            }
+        }
+    listOf(
+        """
+        private void $MARK_CHANGED(int number) {
+            if ($CHANGED_FIELDS != null) {
+                $CHANGED_FIELDS.set(number);
+            }
+        }
+        """,
+        """
+        private void $MARK_ALL_CHANGED() {
+            $CONSTRAINT_VIOLATIONS = null;
+        }
+        """,
+        """
+        private void $MARK_SHARED(int number) {
+            if ($SHARED_FIELDS == null) {
+                $SHARED_FIELDS = new java.util.BitSet();
+            }
+            $SHARED_FIELDS.set(number);
+        }
+        """
+    ).forEach {
+        addLast(elementFactory.createMethodFromText(it.trimIndent(), this))
+    }
+}
+
+/**
+ * Tells if this builder method mutates the fields.
+ */
+private fun PsiMethod.mutates(): Boolean {
+    if (name == "clear" || name == "mergeFrom" || name.startsWith("internalGetMutable")) {
+        return true
+    }
+    val calls = PsiTreeUtil.findChildrenOfType(body, PsiMethodCallExpression::class.java)
+    return calls.any {
+        val method = it.methodExpression
+        method.referenceName == "onChanged" && method.qualifierExpression == null
+    }
+}
+
+private fun markChanged(field: Field) = "$MARK_CHANGED(${field.number});"
+
+private fun markShared(field: Field) = "$MARK_SHARED(${field.number});"
+
+/**
+ * The prefixes of the names of the builder methods mutating a field.
+ */
+private val mutatorPrefixes = listOf(
+    "set", "clear", "add", "addAll", "merge", "put", "putAll", "remove",
+    "internalGetMutable"
+)
+
+/**
+ * The suffixes of the names of the builder methods mutating a field.
+ */
+private val mutatorSuffixes = listOf("", "Value", "Bytes")
+
+/**
+ * Returns the names of the builder methods mutating the given [fields]
+ * mapped to the fields.
+ *
+ * Several fields can be mutated by the methods of the same name, e.g., `setName()`
+ * and `setNameValue()` for an enum field `name` and a field `name_value`.
+ * Such methods mark all of them.
+ */
+private fun mutatorNames(fields: List<Field>): Map<String, List<Field>> =
+    fields.flatMap { field ->
+        val camelName = field.name.javaCase().camelCase()
+        mutatorPrefixes.flatMap { prefix ->
+            mutatorSuffixes.map { suffix -> "$prefix$camelName$suffix" to field }
+        }
+    }.groupBy({ it.first }, { it.second })
+
+/**
+ * Returns the names of the builder methods giving away the nested builders and
+ * the mutable maps of the given [fields] mapped to the fields.
+ */
+private fun sharedNames(fields: List<Field>): Map<String, List<Field>> =
+    fields.flatMap { field ->
+        val camelName = field.name.javaCase().camelCase()
+        listOf(
+            "get${camelName}Builder",
+            "add${camelName}Builder",
+            "get${camelName}BuilderList",
+            "getMutable$camelName",
+        ).map { it to field }
+    }.groupBy({ it.first }, { it.second })
+
+/**
+ * The prefix of the names of the builder methods giving away the mutable storage
+ * of `map` fields by the field number.
+ */
+private const val MAP_FIELD_REFLECTION = "internalGetMutableMapField"
+
+/**
+ * The name of the builder field holding the numbers of the fields changed since
+ * the previous validation.
+ *
+ * Unlike the fields generated by `protoc`, the names of the declared builder fields
+ * have no trailing underscore, so they cannot clash with them.
+ */
+private const val CHANGED_FIELDS = "changedFields"
+
+/**
+ * The name of the builder field holding the numbers of the fields, the mutable
+ * nested builders or maps of which were given away.
+ */
+private const val SHARED_FIELDS = "sharedFields"
+
+/**
+ * The name of the builder field holding the violations found by the previous
+ * validation, one list per constraint.
+ */
+private const val CONSTRAINT_VIOLATIONS = "constraintViolations"
+
+/**
+ * The name of the builder field holding the validation profile active
+ * during the previous validation.
+ */
+private const val VALIDATED_PROFILE = "validatedProfile"
+
+private const val MARK_CHANGED = "markChanged"
+
+private const val MARK_ALL_CHANGED = "markAllChanged"
+
+private const val MARK_SHARED = "markShared"
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.tools.validation.java.generate
+
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.TypeName
+import io.spine.tools.compiler.ast.isAny
+import io.spine.tools.compiler.ast.isList
+import io.spine.tools.compiler.ast.isMap
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.validation.ValidateField
+
+/**
+ * Message types of the current compilation, which have no constraints
+ * either directly or transitively.
+ *
+ * A type is constraint-free if it does not have constraints of its own, and all of
+ * its fields marked with `(validate) = true` refer to constraint-free types.
+ *
+ * The types declared outside the current compilation, as well as [com.google.protobuf.Any],
+ * are never considered constraint-free because their constraints are unknown
+ * to the current compilation.
+ *
+ * Note that custom validators registered in [io.spine.validation.ValidatorRegistry]
+ * at runtime are not taken into account.
+ *
+ * @param types All message types of the current compilation.
+ * @param constrained The types having constraints of their own.
+ * @param validateFields All `(validate)` fields of the current compilation.
+ */
+internal class ConstraintFreeTypes(
+    types: Set<TypeName>,
+    constrained: Set<TypeName>,
+    validateFields: Collection<ValidateField>
+) {
+
+    private val free: Set<TypeName>
+
+    /**
+     * Maps a type to the types of messages validated in its `(validate)` fields.
+     */
+    private val nested: Map<TypeName, List<TypeName?>>
+
+    init {
+        nested = validateFields.groupBy(
+            { it.id.type },
+            { it.subject.validatedType() }
+        )
+        val withConstraints = constrained.toMutableSet()
+        var changed = true
+        while (changed) {
+            changed = false
+            for (type in types) {
+                if (type in withConstraints) {
+                    continue
+                }
+                val targets = nested[type].orEmpty()
+                if (targets.any { it == null || it !in types || it in withConstraints }) {
+                    withConstraints.add(type)
+                    changed = true
+                }
+            }
+        }
+        free = types - withConstraints
+    }
+
+    /**
+     * Tells if the given [type] is constraint-free.
+     */
+    operator fun contains(type: TypeName): Boolean = type in free
+
+    /**
+     * Obtains the given constraint-free [type] along with all the types validated
+     * within it transitively.
+     *
+     * Messages of the given [type] may be reported invalid only by validators
+     * registered at runtime for one of these types.
+     */
+    fun closureOf(type: TypeName): Set<TypeName> {
+        require(type in free) {
+            "The type `${type.qualifiedName}` is not constraint-free."
+        }
+        val result = linkedSetOf(type)
+        val queue = ArrayDeque(listOf(type))
+        while (queue.isNotEmpty()) {
+            nested[queue.removeFirst()].orEmpty()
+                .filterNotNull()
+                .filter { result.add(it) }
+                .forEach(queue::addLast)
+        }
+        return result
+    }
+}
+
+/**
+ * Obtains the type of the messages validated within this `(validate)` field.
+ *
+ * Returns `null` for [com.google.protobuf.Any] fields because the type
+ * of the packed messages is not known at build time.
+ */
+internal fun Field.validatedType(): TypeName? {
+    val message = when {
+        type.isMap -> type.map.valueType.message
+        type.isList -> type.list.message
+        else -> type.message
+    }
+    return if (message.isAny) null else message
+}
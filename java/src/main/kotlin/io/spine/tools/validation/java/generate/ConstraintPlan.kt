@@ -0,0 +1,620 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.generate
+
+import io.spine.string.joinByLines
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.OneofName
+import io.spine.tools.compiler.ast.TypeName
+import io.spine.tools.compiler.ast.isPartOfOneof
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.jvm.CodeBlock
+import io.spine.tools.compiler.jvm.FieldDeclaration
+import io.spine.tools.compiler.jvm.MethodDeclaration
+import io.spine.tools.validation.java.expression.ConstraintProfilerClass
+import io.spine.tools.validation.java.expression.ValidationProfileClass
+import io.spine.tools.validation.java.generate.ConstraintCost.COLLECTION
+import io.spine.tools.validation.java.generate.ConstraintCost.COMPARISON
+import io.spine.tools.validation.java.generate.ConstraintCost.CUSTOM
+import io.spine.tools.validation.java.generate.ConstraintCost.NESTED
+import io.spine.tools.validation.java.generate.ConstraintCost.PATTERN
+import io.spine.tools.validation.java.generate.ValidateScope.selection
+import io.spine.tools.validation.java.generate.ValidateScope.violations
+import io.spine.tools.validation.java.generate.option.ChoiceGenerator
+import io.spine.tools.validation.java.generate.option.DistinctGenerator
+import io.spine.tools.validation.java.generate.option.GoesGenerator
+import io.spine.tools.validation.java.generate.option.PatternGenerator
+import io.spine.tools.validation.java.generate.option.RequireOptionGenerator
+import io.spine.tools.validation.java.generate.option.RequiredGenerator
+import io.spine.tools.validation.java.generate.option.ValidateGenerator
+import io.spine.tools.validation.java.generate.option.bound.MaxGenerator
+import io.spine.tools.validation.java.generate.option.bound.MinGenerator
+import io.spine.tools.validation.java.generate.option.bound.RangeGenerator
+import io.spine.validation.ConstraintProfile
+
+/**
+ * An intermediate representation of the validation code of a single message type.
+ *
+ * The plan is built from the code produced by the [option generators][OptionGenerator]
+ * for the message type. Before being rendered, the code is optimized as follows:
+ *
+ * 1. The supporting fields shared by several constraints, such as the compiled pattern
+ *    of the same regular expression used for several message fields, are declared once.
+ *    The generators share such fields by the inputs the fields are created from.
+ * 2. The [constraints] are checked in the order, in which they were generated, so that
+ *    the violations are always reported in the same order.
+ * 3. The [failFastConstraints], which stop at the first violation, are ordered from
+ *    the cheapest to the most expensive according to their [cost][ConstraintCost].
+ *    The constraints of the same cost keep the order, in which they were generated.
+ *    If the [profile] is not empty, these constraints are ordered by the observed
+ *    likelihood of their violation divided by their relative cost. The constraints
+ *    never violated in the profile keep the order by cost, going after the violated ones.
+ * 4. The constraints, which may only be violated by a set field of a `oneof` group,
+ *    are checked within a `switch` over the case of the group. This way, only
+ *    the constraints of the set alternative are checked. The `switch` goes
+ *    at the place of the first of such constraints of the group.
+ * 5. The constraints, for which the fields they [depend on][SingleOptionCode.dependsOn]
+ *    are known, are checked only if any of these fields is in the [selection]
+ *    passed to the `validateInto()` method, or if there is no selection.
+ * 6. The constraints of the options skipped by any of the [profiles] are checked
+ *    only if none of these profiles is [active][io.spine.validation.ValidationProfile.active].
+ *    The active profile is obtained once per validated message, and only if
+ *    the message has such constraints.
+ *
+ * The constraints of a single singular field of a primitive type, which need
+ * neither supporting methods nor other fields to be checked, are also available
+ * as [parseChecks]. Such constraints can be checked right after the field is parsed.
+ * Those of them, which cannot be violated by a field missing on the wire, are left out
+ * of [constraintsAfterParse], so that a message read with the [parseChecks] is not
+ * checked against them once again.
+ *
+ * The constraints, which are provably always satisfied, are not generated
+ * at all by the generators, so they never make it into the plan.
+ *
+ * Each constraint of the plan has an identifier in the format
+ * `<message type>/<option>/<field numbers>`, where `<field numbers>` are the numbers of
+ * the fields the constraint [depends on][SingleOptionCode.dependsOn] joined with `+`.
+ * The identifiers do not change when other fields are added or removed, so a recorded
+ * [profile] stays applicable to the changed message type. The constraints of custom
+ * options are identified by the simple name of the generator, and the constraints with
+ * unknown fields omit the numbers. Repeated identifiers get the `#<n>` suffix telling
+ * their occurrence. If [record] is `true`,
+ * each check of a constraint is reported to
+ * [ConstraintProfiler][io.spine.validation.ConstraintProfiler] under this identifier.
+ *
+ * @param type The message type to plan the validation of.
+ * @param code The code generated for the message type by each generator.
+ * @param profile The recorded profile of the constraints.
+ * @param record Whether the checks of the constraints should be recorded.
+ * @param profiles The names of the validation profiles mapped to the names of
+ *   the options, the constraints of which the profiles skip.
+ */
+internal class ConstraintPlan(
+    type: TypeName,
+    code: Map<OptionGenerator, List<SingleOptionCode>>,
+    profile: ConstraintProfile = ConstraintProfile.EMPTY,
+    record: Boolean = false,
+    profiles: Map<String, Set<String>> = emptyMap()
+) {
+
+    /**
+     * The constraints to check in the order of their evaluation.
+     */
+    val constraints: List<CodeBlock>
+
+    /**
+     * The constraints to check when looking for the first violation, in the order
+     * of their evaluation.
+     *
+     * Each check is followed by returning the first found violation, if any.
+     */
+    val failFastConstraints: List<CodeBlock>
+
+    /**
+     * The supporting fields used by the [constraints] and [methods].
+     */
+    val fields: List<FieldDeclaration<*>>
+
+    /**
+     * The supporting methods used by the [constraints].
+     */
+    val methods: List<MethodDeclaration>
+
+    /**
+     * The constraints, which can be checked right after their field is parsed,
+     * grouped by the field.
+     *
+     * The constraints skipped by any of the [profiles] are not included.
+     */
+    val parseChecks: Map<Field, List<CodeBlock>>
+
+    /**
+     * The constraints to check once a message is read by the builder running
+     * the [parseChecks], in the order of their evaluation.
+     *
+     * Unlike [constraints], these do not include the [parseChecks], which
+     * can be violated only by a set field. Such a field is checked as it is read,
+     * and a field missing on the wire cannot violate them.
+     */
+    val constraintsAfterParse: List<CodeBlock>
+
+    /**
+     * The constraints, which the builder of the message can check against its own fields,
+     * each paired with the fields it depends on, in the order of their evaluation.
+     *
+     * Unlike [constraints], these are neither grouped by `oneof` nor wrapped into
+     * the checks of the selected fields, so that the builder could tell apart
+     * the violations of each constraint. The constraints skipped by any of the [profiles]
+     * expect the [ACTIVE_PROFILE] variable to be declared.
+     *
+     * `null` if some constraints are produced by custom generators, the code of which
+     * may refer to the members of the message class missing in the builder.
+     */
+    val builderConstraints: List<Pair<CodeBlock, List<Field>?>>?
+
+    init {
+        val ids = ConstraintIds(type)
+        val planned = code.flatMap { (generator, generated) ->
+            val cost = costOf(generator)
+            val skippedBy = skippingProfiles(generator, profiles)
+            generated.map { option ->
+                val id = ids.next(generator, option)
+                val onParse = checkedOnParse(generator, option) && skippedBy.isEmpty()
+                val builtIn = optionOf(generator) != null
+                PlannedConstraint(id, cost, option, skippedBy, onParse, builtIn)
+            }
+        }
+        val options = planned.map { it.code }
+        fields = options.flatMap { it.fields }.distinct()
+        val codes = planned.map {
+            val constraint = it.code.constraint
+            val recorded = if (record) recording(it.id, constraint) else constraint
+            unlessSkipped(recorded, it.skippedBy)
+        }
+        val withCode = planned.zip(codes)
+        constraints = checksOf(withCode)
+        constraintsAfterParse = checksOf(withCode.filterNot { (it, _) -> it.replacedByParseCheck })
+        val byCost = withCode
+            .sortedBy { (it, _) -> it.cost }
+            .sortedByDescending { (it, _) -> profile.violationRate(it.id) / (it.cost.ordinal + 1) }
+        failFastConstraints = checksOf(byCost, stopAtFirst = true)
+        methods = options.flatMap { it.methods }
+        parseChecks = planned.filter { it.onParse }
+            .groupBy({ it.code.dependsOn!!.single() }, { it.code.constraint })
+        builderConstraints = if (planned.all { it.builtIn }) {
+            withCode.map { (constraint, code) -> code to constraint.code.dependsOn }
+        } else {
+            null
+        }
+    }
+}
+
+/**
+ * Renders the given [planned] constraints paired with their code into the checks
+ * of the `validateInto()` method.
+ *
+ * The checks of the constraints are wrapped into the checks of the selected fields, and
+ * grouped by the `oneof` alternatives. If any of the constraints is skipped by a profile,
+ * the checks start with the declaration of the [ACTIVE_PROFILE] variable.
+ *
+ * If [stopAtFirst] is `true`, each check is followed by [returning][returningFirstViolation]
+ * the first found violation.
+ */
+private fun checksOf(
+    planned: List<Pair<PlannedConstraint, CodeBlock>>,
+    stopAtFirst: Boolean = false
+): List<CodeBlock> {
+    val rendered = planned.map { (constraint, code) ->
+        val option = constraint.code
+        selected(code, option.dependsOn) to option.violatedOnlyIfSet?.takeIf(Field::isOneofAlternative)
+    }
+    val grouped = switchOverOneofs(rendered)
+    val checks = if (stopAtFirst) grouped.map(::returningFirstViolation) else grouped
+    return if (planned.any { (constraint, _) -> constraint.skippedBy.isNotEmpty() }) {
+        listOf(activeProfileDeclaration()) + checks
+    } else {
+        checks
+    }
+}
+
+/**
+ * Appends returning the first of the found [violations], if any, to the given [check].
+ *
+ * The returned code is to be placed into a method returning
+ * `Optional<ConstraintViolation>`.
+ */
+private fun returningFirstViolation(check: CodeBlock) = CodeBlock(
+    """
+    $check
+    if (!$violations.isEmpty()) {
+        return java.util.Optional.of($violations.get(0));
+    }
+    """.trimIndent()
+)
+
+/**
+ * Groups the constraints, which may be violated only by the given fields of `oneof` groups,
+ * into `switch` statements over the case of their groups.
+ *
+ * The constraints related to no `oneof` field stay in place.
+ *
+ * @param constraints The constraints paired with the alternatives of `oneof` groups,
+ *   which may violate the constraints only when set.
+ */
+private fun switchOverOneofs(constraints: List<Pair<CodeBlock, Field?>>): List<CodeBlock> {
+    val alternatives = mutableMapOf<OneofName, MutableMap<Int, MutableList<CodeBlock>>>()
+    val result = mutableListOf<() -> CodeBlock>()
+    constraints.forEach { (code, field) ->
+        if (field == null) {
+            result.add { code }
+            return@forEach
+        }
+        val group = field.oneofName
+        val cases = alternatives.getOrPut(group) {
+            val created = mutableMapOf<Int, MutableList<CodeBlock>>()
+            result.add { switchOver(group, created) }
+            created
+        }
+        cases.getOrPut(field.number) { mutableListOf() }
+            .add(code)
+    }
+    return result.map { it() }
+}
+
+/**
+ * Creates a `switch` statement checking the constraints of the set alternative
+ * of the given `oneof` [group].
+ *
+ * @param cases The constraints of the group alternatives mapped by the field numbers.
+ */
+private fun switchOver(group: OneofName, cases: Map<Int, List<CodeBlock>>): CodeBlock {
+    val branches = cases.entries.map { (number, code) ->
+        """
+        case $number -> {
+            ${code.joinByLines()}
+        }
+        """.trimIndent()
+    }.joinByLines()
+    return CodeBlock(
+        """
+        switch (${group.caseField}) {
+            $branches
+        }
+        """.trimIndent()
+    )
+}
+
+/**
+ * Tells whether this field is an alternative of a `oneof` group, which is
+ * declared in the Protobuf definition.
+ *
+ * The synthetic groups of the `optional` fields in `proto3` are named after
+ * their field with the leading underscore. Such groups have no case fields
+ * in the generated Java code.
+ */
+private fun Field.isOneofAlternative(): Boolean =
+    isPartOfOneof && oneofName.value != "_${name.value}"
+
+/**
+ * Wraps the given [constraint] into a check that any of the fields, which
+ * the constraint depends on, is in the [selection].
+ *
+ * If the fields are not known, the [constraint] is returned as is.
+ */
+internal fun selected(constraint: CodeBlock, dependsOn: List<Field>?): CodeBlock {
+    if (dependsOn.isNullOrEmpty()) {
+        return constraint
+    }
+    val anySelected = dependsOn.joinToString(" || ") { "$selection.includes(${it.number})" }
+    return CodeBlock(
+        """
+        if ($selection == null || $anySelected) {
+            $constraint
+        }
+        """.trimIndent()
+    )
+}
+
+/**
+ * The name of the local variable holding the name of the active validation profile.
+ */
+internal const val ACTIVE_PROFILE = "activeProfile"
+
+/**
+ * Declares the [ACTIVE_PROFILE] variable.
+ */
+private fun activeProfileDeclaration() = CodeBlock(
+    "var $ACTIVE_PROFILE = $ValidationProfileClass.active();"
+)
+
+/**
+ * Wraps the given [constraint] into a check that none of the given [profiles]
+ * is active.
+ *
+ * If there are no such profiles, the [constraint] is returned as is.
+ */
+private fun unlessSkipped(constraint: CodeBlock, profiles: List<String>): CodeBlock {
+    if (profiles.isEmpty()) {
+        return constraint
+    }
+    val notActive = profiles.joinToString(" && ") { "!\"$it\".equals($ACTIVE_PROFILE)" }
+    return CodeBlock(
+        """
+        if ($notActive) {
+            $constraint
+        }
+        """.trimIndent()
+    )
+}
+
+/**
+ * The names of the options, the constraints of which can be skipped by
+ * the validation profiles.
+ */
+private val skippableOptions = setOf(
+    "required", "pattern", "goes", "distinct", "validate",
+    "range", "max", "min", "choice", "require"
+)
+
+/**
+ * Matches the allowed names of the validation profiles.
+ *
+ * The names are rendered into Java string literals, so they may not contain
+ * the characters, which need escaping.
+ */
+private val PROFILE_NAME = Regex("[A-Za-z0-9_.-]+")
+
+/**
+ * Checks that the given [profiles] have valid names and skip only
+ * the [known options][skippableOptions].
+ *
+ * @throws IllegalStateException if a profile name or an option name is invalid.
+ */
+internal fun checkValidationProfiles(profiles: Map<String, Set<String>>) {
+    profiles.forEach { (name, options) ->
+        check(PROFILE_NAME.matches(name)) {
+            "The validation profile name `$name` is invalid." +
+                    " Please use only letters, digits, `_`, `.`, and `-`."
+        }
+        val unknown = options - skippableOptions
+        check(unknown.isEmpty()) {
+            "The validation profile `$name` skips unknown options: ${unknown.sorted()}." +
+                    " Only the built-in options can be skipped: ${skippableOptions.sorted()}."
+        }
+    }
+}
+
+/**
+ * Returns the names of the [profiles] skipping the option of the given [generator].
+ *
+ * The constraints of the generators of custom options are never skipped.
+ */
+private fun skippingProfiles(
+    generator: OptionGenerator,
+    profiles: Map<String, Set<String>>
+): List<String> {
+    val option = optionOf(generator) ?: return emptyList()
+    return profiles.filterValues { option in it }
+        .keys
+        .sorted()
+}
+
+/**
+ * Tells whether the given [code] of the [generator] can be checked right after
+ * the field it depends on is parsed.
+ *
+ * Only the built-in constraints of a single singular field of a primitive type
+ * are checked this way. The code of such constraints reads no other fields and
+ * uses no supporting methods, but may use static supporting fields.
+ */
+private fun checkedOnParse(generator: OptionGenerator, code: SingleOptionCode): Boolean {
+    val scalarGenerator = generator is PatternGenerator
+            || generator is RangeGenerator
+            || generator is MinGenerator
+            || generator is MaxGenerator
+    val field = code.dependsOn?.singleOrNull()
+    return scalarGenerator
+            && code.methods.isEmpty()
+            && field != null
+            && field.type.isPrimitive
+}
+
+/**
+ * Returns the constraints declared in a message type, which can be inlined into
+ * the validation code of the messages having a field of the type, or `null` if
+ * the constraints cannot be inlined.
+ *
+ * The constraints can be inlined only if they are produced by the built-in generators,
+ * the code of which reads the fields via their public getters, and needs no supporting
+ * fields or methods, which are private to the message class. The options skipped by
+ * any of the [profiles] are never inlined, so that the profiles are honored
+ * by the message class itself.
+ *
+ * @param code The code generated for the message type by each generator
+ *   except [ValidateGenerator].
+ * @param profiles The names of the validation profiles mapped to the names of
+ *   the options, the constraints of which the profiles skip.
+ */
+internal fun inlinableConstraints(
+    code: Map<OptionGenerator, List<SingleOptionCode>>,
+    profiles: Map<String, Set<String>>
+): List<SingleOptionCode>? {
+    val skipped = profiles.values.flatten().toSet()
+    val declared = code.filterValues { it.isNotEmpty() }
+    val inlinable = declared.all { (generator, generated) ->
+        val readsGetters = generator is RequiredGenerator
+                || generator is GoesGenerator
+                || generator is RangeGenerator
+                || generator is MinGenerator
+                || generator is MaxGenerator
+        readsGetters
+                && optionOf(generator) !in skipped
+                && generated.all { it.fields.isEmpty() && it.methods.isEmpty() }
+    }
+    return if (inlinable) declared.values.flatten() else null
+}
+
+/**
+ * A constraint of a [ConstraintPlan].
+ *
+ * @property id The identifier of the constraint.
+ * @property cost The cost of checking the constraint.
+ * @property code The code of the constraint.
+ * @property skippedBy The names of the validation profiles skipping the constraint.
+ * @property onParse Whether the constraint can be checked right after its field is parsed.
+ * @property builtIn Whether the constraint is produced by a built-in generator.
+ */
+private class PlannedConstraint(
+    val id: String,
+    val cost: ConstraintCost,
+    val code: SingleOptionCode,
+    val skippedBy: List<String>,
+    val onParse: Boolean,
+    val builtIn: Boolean
+) {
+
+    /**
+     * Tells whether the check of the constraint on parse makes its check of
+     * the read message needless.
+     *
+     * This is the case for the constraints, which can be violated only by a set field.
+     * Such a field is checked as it is read, and a field missing on the wire holds
+     * the default value satisfying the constraint.
+     */
+    val replacedByParseCheck: Boolean
+        get() = onParse && code.violatedOnlyIfSet != null
+}
+
+/**
+ * Wraps the given [constraint] into the code reporting its checks to
+ * [ConstraintProfiler][io.spine.validation.ConstraintProfiler].
+ *
+ * The check is considered violated if the [constraint] adds
+ * any [violations] to the list.
+ */
+private fun recording(id: String, constraint: CodeBlock) = CodeBlock(
+    """
+    {
+        var violationsBefore = $violations.size();
+        $constraint
+        $ConstraintProfilerClass.record("$id", $violations.size() > violationsBefore);
+    }
+    """.trimIndent()
+)
+
+/**
+ * The relative cost of checking a constraint at runtime.
+ *
+ * The entries are declared from the cheapest to the most expensive one.
+ */
+internal enum class ConstraintCost {
+
+    /**
+     * Comparisons of field values with constants or other fields.
+     */
+    COMPARISON,
+
+    /**
+     * Matching a string against a regular expression.
+     */
+    PATTERN,
+
+    /**
+     * Going through all elements of a collection.
+     */
+    COLLECTION,
+
+    /**
+     * Validation of nested messages.
+     */
+    NESTED,
+
+    /**
+     * Constraints of custom options, the cost of which is unknown.
+     */
+    CUSTOM
+}
+
+/**
+ * Returns the cost of checking the constraints produced by the given [generator].
+ */
+private fun costOf(generator: OptionGenerator): ConstraintCost = when (generator) {
+    is RequiredGenerator,
+    is GoesGenerator,
+    is ChoiceGenerator,
+    is RequireOptionGenerator,
+    is RangeGenerator,
+    is MinGenerator,
+    is MaxGenerator -> COMPARISON
+    is PatternGenerator -> PATTERN
+    is DistinctGenerator -> COLLECTION
+    is ValidateGenerator -> NESTED
+    else -> CUSTOM
+}
+
+/**
+ * Returns the name of the option, the constraints of which are produced by
+ * the given [generator], or `null` for the generators of custom options.
+ */
+private fun optionOf(generator: OptionGenerator): String? = when (generator) {
+    is RequiredGenerator -> "required"
+    is PatternGenerator -> "pattern"
+    is GoesGenerator -> "goes"
+    is DistinctGenerator -> "distinct"
+    is ValidateGenerator -> "validate"
+    is RangeGenerator -> "range"
+    is MaxGenerator -> "max"
+    is MinGenerator -> "min"
+    is ChoiceGenerator -> "choice"
+    is RequireOptionGenerator -> "require"
+    else -> null
+}
+
+/**
+ * Assigns the identifiers to the constraints of the given [type].
+ */
+private class ConstraintIds(private val type: TypeName) {
+
+    private val occurrences = mutableMapOf<String, Int>()
+
+    /**
+     * Returns the identifier of the next [constraint] produced by the [generator].
+     */
+    fun next(generator: OptionGenerator, constraint: SingleOptionCode): String {
+        val option = optionOf(generator) ?: generator.simpleName
+        val fields = constraint.dependsOn?.joinToString("+") { "${it.number}" }
+        val id = listOfNotNull(type.qualifiedName, option, fields).joinToString("/")
+        val occurrence = occurrences.merge(id, 1) { count, one -> count + one }!! - 1
+        return if (occurrence == 0) id else "$id#$occurrence"
+    }
+}
+
+/**
+ * The name of this generator used in the identifiers of constraints.
+ */
+private val OptionGenerator.simpleName: String
+    get() = javaClass.simpleName.ifEmpty { javaClass.name }
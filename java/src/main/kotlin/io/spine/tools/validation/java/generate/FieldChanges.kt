@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.generate
+
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.isList
+import io.spine.tools.compiler.ast.isMap
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.jvm.MethodDeclaration
+import io.spine.tools.compiler.jvm.field
+import io.spine.tools.compiler.jvm.javaCase
+import io.spine.tools.validation.java.expression.ValidatableMessageClass
+import io.spine.tools.validation.java.generate.MessageScope.message
+
+/**
+ * Generates the `fieldsChangedSince()` method of
+ * [ValidatableMessage][io.spine.validation.ValidatableMessage] for the given [type].
+ *
+ * The generated method compares the field values of the message with the ones of
+ * the previous message. Primitive values are compared by value, and all other
+ * values are compared by reference. The messages built by the same builder share
+ * the values of the fields, which were not changed between the builds. So, the cheap
+ * comparison is enough to tell the changed fields.
+ *
+ * The `repeated` and `map` fields are compared via their storage in the message class,
+ * as some of their getters return new views on each call. The fields, the getters
+ * of which are renamed by `protoc`, are always reported as changed.
+ *
+ * @param type The message type to generate the method for.
+ * @param messageClass The Java class of the message type.
+ */
+internal class FieldChanges(
+    private val type: MessageType,
+    private val messageClass: ClassName
+) {
+
+    /**
+     * Returns the declaration of the method.
+     */
+    fun method(): MethodDeclaration {
+        val checks = type.fieldList.joinToString("\n") { field ->
+            val changed = field.changedCondition()
+            "if ($changed) { changed.set(${field.number}); }"
+        }
+        return MethodDeclaration(
+            """
+            @java.lang.Override
+            public java.util.BitSet fieldsChangedSince($ValidatableMessageClass previous) {
+                if (!(previous instanceof $messageClass other)) {
+                    return null;
+                }
+                var changed = new java.util.BitSet();
+                $checks
+                return changed;
+            }
+            """.trimIndent()
+        )
+    }
+}
+
+/**
+ * Returns a boolean expression telling if the value of this field in
+ * the `other` message differs from the one in this message.
+ */
+private fun Field.changedCondition(): String = when {
+    accessorsRenamed() -> "true"
+    type.isList || type.isMap -> {
+        val storage = "${name.javaCase()}_"
+        "$storage != other.$storage"
+    }
+    else -> {
+        val getter = message.field(this).getter<Any>()
+        "$getter != other.$getter"
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.tools.validation.java.generate
+
+import com.google.protobuf.Descriptors.FieldDescriptor
+import io.spine.string.camelCase
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_BOOL
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_DOUBLE
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FIXED32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FIXED64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FLOAT
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_INT32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_INT64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_SFIXED32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_SFIXED64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_SINT32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_SINT64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_UINT32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_UINT64
+import io.spine.tools.compiler.ast.isList
+import io.spine.tools.compiler.ast.isMap
+import io.spine.tools.compiler.jvm.MethodDeclaration
+import io.spine.tools.compiler.jvm.field
+import io.spine.tools.compiler.jvm.javaCase
+import io.spine.tools.validation.java.expression.FieldAwareMessageClass
+import io.spine.tools.validation.java.generate.MessageScope.message
+
+/**
+ * Generates the [io.spine.validation.FieldAwareMessage] methods for the given [type].
+ *
+ * The generated `readValue(int)` method switches over the field numbers and calls
+ * the field getters directly. The `readValue(FieldDescriptor)` method delegates to it
+ * for the fields of the [type]. The extensions of the [type] have the same containing type,
+ * but no getters, so they are read via reflection.
+ *
+ * The primitive-specialized methods, such as `readInt(int)`, are generated only
+ * if the message has singular fields of the corresponding types.
+ *
+ * Enum and map fields are not covered by the generated switches. Their getters return
+ * values, which differ from the ones returned by `Message.getField()`. Such fields,
+ * as well as the fields whose getters are renamed by `protoc`, are read
+ * via the default implementations of the interface.
+ */
+internal class FieldReaders(private val type: MessageType) {
+
+    private val fields = type.fieldList.filter { it.isReadable() }
+
+    /**
+     * Returns the declarations of the reader methods.
+     */
+    fun methods(): List<MethodDeclaration> {
+        val typed = TypedReader.entries.mapNotNull { typedReader(it) }
+        return listOf(readByDescriptor(), readByNumber()) + typed
+    }
+
+    private fun readByDescriptor() = MethodDeclaration(
+        """
+        @java.lang.Override
+        public java.lang.Object readValue($fieldDescriptor field) {
+            if (field.isExtension() || field.getContainingType() != getDescriptorForType()) {
+                return getField(field);
+            }
+            return readValue(field.getNumber());
+        }
+        """.trimIndent()
+    )
+
+    private fun readByNumber(): MethodDeclaration {
+        val cases = fields.joinToString("\n") { "case ${it.number}: return ${it.getter()};" }
+        return MethodDeclaration(
+            """
+            @java.lang.Override
+            public java.lang.Object readValue(int number) {
+                switch (number) {
+                    $cases
+                    default: return getField($FieldAwareMessageClass.field(this, number));
+                }
+            }
+            """.trimIndent()
+        )
+    }
+
+    private fun typedReader(reader: TypedReader): MethodDeclaration? {
+        val matching = fields.filter {
+            it.type.isPrimitive && it.type.primitive in reader.primitives
+        }
+        if (matching.isEmpty()) {
+            return null
+        }
+        val cases = matching.joinToString("\n") { "case ${it.number}: return ${it.getter()};" }
+        val method = reader.method
+        return MethodDeclaration(
+            """
+            @java.lang.Override
+            public ${reader.javaType} $method(int number) {
+                switch (number) {
+                    $cases
+                    default: return $FieldAwareMessageClass.super.$method(number);
+                }
+            }
+            """.trimIndent()
+        )
+    }
+}
+
+/**
+ * The primitive-specialized reader methods of [io.spine.validation.FieldAwareMessage].
+ */
+private enum class TypedReader(
+    val method: String,
+    val javaType: String,
+    val primitives: Set<PrimitiveType>
+) {
+    INT(
+        "readInt", "int",
+        setOf(TYPE_INT32, TYPE_UINT32, TYPE_SINT32, TYPE_FIXED32, TYPE_SFIXED32)
+    ),
+    LONG(
+        "readLong", "long",
+        setOf(TYPE_INT64, TYPE_UINT64, TYPE_SINT64, TYPE_FIXED64, TYPE_SFIXED64)
+    ),
+    FLOAT("readFloat", "float", setOf(TYPE_FLOAT)),
+    DOUBLE("readDouble", "double", setOf(TYPE_DOUBLE)),
+    BOOLEAN("readBoolean", "boolean", setOf(TYPE_BOOL)),
+}
+
+private val fieldDescriptor by lazy {
+    FieldDescriptor::class.java.canonicalName
+}
+
+/**
+ * The camel-cased field names, for which `protoc` adds an underscore
+ * to the accessor names to avoid clashes with the methods of `Message`.
+ */
+private val renamedByProtoc = setOf(
+    "Class", "DefaultInstanceForType", "ParserForType", "SerializedSize", "AllFields",
+    "DescriptorForType", "InitializationErrorString", "UnknownFields", "CachedSize",
+)
+
+/**
+ * Tells if `protoc` renames the accessors of this field to avoid clashes
+ * with the methods of `Message`.
+ */
+internal fun Field.accessorsRenamed(): Boolean =
+    name.javaCase().camelCase() in renamedByProtoc
+
+/**
+ * Tells if the value of this field can be read via its getter with the same result
+ * as via `Message.getField()`.
+ */
+private fun Field.isReadable(): Boolean {
+    if (accessorsRenamed()) {
+        return false
+    }
+    return when {
+        type.isMap -> false
+        type.isList -> !type.list.hasEnumeration()
+        else -> !type.isEnum
+    }
+}
+
+private fun Field.getter(): String = "${message.field(this).getter<Any>()}"
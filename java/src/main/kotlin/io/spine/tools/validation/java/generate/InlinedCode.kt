@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.generate
+
+import com.intellij.psi.PsiMethodCallExpression
+import com.intellij.psi.PsiMethodReferenceExpression
+import com.intellij.psi.PsiReferenceExpression
+import com.intellij.psi.util.PsiTreeUtil
+import io.spine.tools.compiler.jvm.CodeBlock
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.execute
+
+/**
+ * Rebinds this code of the constraints of a message to be checked within
+ * the validation code of another message.
+ *
+ * The code of a constraint calls the methods of the validated message via
+ * the implicit `this`, e.g., `getName()`. Such calls are made on the given [receiver]
+ * instead. The references to the given [variables], such as `parentPath`, are replaced
+ * with the references to the variables they are mapped to.
+ *
+ * The code is rewritten over its PSI tree, so that the calls and references
+ * are found by their syntactic role rather than by their text.
+ *
+ * @param receiver The name of the variable holding the validated message.
+ * @param variables The names of the variables used by the code mapped to the names
+ *   of the variables to use instead.
+ */
+internal fun CodeBlock.rebound(receiver: String, variables: Map<String, String>): CodeBlock {
+    var result = ""
+    execute {
+        val block = elementFactory.createCodeBlockFromText("{\n$this\n}", null)
+        PsiTreeUtil.findChildrenOfType(block, PsiMethodCallExpression::class.java)
+            .map { it.methodExpression }
+            .filter { it.qualifierExpression == null }
+            .forEach { method ->
+                val qualified = elementFactory.createExpressionFromText(
+                    "$receiver.${method.referenceName}", null
+                )
+                method.replace(qualified)
+            }
+        PsiTreeUtil.findChildrenOfType(block, PsiReferenceExpression::class.java)
+            .filter { it !is PsiMethodReferenceExpression && it.qualifierExpression == null }
+            .filter { it.parent !is PsiMethodCallExpression }
+            .forEach { reference ->
+                val variable = variables[reference.referenceName] ?: return@forEach
+                reference.replace(elementFactory.createExpressionFromText(variable, null))
+            }
+        val text = block.text
+        result = text.substring(block.lBrace!!.textLength, text.length - block.rBrace!!.textLength)
+    }
+    return CodeBlock(result.trimIndent().trim())
+}
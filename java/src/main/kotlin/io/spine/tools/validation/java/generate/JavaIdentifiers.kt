@@ -26,6 +26,8 @@
 
 package io.spine.tools.validation.java.generate
 
+import io.spine.string.lowerCamelCase
+import io.spine.tools.compiler.ast.OneofName
 import io.spine.tools.compiler.backend.SecureRandomString
 
 /**
@@ -41,6 +43,15 @@ public fun mangled(javaIdentifier: String, length: Int = HASH_LENGTH): String {
     return "${javaIdentifier}_$hash"
 }
 
+/**
+ * The name of the field storing the number of the set field of this `oneof` group
+ * in the Protobuf-generated message class.
+ *
+ * The field holds `0` if none of the group fields is set.
+ */
+internal val OneofName.caseField: String
+    get() = "${value.lowerCamelCase()}Case_"
+
 /**
  * The default length of the generated hash.
  */
@@ -26,6 +26,7 @@
 
 package io.spine.tools.validation.java.generate
 
+import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.jvm.ClassName
 import io.spine.tools.compiler.jvm.CodeBlock
 import io.spine.tools.compiler.jvm.FieldDeclaration
@@ -36,12 +37,33 @@ import io.spine.tools.compiler.jvm.MethodDeclaration
  *
  * @property message The class name of the target message.
  * @property constraints Code blocks to be added to the `validate()` method of the message.
+ * @property failFastConstraints Code blocks to be added to the `firstViolation()` method
+ *   of the message.
  * @property fields Additional class-level fields required by the validation logic.
  * @property methods Additional class-level methods required by the validation logic.
+ * @property fieldReaders The methods implementing [io.spine.validation.FieldAwareMessage].
+ * @property fieldChanges The method telling the fields changed since the previous message.
+ * @property hasConstraints Tells if the message has constraints, either directly
+ *   or via its `(validate)` fields.
+ * @property parseChecks Code blocks checking the fields of the message right after
+ *   they are parsed by the builder, grouped by the field.
+ * @property constraintsAfterParse Code blocks checking a message read by the builder
+ *   running the [parseChecks].
+ * @property messageFields The fields of the message type.
+ * @property builderConstraints Code blocks checked by the builder against its own fields,
+ *   paired with the fields they depend on, or `null` if the builder cannot check them.
  */
 internal class MessageValidationCode(
     val message: ClassName,
     val constraints: List<CodeBlock>,
+    val failFastConstraints: List<CodeBlock>,
     val fields: List<FieldDeclaration<*>>,
     val methods: List<MethodDeclaration>,
+    val fieldReaders: List<MethodDeclaration>,
+    val fieldChanges: MethodDeclaration,
+    val hasConstraints: Boolean,
+    val parseChecks: Map<Field, List<CodeBlock>>,
+    val constraintsAfterParse: List<CodeBlock>,
+    val messageFields: List<Field>,
+    val builderConstraints: List<Pair<CodeBlock, List<Field>?>>?,
 )
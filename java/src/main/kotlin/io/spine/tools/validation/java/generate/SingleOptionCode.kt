@@ -26,6 +26,7 @@
 
 package io.spine.tools.validation.java.generate
 
+import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.jvm.CodeBlock
 import io.spine.tools.compiler.jvm.FieldDeclaration
 import io.spine.tools.compiler.jvm.MethodDeclaration
@@ -36,9 +37,19 @@ import io.spine.tools.compiler.jvm.MethodDeclaration
  * @property constraint A code block to be added to the `validate()` method of the message.
  * @property fields Additional class-level fields required by the validation logic.
  * @property methods Additional class-level methods required by the validation logic.
+ * @property violatedOnlyIfSet The field, which can violate the [constraint] only when
+ *   it is set. If the field belongs to a `oneof` group, the [constraint] is checked only
+ *   when this field is the set alternative of the group. `null` if the constraint may be
+ *   violated by an unset field, or if it does not relate to a single field.
+ * @property dependsOn The fields of the message, the values of which the [constraint]
+ *   depends on. When only some fields of a message are selected for validation,
+ *   the [constraint] is checked if any of these fields is selected. `null` if the fields
+ *   are not known, in which case the [constraint] is always checked.
  */
 public class SingleOptionCode(
     public val constraint: CodeBlock,
     public val fields: List<FieldDeclaration<*>> = emptyList(),
     public val methods: List<MethodDeclaration> = emptyList(),
+    public val violatedOnlyIfSet: Field? = null,
+    public val dependsOn: List<Field>? = null,
 )
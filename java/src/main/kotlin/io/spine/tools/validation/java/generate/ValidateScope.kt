@@ -32,6 +32,7 @@ import io.spine.tools.validation.java.generate.ValidateScope.parentName
 import io.spine.tools.validation.java.generate.ValidateScope.parentPath
 import io.spine.type.TypeName
 import io.spine.validation.ConstraintViolation
+import io.spine.validation.FieldSelection
 
 /**
  * Scope variables available within the `validate(FieldPath)` method.
@@ -60,4 +61,13 @@ public object ValidateScope {
      * The first field of the [parentPath] must be declared in this [parentName].
      */
     public val parentName: ReadVar<TypeName?> = ReadVar("parentName")
+
+    /**
+     * The fields, the constraints of which are to be checked.
+     *
+     * `null` if all the constraints are to be checked.
+     *
+     * @see io.spine.validation.FieldSelection
+     */
+    public val selection: ReadVar<FieldSelection?> = ReadVar("selection")
 }
@@ -27,8 +27,12 @@
 package io.spine.tools.validation.java.generate
 
 import com.google.protobuf.Message
+import com.intellij.psi.PsiBreakStatement
 import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiReturnStatement
+import com.intellij.psi.util.PsiTreeUtil
 import io.spine.string.joinByLines
+import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.jvm.CodeBlock
 import io.spine.tools.compiler.jvm.FieldDeclaration
 import io.spine.tools.compiler.jvm.MethodDeclaration
@@ -42,16 +46,28 @@ import io.spine.tools.psi.java.execute
 import io.spine.tools.psi.java.getFirstByText
 import io.spine.tools.psi.java.implement
 import io.spine.tools.psi.java.method
+import io.spine.tools.psi.java.methodWithSignature
 import io.spine.tools.psi.java.nested
 import io.spine.tools.validation.java.expression.FieldPathClass
+import io.spine.tools.validation.java.expression.FieldSelectionClass
+import io.spine.tools.validation.java.expression.NullableFieldSelectionClass
 import io.spine.tools.validation.java.expression.NullableTypeNameClass
 import io.spine.tools.validation.java.expression.ObjectsClass
+import io.spine.tools.validation.java.expression.TypeNameClass
+import io.spine.tools.validation.java.expression.ValidationProfileClass
 import io.spine.tools.validation.java.generate.ValidateScope.parentName
 import io.spine.tools.validation.java.generate.ValidateScope.parentPath
+import io.spine.tools.validation.java.generate.ValidateScope.selection
 import io.spine.tools.validation.java.generate.ValidateScope.violations
+import io.spine.tools.validation.java.setonce.SetOnceJavaConstraints.Companion.MergeFromBytesSignature
+import io.spine.tools.validation.java.sizelimit.caseBlock
+import io.spine.tools.validation.java.sizelimit.tag
+import io.spine.tools.validation.java.sizelimit.wireType
 import io.spine.validation.ConstraintViolation
+import io.spine.validation.FieldAwareMessage
 import io.spine.validation.NonValidated
 import io.spine.validation.ValidatableMessage
+import io.spine.validation.ValidatingParser
 import io.spine.validation.Validated
 import io.spine.validation.ValidatingBuilder
 import io.spine.validation.ValidationError
@@ -80,6 +96,37 @@ private typealias BuilderPsiClass = PsiClass
  * The message builder is modified to invoke the [ValidatableMessage.validate] just before
  * returning the result from its [build][com.google.protobuf.Message.Builder.build] method.
  * If one or more violations are detected, the builder will throw an exception.
+ *
+ * The built message is marked as known to be valid. When the builder is obtained from
+ * such a message via `toBuilder()`, the `build()` method checks only the constraints
+ * affected by the changes made to the builder.
+ *
+ * The message class also receives the static `validatingParser()` method, which returns
+ * a [ValidatingParser] checking the messages right after they are parsed.
+ * The builder is made to check the scalar fields right after each of them is read,
+ * so that the [fail-fast][ValidatingParser.failFast] parser could stop at the first
+ * invalid field. The message read this way is checked by [ValidatableMessage.validateParsed]
+ * against the rest of the constraints only.
+ *
+ * The `validateInto()` method checks the constraints, adding the violations to the passed list.
+ * The generated code calls it directly when validating the nested messages of known types.
+ *
+ * The `validate(FieldSelection)` method checks only the constraints depending on
+ * the selected fields.
+ *
+ * The [ValidatableMessage.firstViolation] method stops at the first violation,
+ * checking the cheapest constraints first.
+ *
+ * The builder checks the constraints against its own fields in [ValidatingBuilder.validate],
+ * tracking the fields changed by its methods, so that each call checks only
+ * the constraints affected by the changes made since the previous call.
+ *
+ * The static `hasConstraints()` method tells if the message type has constraints,
+ * so that callers could skip validation of constraint-free messages.
+ *
+ * Unless the message class already declares the `readValue()` method, it is made
+ * to implement [FieldAwareMessage], reading the field values by their numbers
+ * with no reflection.
  */
 internal class ValidationCodeInjector {
 
@@ -91,13 +138,28 @@ internal class ValidationCodeInjector {
         execute {
             messageClass.apply {
                 implementValidatableMessage()
-                declareValidateMethod(code.constraints)
+                declareValidateMethod()
+                declareValidateSelectedMethod()
+                declareValidateIntoMethod(code.constraints)
+                declareValidateParsedMethod(code.parseChecks, code.constraintsAfterParse)
+                declareFirstViolationMethod(code.failFastConstraints)
                 declareSupportingFields(code.fields)
                 declareSupportingMethods(code.methods)
+                declareValidatingParser()
+                declareHasConstraints(code.hasConstraints)
+                implementFieldAwareMessage(code.fieldReaders)
+                declareSupportingMethods(listOf(code.fieldChanges))
+                declareValidityMemo()
+                rememberValidOriginInToBuilder()
             }
             builderClass.apply {
                 implementValidatingBuilder(messageClass)
+                declareValidOrigin(messageClass)
                 injectValidationIntoBuildMethod()
+                declareIncrementalValidateMethod(
+                    messageClass, code.messageFields, code.builderConstraints, code.methods
+                )
+                checkFieldsOnParse(code.parseChecks)
                 annotateBuildReturnType()
                 annotateBuildPartialReturnType()
             }
@@ -130,13 +192,26 @@ private val validationError by lazy {
  * (a message field marked with `(validate) = true`), a non-empty field path and parent name should
  * be provided. In that case, the reported constraint violations will include the parent field
  * and name.
+ *
+ * The constraints are checked by the [validateInto][declareValidateIntoMethod] method,
+ * which this method delegates to.
  */
-private fun MessagePsiClass.declareValidateMethod(constraints: List<CodeBlock>) {
+private fun MessagePsiClass.declareValidateMethod() {
+    val constraintViolation = ConstraintViolation::class.java.canonicalName
     val psiMethod = elementFactory.createMethodFromText(
         """
         public java.util.Optional<$validationError> validate($FieldPathClass $parentPath, $NullableTypeNameClass $parentName) {
             $ObjectsClass.requireNonNull($parentPath);
-            ${validateMethodBody(constraints)}
+            var $violations = new java.util.ArrayList<$constraintViolation>();
+            $VALIDATE_INTO($parentPath, $parentName, $violations);
+            if (!$violations.isEmpty()) {
+                var error = $validationError.newBuilder()
+                    .addAllConstraintViolation($violations)
+                    .build();
+                return java.util.Optional.of(error);
+            } else {
+                return java.util.Optional.empty();
+            }
         }
         """.trimIndent(), this
     )
@@ -144,54 +219,177 @@ private fun MessagePsiClass.declareValidateMethod(constraints: List<CodeBlock>)
     addLast(psiMethod)
 }
 
-private fun validateMethodBody(constraints: List<CodeBlock>): String {
+/**
+ * Declares the `validate(FieldSelection)` method in this [MessagePsiClass].
+ *
+ * The method checks only the constraints depending on the selected fields,
+ * delegating to the [validateInto][declareValidateIntoMethod] method.
+ */
+private fun MessagePsiClass.declareValidateSelectedMethod() {
     val constraintViolation = ConstraintViolation::class.java.canonicalName
-
-    val violationsDecl =
-        if (constraints.isEmpty()) {
-            """
-            // No constraints declared in the message. There could be validators, though.    
-            var $violations = io.spine.validation.ValidatorRegistry.validate(this);
-            
-            """.trimIndent()
-        } else {
-            """
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        public java.util.Optional<$validationError> validate($FieldSelectionClass $selection) {
+            $ObjectsClass.requireNonNull($selection);
             var $violations = new java.util.ArrayList<$constraintViolation>();
-            
-            """.trimIndent()
+            $VALIDATE_INTO($FieldPathClass.getDefaultInstance(), null, $violations, $selection);
+            if (!$violations.isEmpty()) {
+                var error = $validationError.newBuilder()
+                    .addAllConstraintViolation($violations)
+                    .build();
+                return java.util.Optional.of(error);
+            } else {
+                return java.util.Optional.empty();
+            }
         }
+        """.trimIndent(), this
+    )
+    psiMethod.annotate(Override::class.java)
+    addLast(psiMethod)
+}
+
+/**
+ * The name of the method checking the constraints of a message and
+ * collecting the violations into the given list.
+ */
+internal const val VALIDATE_INTO = "validateInto"
+
+/**
+ * Declares the `validateInto(parentPath, parentName, violations)` method
+ * in this [MessagePsiClass] along with its overload accepting the selection of
+ * the fields to validate.
+ *
+ * The overload checks the given [constraints] and applies the validators registered
+ * in [ValidatorRegistry][io.spine.validation.ValidatorRegistry] for this message type.
+ * The detected violations are added to the passed list.
+ *
+ * Apart from the [validate][declareValidateMethod] method of the message itself,
+ * the method is called directly by the messages declaring `(validate)` fields of this
+ * message type. As the message classes are final, such calls are monomorphic and
+ * need neither an `instanceof` check nor an interface call, nor wrapping
+ * the violations into [ValidationError].
+ *
+ * The method without the selection checks all the constraints.
+ */
+private fun MessagePsiClass.declareValidateIntoMethod(constraints: List<CodeBlock>) {
+    val constraintViolation = ConstraintViolation::class.java.canonicalName
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        /**
+         * Checks the constraints of this message and adds the detected violations
+         * to the given list.
+         *
+         * <p>This method is called by the generated code, and is not intended
+         * to be called directly. Please use {@link #validate()} instead.
+         */
+        @io.spine.annotation.Internal
+        public void $VALIDATE_INTO($FieldPathClass $parentPath, $NullableTypeNameClass $parentName, java.util.List<$constraintViolation> $violations) {
+            $VALIDATE_INTO($parentPath, $parentName, $violations, null);
+        }
+        """.trimIndent(), this
+    )
+    addLast(psiMethod)
+    val selectiveMethod = elementFactory.createMethodFromText(
+        """
+        /**
+         * Checks the constraints of this message depending on the selected fields,
+         * and adds the detected violations to the given list.
+         *
+         * <p>If the selection is {@code null}, all the constraints are checked.
+         *
+         * <p>This method is called by the generated code, and is not intended
+         * to be called directly. Please use {@link #validate()} instead.
+         */
+        @io.spine.annotation.Internal
+        public void $VALIDATE_INTO($FieldPathClass $parentPath, $NullableTypeNameClass $parentName, java.util.List<$constraintViolation> $violations, $NullableFieldSelectionClass $selection) {
+            ${validateIntoMethodBody(constraints)}
+        }
+        """.trimIndent(), this
+    )
+    addLast(selectiveMethod)
+}
 
+private fun validateIntoMethodBody(constraints: List<CodeBlock>): String {
     val addingViolations =
         if (constraints.isEmpty())
-            // We validated the message already under `violationsDecl` above.
-            ""
-        else {
-            """
-            
-            ${constraints.joinByLines()}
-                
-            var thisByRegistry = io.spine.validation.ValidatorRegistry.validate(this);
-            if (!thisByRegistry.isEmpty()) {
-                $violations.addAll(thisByRegistry);
-            }
+            "// No constraints declared in the message. There could be validators, though."
+        else
+            constraints.joinByLines()
+    return """
+        $addingViolations
 
-
-            """.trimIndent()
+        var thisByRegistry = io.spine.validation.ValidatorRegistry.validate(this, $parentPath, $parentName);
+        if (!thisByRegistry.isEmpty()) {
+            $violations.addAll(thisByRegistry);
         }
+        """.trimIndent()
+}
 
-    val returnBlock =
+/**
+ * Declares the [ValidatableMessage.firstViolation] method in this [MessagePsiClass].
+ *
+ * The method checks the given [constraints] one by one, returning the first found
+ * violation. The registered validators are applied only if the [constraints]
+ * are not violated.
+ */
+private fun MessagePsiClass.declareFirstViolationMethod(constraints: List<CodeBlock>) {
+    val constraintViolation = ConstraintViolation::class.java.canonicalName
+    val psiMethod = elementFactory.createMethodFromText(
         """
-        if (!$violations.isEmpty()) {
-            var error = $validationError.newBuilder()
-                .addAllConstraintViolation($violations)
-                .build();
-            return java.util.Optional.of(error);
-        } else {
-            return java.util.Optional.empty();
+        public java.util.Optional<$constraintViolation> firstViolation() {
+            var $parentPath = $FieldPathClass.getDefaultInstance();
+            $TypeNameClass $parentName = null;
+            $FieldSelectionClass $selection = null;
+            var $violations = new java.util.ArrayList<$constraintViolation>();
+            ${constraints.joinByLines()}
+            return io.spine.validation.ValidatorRegistry.validate(this, $parentPath, $parentName)
+                .stream()
+                .findFirst();
         }
-        """.trimIndent()
+        """.trimIndent(), this
+    )
+    psiMethod.annotate(Override::class.java)
+    addLast(psiMethod)
+}
 
-    return "$violationsDecl$addingViolations$returnBlock"
+/**
+ * Declares the [ValidatableMessage.validateParsed] method in this [MessagePsiClass].
+ *
+ * The method checks the given [constraints] left to check once the message is read by
+ * the builder running the given [parseChecks], and applies the registered validators.
+ *
+ * Nothing is declared if there are no [parseChecks]. The default method checks
+ * all the constraints then, which is what is needed.
+ */
+private fun MessagePsiClass.declareValidateParsedMethod(
+    parseChecks: Map<Field, List<CodeBlock>>,
+    constraints: List<CodeBlock>
+) {
+    if (parseChecks.isEmpty()) {
+        return
+    }
+    val constraintViolation = ConstraintViolation::class.java.canonicalName
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        public java.util.Optional<$validationError> validateParsed() {
+            var $parentPath = $FieldPathClass.getDefaultInstance();
+            $TypeNameClass $parentName = null;
+            $FieldSelectionClass $selection = null;
+            var $violations = new java.util.ArrayList<$constraintViolation>();
+            ${validateIntoMethodBody(constraints)}
+            if (!$violations.isEmpty()) {
+                var error = $validationError.newBuilder()
+                    .addAllConstraintViolation($violations)
+                    .build();
+                return java.util.Optional.of(error);
+            } else {
+                return java.util.Optional.empty();
+            }
+        }
+        """.trimIndent(), this
+    )
+    psiMethod.annotate(Override::class.java)
+    addLast(psiMethod)
 }
 
 /**
@@ -210,6 +408,82 @@ private fun MessagePsiClass.declareSupportingMethods(methods: List<MethodDeclara
         addLast(elementFactory.createMethodFromText(it.toString(), this))
     }
 
+private val validatingParser by lazy {
+    ValidatingParser::class.java.canonicalName
+}
+
+/**
+ * Declares the static `validatingParser()` method in this [MessagePsiClass].
+ *
+ * The method returns a [ValidatingParser] wrapping the Protobuf-generated parser
+ * of the message. The parser instance is created once and kept in a static field.
+ */
+private fun MessagePsiClass.declareValidatingParser() {
+    val messageClass = qualifiedName!!
+    val parserType = "$validatingParser<$messageClass>"
+    val psiField = elementFactory.createFieldFromText(
+        "private static final $parserType VALIDATING_PARSER =" +
+                " $validatingParser.of(parser(), $messageClass::newBuilder);",
+        this
+    )
+    addLast(psiField)
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        /**
+         * Returns the parser which validates the messages right after parsing.
+         */
+        public static $parserType validatingParser() {
+            return VALIDATING_PARSER;
+        }
+        """.trimIndent(), this
+    )
+    addLast(psiMethod)
+}
+
+/**
+ * Declares the static `hasConstraints()` method in this [MessagePsiClass].
+ *
+ * The method is not declared if the class already has a method with this name,
+ * e.g., the `hasConstraints()` accessor of a field called `constraints`.
+ */
+private fun MessagePsiClass.declareHasConstraints(hasConstraints: Boolean) {
+    if (findMethodsByName("hasConstraints", false).isNotEmpty()) {
+        return
+    }
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        /**
+         * Tells if this message type has constraints, either directly or via
+         * the fields marked with {@code (validate) = true}.
+         *
+         * <p>The validators registered in {@link io.spine.validation.ValidatorRegistry}
+         * are not taken into account.
+         */
+        public static boolean hasConstraints() {
+            return $hasConstraints;
+        }
+        """.trimIndent(), this
+    )
+    addLast(psiMethod)
+}
+
+/**
+ * Makes this [MessagePsiClass] implement [FieldAwareMessage] interface by declaring
+ * the given [readers].
+ *
+ * The class is left intact if it already declares the `readValue()` method.
+ * For example, such a method may be generated by another Protobuf plugin.
+ */
+private fun MessagePsiClass.implementFieldAwareMessage(readers: List<MethodDeclaration>) {
+    if (findMethodsByName("readValue", false).isNotEmpty()) {
+        return
+    }
+    val qualifiedName = FieldAwareMessage::class.java.canonicalName
+    val reference = elementFactory.createInterfaceReference(qualifiedName)
+    implement(reference)
+    declareSupportingMethods(readers)
+}
+
 /**
  * Makes this [BuilderPsiClass] implement [ValidatingBuilder] interface using
  * the provided [message] class name as its type parameter.
@@ -221,12 +495,110 @@ private fun BuilderPsiClass.implementValidatingBuilder(message: PsiClass) {
     implement(reference)
 }
 
+/**
+ * The name of the message field telling if the message is known to be valid.
+ *
+ * The name follows the fields memoized by `protoc`, such as `memoizedIsInitialized`.
+ */
+private const val MEMOIZED_IS_VALID = "memoizedIsValid"
+
+/**
+ * The name of the builder field holding the valid message, from which
+ * the builder was obtained.
+ */
+private const val VALID_ORIGIN = "validOrigin"
+
+/**
+ * The name of the builder method remembering the message, from which
+ * the builder is obtained.
+ */
+private const val ORIGINATED_FROM = "originatedFrom"
+
+/**
+ * Declares the field in this [MessagePsiClass] telling if the message is known to be valid.
+ *
+ * The field is set by the builder when the built message passes validation.
+ * The messages obtained otherwise, e.g., via `buildPartial()` or parsing,
+ * are not known to be valid, even if they are.
+ *
+ * Similarly to `memoizedIsInitialized` generated by `protoc`, the field is not `volatile`.
+ * The race between setting and reading it is benign. The field is set only once,
+ * before the message is returned by `build()`, and a `boolean` is written atomically.
+ * A thread, which does not see the set value, considers the message not known
+ * to be valid, and checks all the constraints of the message again.
+ */
+private fun MessagePsiClass.declareValidityMemo() {
+    val psiField = elementFactory.createFieldFromText(
+        """
+        // Not `volatile` on purpose. A thread not seeing the set value validates again.
+        private boolean $MEMOIZED_IS_VALID;
+        """.trimIndent(),
+        this
+    )
+    addLast(psiField)
+}
+
+/**
+ * Makes the `toBuilder()` method of this [MessagePsiClass] pass the message
+ * to the created builder, so that the builder could check only the constraints
+ * affected by the changes made to the message.
+ */
+private fun MessagePsiClass.rememberValidOriginInToBuilder() = method("toBuilder")
+    .run {
+        val returnStatement = PsiTreeUtil.findChildOfType(body, PsiReturnStatement::class.java)!!
+        val builder = returnStatement.returnValue!!
+        val remembering = elementFactory.createExpressionFromText(
+            "(${builder.text}).$ORIGINATED_FROM(this)", this
+        )
+        builder.replace(remembering)
+    }
+
+/**
+ * Declares the field and the method in this [BuilderPsiClass] remembering
+ * the valid message, from which the builder was obtained.
+ *
+ * The `clear()` method of the builder forgets the message, so that the cleared
+ * builder does not hold it.
+ *
+ * @param message The class of the built message.
+ */
+private fun BuilderPsiClass.declareValidOrigin(message: MessagePsiClass) {
+    val messageClass = message.qualifiedName!!
+    val psiField = elementFactory.createFieldFromText(
+        "private $messageClass $VALID_ORIGIN;",
+        this
+    )
+    addLast(psiField)
+    val psiMethod = elementFactory.createMethodFromText(
+        """
+        private Builder $ORIGINATED_FROM($messageClass message) {
+            if (message.$MEMOIZED_IS_VALID) {
+                $VALID_ORIGIN = message;
+            }
+            return this;
+        }
+        """.trimIndent(), this
+    )
+    addLast(psiMethod)
+    val clear = method("clear").body!!
+    val forgetting = elementFactory.createStatementFromText("$VALID_ORIGIN = null;", null)
+    clear.addAfter(forgetting, clear.lBrace)
+}
+
 /**
  * Injects an invocation of [ValidatableMessage.validate] method into the end
  * of `build()` method body of this [PsiClass].
  *
  * The validation code is executed right before returning from the `build()`.
  * If one or more constraints are violated, the injected snippet will throw.
+ * Otherwise, the built message is marked as known to be valid, unless a
+ * [ValidationProfile][io.spine.validation.ValidationProfile] skipping some constraints
+ * is active.
+ *
+ * If the builder was obtained from a message known to be valid, only
+ * the constraints affected by the changes made to the builder are checked
+ * via [ValidatableMessage.validateChangesSince]. This makes updates like
+ * [copy][io.spine.validation.copy] cheap for large messages.
  */
 private fun BuilderPsiClass.injectValidationIntoBuildMethod() = method("build")
     .run {
@@ -234,16 +606,103 @@ private fun BuilderPsiClass.injectValidationIntoBuildMethod() = method("build")
         val validationException = ValidationException::class.java.canonicalName
         val runValidation = elementFactory.createCodeBlockAdapterFromText(
             """
-            java.util.Optional<$validationError> error = result.validate();
+            java.util.Optional<$validationError> error = $VALID_ORIGIN != null
+                ? result.validateChangesSince($VALID_ORIGIN)
+                : result.validate();
             if (error.isPresent()) {
                 var violations = error.get().getConstraintViolationList();
                 throw new $validationException(violations);
             }
+            result.$MEMOIZED_IS_VALID = $ValidationProfileClass.active() == null;
             """.trimIndent(), this
         )
         body!!.addBefore(runValidation, returningResult)
     }
 
+/**
+ * The name of the builder field telling if the fields are checked as they are parsed.
+ */
+private const val FIELDS_CHECKED_ON_PARSE = "fieldsCheckedOnParse"
+
+/**
+ * The name of the builder method checking the field, which has just been parsed.
+ */
+private const val CHECK_PARSED_FIELD = "checkParsedField"
+
+/**
+ * Makes this [BuilderPsiClass] check the fields with the given [checks] right after
+ * they are read by the `mergeFrom(CodedInputStream)` method.
+ *
+ * The checks are run only if [ValidatingBuilder.checkFieldsOnParse] was called.
+ * The check of a field is invoked at the end of the `case` block reading the field,
+ * the same way as the `(size_limit)` checks are injected. If the field violates
+ * a constraint, [ValidationException] is thrown, so that the rest of the input is not read.
+ *
+ * Nothing is declared if there are no [checks].
+ */
+private fun BuilderPsiClass.checkFieldsOnParse(checks: Map<Field, List<CodeBlock>>) {
+    if (checks.isEmpty()) {
+        return
+    }
+    addLast(elementFactory.createFieldFromText("private boolean $FIELDS_CHECKED_ON_PARSE;", this))
+    val enabling = elementFactory.createMethodFromText(
+        """
+        public void checkFieldsOnParse() {
+            $FIELDS_CHECKED_ON_PARSE = true;
+        }
+        """.trimIndent(), this
+    )
+    enabling.annotate(Override::class.java)
+    addLast(enabling)
+    addLast(elementFactory.createMethodFromText(checkParsedFieldMethod(checks), this))
+    val mergeFromBytes = methodWithSignature(MergeFromBytesSignature).body!!
+    checks.keys.forEach { field ->
+        val tag = tag(field.number, field.type.primitive.wireType())
+        val caseBlock = mergeFromBytes.caseBlock(tag) ?: return@forEach
+        val breakStatement = caseBlock.statements.last { it is PsiBreakStatement }
+        val check = elementFactory.createStatementFromText(
+            "if ($FIELDS_CHECKED_ON_PARSE) { $CHECK_PARSED_FIELD(${field.number}); }", null
+        )
+        caseBlock.addBefore(check, breakStatement)
+    }
+}
+
+/**
+ * Returns the text of the method running the given [checks] of a parsed field
+ * by the field number.
+ *
+ * The checks use the same scope variables as within the `validateInto()` method.
+ * As the parsed message is always the root one, the parent path is empty,
+ * and the parent type is unknown.
+ */
+private fun checkParsedFieldMethod(checks: Map<Field, List<CodeBlock>>): String {
+    val constraintViolation = ConstraintViolation::class.java.canonicalName
+    val validationException = ValidationException::class.java.canonicalName
+    val cases = checks.entries.map { (field, code) ->
+        """
+        case ${field.number} -> {
+            ${code.joinByLines()}
+        }
+        """.trimIndent()
+    }.joinByLines()
+    return """
+        private void $CHECK_PARSED_FIELD(int number) {
+            var $parentPath = $FieldPathClass.getDefaultInstance();
+            $TypeNameClass $parentName = null;
+            var $violations = new java.util.ArrayList<$constraintViolation>();
+            switch (number) {
+                $cases
+                default -> {
+                    // The field has no constraints to check on parse.
+                }
+            }
+            if (!$violations.isEmpty()) {
+                throw new $validationException($violations);
+            }
+        }
+        """.trimIndent()
+}
+
 /**
  * Annotates the return type of [Message.Builder.build] method of this [BuilderPsiClass]
  * with [Validated] annotation.
@@ -28,7 +28,6 @@ package io.spine.tools.validation.java.generate.option
 
 import io.spine.base.FieldPath
 import io.spine.server.query.select
-import io.spine.string.lowerCamelCase
 import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.jvm.CodeBlock
 import io.spine.tools.compiler.jvm.Expression
@@ -42,6 +41,7 @@ import io.spine.tools.validation.java.expression.stringify
 import io.spine.tools.validation.java.expression.templateString
 import io.spine.tools.validation.java.generate.OptionGenerator
 import io.spine.tools.validation.java.generate.SingleOptionCode
+import io.spine.tools.validation.java.generate.caseField
 import io.spine.tools.validation.java.generate.ValidateScope.parentName
 import io.spine.tools.validation.java.generate.ValidateScope.parentPath
 import io.spine.tools.validation.java.generate.ValidateScope.violations
@@ -83,7 +83,7 @@ private class GenerateChoice(private val view: ChoiceOneof) {
      */
     fun code(): SingleOptionCode {
         val groupName = oneof.name
-        val caseField = "${groupName.value.lowerCamelCase()}Case_"
+        val caseField = groupName.caseField
         val constraint = CodeBlock(
             """
             if ($caseField == 0) {
@@ -94,7 +94,7 @@ private class GenerateChoice(private val view: ChoiceOneof) {
             }
             """.trimIndent()
         )
-        return SingleOptionCode(constraint)
+        return SingleOptionCode(constraint, dependsOn = oneof.fieldList)
     }
 
     private fun violation(
@@ -116,7 +116,7 @@ private class GenerateDistinct(private val view: DistinctField) {
                 }
                 """.trimIndent()
             )
-            SingleOptionCode(constraint)
+            SingleOptionCode(constraint, dependsOn = listOf(field))
         }
         fieldType.isMap -> {
             val map = fieldAccess.getter<Map<*, *>>()
@@ -138,7 +138,7 @@ private class GenerateDistinct(private val view: DistinctField) {
                 }
                 """.trimIndent()
             )
-            SingleOptionCode(constraint)
+            SingleOptionCode(constraint, dependsOn = listOf(field))
         }
         else -> error(
             """
@@ -108,7 +108,11 @@ private class GenerateGoes(
             }
             """.trimIndent()
         )
-        return SingleOptionCode(constraint)
+        return SingleOptionCode(
+            constraint,
+            violatedOnlyIfSet = field,
+            dependsOn = listOf(field, companion)
+        )
     }
 
     private fun violation(
@@ -26,10 +26,12 @@
 
 package io.spine.tools.validation.java.generate.option
 
+import com.google.protobuf.ByteString
 import io.spine.base.FieldPath
 import io.spine.option.PatternOption
 import io.spine.protobuf.restoreProtobufEscapes
 import io.spine.server.query.select
+import io.spine.string.camelCase
 import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.ast.camelCase
 import io.spine.tools.compiler.ast.name
@@ -43,13 +45,15 @@ import io.spine.tools.compiler.jvm.ReadVar
 import io.spine.tools.compiler.jvm.StringLiteral
 import io.spine.tools.compiler.jvm.call
 import io.spine.tools.compiler.jvm.field
+import io.spine.tools.compiler.jvm.javaCase
 import io.spine.tools.validation.PatternField
 import io.spine.tools.validation.java.expression.ConstraintViolationClass
 import io.spine.tools.validation.java.expression.FieldPathClass
-import io.spine.tools.validation.java.expression.ImmutableListClass
+import io.spine.tools.validation.java.expression.ListClass
 import io.spine.tools.validation.java.expression.PatternClass
 import io.spine.tools.validation.java.expression.StringClass
 import io.spine.tools.validation.java.expression.TypeNameClass
+import io.spine.tools.validation.java.expression.Utf8PatternsClass
 import io.spine.tools.validation.java.expression.constraintViolation
 import io.spine.tools.validation.java.expression.joinToString
 import io.spine.tools.validation.java.expression.orElse
@@ -90,12 +94,19 @@ internal class PatternGenerator : OptionGenerator() {
             .all()
     }
 
-    override fun codeFor(type: TypeName): List<SingleOptionCode> =
-        allPatternFields
+    override fun codeFor(type: TypeName): List<SingleOptionCode> {
+        val compiled = mutableMapOf<PatternKey, FieldDeclaration<Pattern>>()
+        return allPatternFields
             .filter { it.id.type == type }
-            .map { GeneratePattern(it).code() }
+            .map { GeneratePattern(it, compiled).code() }
+    }
 }
 
+/**
+ * Identifies a compiled [Pattern] by the [regex] and the [flags] it is compiled with.
+ */
+private data class PatternKey(val regex: String, val flags: Int)
+
 /**
  * Stores the generated Java field that contains the compiled [Pattern]
  * along with [partialMatch] modifier.
@@ -105,8 +116,14 @@ private class CompiledPattern(val field: FieldDeclaration<Pattern>, val partialM
 /**
  * Generates code for a single application of the `(pattern)` option
  * represented by the [view].
+ *
+ * The fields holding the compiled patterns are taken from the [compiled] ones,
+ * so that the fields of a message sharing the same pattern use the same field.
  */
-private class GeneratePattern(private val view: PatternField) {
+private class GeneratePattern(
+    private val view: PatternField,
+    private val compiled: MutableMap<PatternKey, FieldDeclaration<Pattern>>
+) {
 
     private val field = view.subject
     private val fieldType = field.type
@@ -115,6 +132,28 @@ private class GeneratePattern(private val view: PatternField) {
     private val camelFieldName = field.name.camelCase
     private val pattern = compilePattern()
 
+    /**
+     * Tells whether the field value should be matched without decoding it from UTF-8.
+     *
+     * The value is matched via its UTF-8 bytes returned by the public `getXxxBytes()`
+     * accessor of the generated code. For parsed messages, the accessor returns
+     * the parsed bytes with no copying or decoding. This is done only if the regex
+     * is ASCII-only, as such a regex is expected to be matched against ASCII values,
+     * which [Utf8Patterns][io.spine.validation.Utf8Patterns] matches with no decoding.
+     */
+    private val matchesBytes = view.pattern.all { it.code < ASCII_LIMIT }
+
+    /**
+     * The prefix of the names of the accessors generated by `protoc` for the field,
+     * e.g., `getName` for the `getNameBytes()` and `getNameCount()` accessors.
+     */
+    private val accessor = "get${field.name.javaCase().camelCase()}"
+
+    /**
+     * The UTF-8 bytes of the singular field value.
+     */
+    private val fieldBytes = Expression<ByteString>("${accessor}Bytes()")
+
     /**
      * Returns the generated code.
      */
@@ -122,7 +161,13 @@ private class GeneratePattern(private val view: PatternField) {
         fieldType.isSingularString -> {
             val fieldValue = fieldAccess.getter<String>()
             val constraint = singularStringConstraint(fieldValue)
-            SingleOptionCode(constraint, listOf(pattern.field))
+            // Empty values are never checked, so an unset field cannot be invalid.
+            SingleOptionCode(
+                constraint,
+                listOf(pattern.field),
+                violatedOnlyIfSet = field,
+                dependsOn = listOf(field)
+            )
         }
 
         fieldType.isRepeatedString -> {
@@ -130,7 +175,12 @@ private class GeneratePattern(private val view: PatternField) {
             val validateRepeatedField = mangled("validate$camelFieldName")
             val validateRepeatedFieldDecl = validateRepeated(fieldValues, validateRepeatedField)
             val constraint = repeatedStringConstraint(fieldValues, validateRepeatedField)
-            SingleOptionCode(constraint, listOf(pattern.field), listOf(validateRepeatedFieldDecl))
+            SingleOptionCode(
+                constraint,
+                listOf(pattern.field),
+                listOf(validateRepeatedFieldDecl),
+                dependsOn = listOf(field)
+            )
         }
 
         else -> error(
@@ -142,17 +192,23 @@ private class GeneratePattern(private val view: PatternField) {
 
     /**
      * Returns a [CodeBlock] that checks if the [fieldValue] matches the [pattern].
+     *
+     * If the value is [matched as bytes][matchesBytes], the [fieldValue] getter
+     * is invoked only to report a violation.
      */
-    private fun singularStringConstraint(fieldValue: Expression<String>) = CodeBlock(
-        """
-        if (!$fieldValue.isEmpty() && !${pattern.matches(fieldValue)}) {
-            var fieldPath = ${parentPath.resolve(field.name)};
-            var typeName =  ${parentName.orElse(declaringType)};
-            var violation = ${violation(ReadVar("fieldPath"), ReadVar("typeName"), fieldValue)};
-            $violations.add(violation);
-        }
-        """.trimIndent()
-    )
+    private fun singularStringConstraint(fieldValue: Expression<String>): CodeBlock {
+        val mismatches = if (matchesBytes) bytesMismatch(fieldBytes) else mismatches(fieldValue)
+        return CodeBlock(
+            """
+            if ($mismatches) {
+                var fieldPath = ${parentPath.resolve(field.name)};
+                var typeName =  ${parentName.orElse(declaringType)};
+                var violation = ${violation(ReadVar("fieldPath"), ReadVar("typeName"), fieldValue)};
+                $violations.add(violation);
+            }
+            """.trimIndent()
+        )
+    }
 
     /**
      * Returns a [CodeBlock] that invokes [validateRepeated] method to check
@@ -164,8 +220,7 @@ private class GeneratePattern(private val view: PatternField) {
     ) = CodeBlock(
         """
         if (!$fieldValues.isEmpty()) {
-            var fieldViolations = $validateRepeated($parentPath, $parentName);
-            $violations.addAll(fieldViolations);
+            $validateRepeated($parentPath, $parentName, $violations);
         }
         """.trimIndent()
     )
@@ -174,32 +229,95 @@ private class GeneratePattern(private val view: PatternField) {
      * Returns a [MethodDeclaration] of the method that goes through each element of
      * the [fieldValues] list making sure it matches the [pattern].
      *
-     * The created method returns a list of [ConstraintViolation]s, containing one
-     * violation per each invalid field value.
+     * The created method appends one [ConstraintViolation] per each invalid field value
+     * to the passed list of violations. This way, a valid field allocates nothing.
      */
     private fun validateRepeated(
         fieldValues: Expression<List<String>>,
         methodName: String
     ) = MethodDeclaration(
         """
-        private $ImmutableListClass<$ConstraintViolationClass> $methodName($FieldPathClass $parentPath, $TypeNameClass $parentName) {
-            var violations = $ImmutableListClass.<$ConstraintViolationClass>builder();
-            for ($StringClass element : $fieldValues) {
-                if (!element.isEmpty() && !${pattern.matches(ReadVar("element"))}) {
-                    var fieldPath = ${parentPath.resolve(field.name)};
-                    var typeName =  ${parentName.orElse(declaringType)};
-                    var violation = ${violation(ReadVar("fieldPath"), ReadVar("typeName"), ReadVar("element"))};
-                    violations.add(violation);
-                }
-            }
-            return violations.build();
+        private void $methodName($FieldPathClass $parentPath, $TypeNameClass $parentName, $ListClass<$ConstraintViolationClass> $violations) {
+            ${forEachMismatch(fieldValues, reportMismatch())}
         }
         """.trimIndent()
     )
 
+    /**
+     * Returns the code that adds a violation for the mismatched `element`
+     * to the [violations] list.
+     */
+    private fun reportMismatch() = CodeBlock(
+        """
+        var fieldPath = ${parentPath.resolve(field.name)};
+        var typeName =  ${parentName.orElse(declaringType)};
+        var violation = ${violation(ReadVar("fieldPath"), ReadVar("typeName"), ReadVar("element"))};
+        $violations.add(violation);
+        """.trimIndent()
+    )
+
+    /**
+     * Returns a loop over the [fieldValues] that executes the given [action]
+     * for each non-empty element that does not match the [pattern].
+     *
+     * Within the [action], the mismatched value is available as `element` variable.
+     *
+     * If the values are [matched as bytes][matchesBytes], the loop goes over the UTF-8
+     * bytes of the elements, and the mismatched element is decoded only to be reported.
+     */
+    private fun forEachMismatch(
+        fieldValues: Expression<List<String>>,
+        action: CodeBlock
+    ): CodeBlock = if (matchesBytes) {
+        val elementBytes = Expression<ByteString>("${accessor}Bytes(i)")
+        CodeBlock(
+            """
+            for (int i = 0; i < ${accessor}Count(); i++) {
+                if (${bytesMismatch(elementBytes)}) {
+                    var element = $accessor(i);
+                    $action
+                }
+            }
+            """.trimIndent()
+        )
+    } else {
+        CodeBlock(
+            """
+            for ($StringClass element : $fieldValues) {
+                if (${mismatches(ReadVar("element"))}) {
+                    $action
+                }
+            }
+            """.trimIndent()
+        )
+    }
+
+    /**
+     * Yields a boolean expression that checks the given string [value]
+     * is not empty and does not match the [pattern].
+     */
+    private fun mismatches(value: Expression<String>): Expression<Boolean> =
+        Expression("!$value.isEmpty() && !${pattern.matches(value)}")
+
+    /**
+     * Yields a boolean expression that checks the given UTF-8 [bytes] of a string
+     * are not empty and do not match the [pattern].
+     *
+     * The bytes are matched by [Utf8Patterns][io.spine.validation.Utf8Patterns]
+     * with no UTF-8 decoding for ASCII-only values.
+     */
+    private fun bytesMismatch(bytes: Expression<ByteString>): Expression<Boolean> {
+        val matchArgs = listOf(pattern.field.read(), bytes, Literal(pattern.partialMatch))
+        val matches = Utf8PatternsClass.call<Boolean>("matches", matchArgs)
+        return Expression("!$bytes.isEmpty() && !$matches")
+    }
+
     /**
      * Creates a field containing a compiled Java [Pattern].
      *
+     * If a field with the same regex and flags is already [compiled] for the message,
+     * it is reused.
+     *
      * The created field is wrapped in [CompiledPattern] instance along with
      * the [PatternOption.Modifier.getPartialMatch] value. This way, we have
      * everything we need to yield an expression for [Pattern.matcher] invocation
@@ -212,16 +330,19 @@ private class GeneratePattern(private val view: PatternField) {
      */
     private fun compilePattern(): CompiledPattern {
         val modifiers = view.modifier
-        val compilationArgs = listOf(
-            StringLiteral(restoreProtobufEscapes(view.pattern)),
-            Literal(modifiers.asFlagsMask())
-        )
-        val field = FieldDeclaration<Pattern>(
-            modifiers = "private static final",
-            type = PatternClass,
-            name = mangled("${camelFieldName}Pattern"),
-            value = PatternClass.call("compile", compilationArgs)
-        )
+        val flags = modifiers.asFlagsMask()
+        val field = compiled.getOrPut(PatternKey(view.pattern, flags)) {
+            val compilationArgs = listOf(
+                StringLiteral(restoreProtobufEscapes(view.pattern)),
+                Literal(flags)
+            )
+            FieldDeclaration(
+                modifiers = "private static final",
+                type = PatternClass,
+                name = mangled("${camelFieldName}Pattern"),
+                value = PatternClass.call("compile", compilationArgs)
+            )
+        }
         return CompiledPattern(field, modifiers.partialMatch)
     }
 
@@ -260,6 +381,11 @@ private class GeneratePattern(private val view: PatternField) {
     )
 }
 
+/**
+ * The first code point, which is not an ASCII character.
+ */
+private const val ASCII_LIMIT = 0x80
+
 /**
  * Converts this [PatternOption.Modifier] to a Java [Pattern] bitwise mask.
  *
@@ -28,6 +28,7 @@ package io.spine.tools.validation.java.generate.option
 
 import io.spine.server.query.select
 import io.spine.string.joinByLines
+import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.ast.qualifiedName
 import io.spine.tools.compiler.jvm.CodeBlock
@@ -82,6 +83,13 @@ private class GenerateRequire(
     override val converter: JavaValueConverter
 ) : EmptyFieldCheck {
 
+    /**
+     * The distinct fields referenced by the field groups.
+     */
+    private val referencedFields = view.groupList
+        .flatMap { it.fieldList }
+        .distinctBy { it.name.value }
+
     /**
      * Returns the generated code.
      */
@@ -96,32 +104,75 @@ private class GenerateRequire(
             }
             """.trimIndent()
         )
-        return SingleOptionCode(constraint, methods = listOf(declaration))
+        return SingleOptionCode(
+            constraint,
+            methods = listOf(declaration),
+            dependsOn = referencedFields
+        )
     }
 
     /**
      * Creates a method that returns `true` if none of the provided field
      * groups is set.
      *
+     * Each field referenced by the groups is checked for presence only once,
+     * even if it participates in several groups. The results are collected
+     * into a `long` bitmask, so that every group is tested with a single mask
+     * comparison. Messages that reference more than [Long.SIZE_BITS] distinct
+     * fields fall back to checking each group separately.
+     *
      * @return The name of the generated method along with its declaration.
      */
     private fun noneOfFieldGroupsSet(): Pair<String, MethodDeclaration> {
         val name = mangled(NONE_OF_FIELD_GROUPS_SET)
-        val groupsConstraints = view.groupList
-            .map(::toConstraint)
-            .joinByLines()
+        val body = if (referencedFields.size <= Long.SIZE_BITS) {
+            presenceMask(referencedFields)
+        } else {
+            view.groupList
+                .map(::toConstraint)
+                .joinByLines()
+                .let { CodeBlock("$it\nreturn true;") }
+        }
         val declaration = MethodDeclaration("""
             private boolean $name() {
-                $groupsConstraints
-                return true;
+                $body
             }
         """.trimIndent())
         return Pair(name, declaration)
     }
 
+    /**
+     * Creates statements that collect presence of the given [fields] into
+     * a bitmask and return `true` if none of the groups is fully present.
+     *
+     * The bit of each field corresponds to its index in the [fields] list.
+     */
+    private fun presenceMask(fields: List<Field>): CodeBlock {
+        val bits = fields.withIndex()
+            .associate { (index, field) -> field.name.value to (1L shl index) }
+        val collectPresence = fields.map { field ->
+            val bit = bits[field.name.value]!!
+            "if (${field.hasNonDefaultValue()}) { $PRESENT |= ${bit.hexLiteral()}; }"
+        }
+        val noGroupSet = view.groupList.joinToString(" && ") { group ->
+            val mask = group.fieldList
+                .map { bits[it.name.value]!! }
+                .reduce(Long::or)
+                .hexLiteral()
+            "($PRESENT & $mask) != $mask"
+        }
+        return CodeBlock("""
+            |long $PRESENT = 0L;
+            |${collectPresence.joinByLines()}
+            |return $noGroupSet;
+            """.trimMargin())
+    }
+
     /**
      * Creates an `if` constraint that checks if all fields within the given
      * field [group] are set.
+     *
+     * Used when the referenced fields do not fit into a `long` bitmask.
      */
     private fun toConstraint(group: FieldGroup): CodeBlock {
         val allFieldsSet = group.fieldList
@@ -148,5 +199,15 @@ private class GenerateRequire(
 
     private companion object {
         const val NONE_OF_FIELD_GROUPS_SET = "noneOfFieldGroupsSet"
+
+        /**
+         * The name of the local variable holding the presence bitmask.
+         */
+        const val PRESENT = "present"
+
+        /**
+         * Renders this mask as a Java `long` literal.
+         */
+        fun Long.hexLiteral(): String = "0x${java.lang.Long.toHexString(this)}L"
     }
 }
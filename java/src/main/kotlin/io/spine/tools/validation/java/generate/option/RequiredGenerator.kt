@@ -109,7 +109,7 @@ private class GenerateRequired(
             }
             """.trimIndent()
         )
-        return SingleOptionCode(constraint)
+        return SingleOptionCode(constraint, dependsOn = listOf(field))
     }
 
     /**
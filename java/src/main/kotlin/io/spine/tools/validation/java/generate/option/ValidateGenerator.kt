@@ -28,40 +28,99 @@ package io.spine.tools.validation.java.generate.option
 
 import com.google.protobuf.Message
 import io.spine.server.query.select
+import io.spine.string.joinByLines
+import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.ast.isAny
 import io.spine.tools.compiler.ast.isList
 import io.spine.tools.compiler.ast.isMap
 import io.spine.tools.compiler.ast.name
+import io.spine.tools.compiler.ast.unpack
+import io.spine.tools.compiler.jvm.ClassName
 import io.spine.tools.compiler.jvm.CodeBlock
 import io.spine.tools.compiler.jvm.Expression
 import io.spine.tools.compiler.jvm.JavaValueConverter
 import io.spine.tools.compiler.jvm.ReadVar
 import io.spine.tools.compiler.jvm.field
 import io.spine.tools.compiler.jvm.getDefaultInstance
+import io.spine.tools.compiler.jvm.javaClassName
 import io.spine.tools.validation.ValidateField
 import io.spine.tools.validation.java.expression.AnyClass
 import io.spine.tools.validation.java.expression.AnyPackerClass
 import io.spine.tools.validation.java.expression.EmptyFieldCheck
 import io.spine.tools.validation.java.expression.KnownTypesClass
 import io.spine.tools.validation.java.expression.MessageClass
+import io.spine.tools.validation.java.expression.ParallelValidationClass
 import io.spine.tools.validation.java.expression.TypeUrlClass
 import io.spine.tools.validation.java.expression.ValidatableMessageClass
 import io.spine.tools.validation.java.expression.ValidationErrorClass
+import io.spine.tools.validation.java.expression.ValidatorRegistryClass
 import io.spine.tools.validation.java.expression.orElse
 import io.spine.tools.validation.java.expression.resolve
+import io.spine.tools.validation.java.generate.ConstraintFreeTypes
 import io.spine.tools.validation.java.generate.MessageScope.message
 import io.spine.tools.validation.java.generate.OptionGeneratorWithConverter
 import io.spine.tools.validation.java.generate.SingleOptionCode
+import io.spine.tools.validation.java.generate.VALIDATE_INTO
 import io.spine.tools.validation.java.generate.ValidateScope.parentName
 import io.spine.tools.validation.java.generate.ValidateScope.parentPath
+import io.spine.tools.validation.java.generate.ValidateScope.selection
 import io.spine.tools.validation.java.generate.ValidateScope.violations
+import io.spine.tools.validation.java.generate.rebound
+import io.spine.tools.validation.java.generate.selected
+import io.spine.tools.validation.java.generate.validatedType
+import io.spine.validation.ParallelValidationOption
 import org.intellij.lang.annotations.Language
 
 /**
  * The generator for `(validate)` option.
+ *
+ * For the fields of [constraint-free][ConstraintFreeTypes] types, the validation code runs
+ * only if [ValidatorRegistry][io.spine.validation.ValidatorRegistry] has validators for
+ * the field type or for any type validated within it transitively. Otherwise, such messages
+ * cannot be invalid, and neither their `validate()` method nor the registry is called.
+ *
+ * For the fields of message types generated in the current compilation, the generated
+ * `validateInto()` method of the field value is called directly. Such a call needs
+ * no `instanceof` check against [ValidatableMessage][io.spine.validation.ValidatableMessage],
+ * and collects the violations right into the list of the validated message.
+ * The fields of other types, including `google.protobuf.Any`, are checked via
+ * the `ValidatableMessage` interface.
+ *
+ * The direct call for a singular field passes the [selection]
+ * of the nested fields, so that only the selected constraints of the field value
+ * are checked.
+ *
+ * Validatable messages apply the validators registered in the registry themselves,
+ * passing the nested field path to them. The registry is called by the generated code
+ * only for the messages, which are not validatable.
+ *
+ * The constraints of a singular field value may be inlined into the validation code
+ * of the declaring message instead of calling `validateInto()` of the value.
+ * This is done if the constraints of the field type are [inlinable], and there are
+ * at most [MAX_INLINED_CONSTRAINTS] of them, including the ones of the nested
+ * `(validate)` fields of the type, which may be inlined in turn. A type is never
+ * inlined into itself, so recursive types are validated via `validateInto()`.
+ * The inlined constraints report the violations with the full field path from
+ * the validated message, and the validators registered for the field type are
+ * applied as `validateInto()` does.
+ *
+ * @param parallelThreshold The minimal number of elements in a `repeated` or `map` field,
+ *   at which the elements are validated in parallel. `0` disables parallel validation.
+ *   A field may set its own threshold via the `(parallel_validation)` option.
+ * @param constraintFree Provides the constraint-free types of the current compilation,
+ *   if known.
+ * @param generated Tells if the given message type is generated in the current compilation,
+ *   thus having the `validateInto()` method.
+ * @param inlinable Returns the constraints declared in the given message type, if they
+ *   can be inlined into the validation code of other messages, or `null` otherwise.
  */
-internal class ValidateGenerator : OptionGeneratorWithConverter() {
+internal class ValidateGenerator(
+    private val parallelThreshold: Int = 0,
+    private val generated: (TypeName) -> Boolean = { false },
+    private val constraintFree: () -> ConstraintFreeTypes? = { null },
+    private val inlinable: (TypeName) -> List<SingleOptionCode>? = { null }
+) : OptionGeneratorWithConverter() {
 
     /**
      * All `(validate)` fields in the current compilation process.
@@ -71,19 +130,136 @@ internal class ValidateGenerator : OptionGeneratorWithConverter() {
             .all()
     }
 
-    override fun codeFor(type: TypeName): List<SingleOptionCode> =
+    override fun codeFor(type: TypeName): List<SingleOptionCode> = codeFor(type, listOf(type))
+
+    /**
+     * Generates the code for the `(validate)` fields of the given [type].
+     *
+     * @param type The message type to generate code for.
+     * @param inlining The types, the constraints of which are being inlined,
+     *   starting from the validated message type and ending with the given [type].
+     */
+    private fun codeFor(type: TypeName, inlining: List<TypeName>): List<SingleOptionCode> =
         allValidateFields
             .filter { it.id.type == type }
-            .map { GenerateValidate(it, converter).code() }
+            .map { field ->
+                val gate = registryGate(field)
+                val direct = field.subject.validatedType()?.let(generated) ?: false
+                val threshold = field.subject.parallelThreshold() ?: parallelThreshold
+                val inlined = if (direct && gate == null) inlined(field, inlining) else null
+                GenerateValidate(field, converter, threshold, gate, direct, inlined).code()
+            }
+
+    /**
+     * Returns the constraints of the value of the given singular [field] to be inlined
+     * into the code of its declaring type, or `null` if the constraints should be
+     * checked by calling `validateInto()` of the value.
+     *
+     * @param inlining The types, the constraints of which are being inlined.
+     *   The constraints of these types are not inlined again.
+     */
+    private fun inlined(field: ValidateField, inlining: List<TypeName>): InlinedConstraints? {
+        if (!field.subject.type.isMessage) {
+            return null
+        }
+        val type = field.subject.validatedType() ?: return null
+        if (type in inlining) {
+            return null
+        }
+        val own = inlinable(type) ?: return null
+        if (own.size > MAX_INLINED_CONSTRAINTS) {
+            return null
+        }
+        val constraints = own + codeFor(type, inlining + type)
+        if (constraints.size > MAX_INLINED_CONSTRAINTS) {
+            return null
+        }
+        return InlinedConstraints(constraints, depth = inlining.size)
+    }
+
+    /**
+     * Returns classes of the messages, which may only be checked by the registered
+     * validators when validating the given [field], or `null` if the messages
+     * may have constraints.
+     */
+    private fun registryGate(field: ValidateField): List<ClassName>? {
+        val types = constraintFree() ?: return null
+        val validated = field.subject.validatedType() ?: return null
+        if (validated !in types) {
+            return null
+        }
+        return types.closureOf(validated)
+            .map { it.javaClassName(typeSystem) }
+    }
 }
 
+/**
+ * Returns the threshold set for this field via the `(parallel_validation)` option,
+ * or `null` if the option is not set, or sets no threshold.
+ *
+ * The thresholds exceeding [Int.MAX_VALUE] are rendered as [Int.MAX_VALUE],
+ * which no collection reaches.
+ */
+private fun Field.parallelThreshold(): Int? {
+    val option = optionList.find { it.name == PARALLEL_VALIDATION } ?: return null
+    val threshold = option.unpack<ParallelValidationOption>().elementThreshold
+    return when {
+        threshold == 0 -> null
+        threshold < 0 -> Int.MAX_VALUE
+        else -> threshold
+    }
+}
+
+/**
+ * The name of the `(parallel_validation)` option.
+ */
+private const val PARALLEL_VALIDATION = "parallel_validation"
+
+/**
+ * The maximal number of constraints of a field value inlined into the code
+ * of the declaring message.
+ *
+ * Inlining saves a call per validated value, which only pays off for small types.
+ * The code of larger types is shared via their `validateInto()` method instead.
+ */
+private const val MAX_INLINED_CONSTRAINTS = 4
+
+/**
+ * The constraints of the value of a `(validate)` field inlined into the code
+ * of the declaring message.
+ *
+ * @property constraints The constraints of the field type, including the ones
+ *   of its own `(validate)` fields.
+ * @property depth The number of the messages, into the code of which the constraints
+ *   are inlined. It makes the names of the variables declared for the inlined
+ *   constraints unique along the chain of the nested messages.
+ */
+private class InlinedConstraints(
+    val constraints: List<SingleOptionCode>,
+    val depth: Int
+)
+
 /**
  * Generates code for a single application of the `(validate)` option
  * represented by the [view].
+ *
+ * @param parallelThreshold The minimal number of elements in a `repeated` or `map` field,
+ *   at which the elements are validated in parallel. `0` disables parallel validation.
+ * @param registryGate The classes of the messages, for which the registered validators
+ *   are the only source of violations. If not `null`, the validation code runs only
+ *   if the registry has validators for any of these classes.
+ * @param direct If `true`, the validated messages are generated in the current compilation,
+ *   and their `validateInto()` method is called directly.
+ * @param inlined The constraints of the singular field value to check in place
+ *   instead of calling its `validateInto()` method, if any.
  */
 private class GenerateValidate(
     private val view: ValidateField,
-    override val converter: JavaValueConverter
+    override val converter: JavaValueConverter,
+    private val parallelThreshold: Int,
+    private val registryGate: List<ClassName>? = null,
+    private val direct: Boolean = false,
+    private val inlined: InlinedConstraints? = null
 ) : EmptyFieldCheck {
 
     private val field = view.subject
@@ -96,25 +272,33 @@ private class GenerateValidate(
      */
     @Suppress("UNCHECKED_CAST") // The cast is guaranteed due to the field type checks.
     fun code(): SingleOptionCode = when {
+        inlined != null -> validateInPlace(inlined)
+
         fieldType.isMessage -> validate(getter as Expression<Message>, fieldType.message.isAny)
 
-        fieldType.isList ->
-            CodeBlock(
+        fieldType.isList -> {
+            val elements = Expression<Collection<Message>>("$getter")
+            val sequential = CodeBlock(
                 """
-                for (var element : $getter) {
+                for (var element : $elements) {
                     ${validate(ReadVar("element"), fieldType.list.isAny)}
                 }
                 """.trimIndent()
             )
+            parallelIfLarge(elements, sequential)
+        }
 
-        fieldType.isMap ->
-            CodeBlock(
+        fieldType.isMap -> {
+            val elements = Expression<Collection<Message>>("$getter.values()")
+            val sequential = CodeBlock(
                 """
-                for (var element : $getter.values()) {
+                for (var element : $elements) {
                     ${validate(ReadVar("element"), fieldType.map.valueType.isAny)}
                 }     
                 """.trimIndent()
             )
+            parallelIfLarge(elements, sequential)
+        }
 
         else -> error(
             "The field type `${fieldType.name}` is not supported by `ValidateFieldGenerator`." +
@@ -122,12 +306,127 @@ private class GenerateValidate(
                     " used by `ValidateReaction` when validating" +
                     " the `ValidateFieldDiscovered` event."
         )
-    }.run { SingleOptionCode(this) }
+    }.run {
+        // Default instances of singular fields are never validated.
+        val onlyIfSet = if (fieldType.isMessage) field else null
+        SingleOptionCode(
+            gateByRegistry(this),
+            violatedOnlyIfSet = onlyIfSet,
+            dependsOn = listOf(field)
+        )
+    }
+
+    /**
+     * Returns a [CodeBlock] checking the [inlined] constraints of the singular field value.
+     *
+     * The value, its field path, the name of the validated type, and the selection
+     * of its fields are stored in the local variables, the names of which end with
+     * the [depth][InlinedConstraints.depth] of inlining. The inlined constraints refer
+     * to these variables instead of the ones of the `validateInto()` method.
+     *
+     * As in the `validateInto()` method of the value, each constraint is checked only
+     * if any of the fields it depends on is selected, and the validators registered
+     * for the field type are applied after the constraints.
+     */
+    private fun validateInPlace(inlined: InlinedConstraints): CodeBlock {
+        val value = "inlined${inlined.depth}"
+        val path = "${value}Path"
+        val typeName = "${value}TypeName"
+        val nestedSelection = "${value}Selection"
+        val variables = mapOf(
+            "$parentPath" to path,
+            "$parentName" to typeName,
+            "$selection" to nestedSelection
+        )
+        val constraints = inlined.constraints
+            .map { selected(it.constraint, it.dependsOn).rebound(value, variables) }
+            .joinByLines()
+        return CodeBlock(
+            """
+            if (!${field.hasDefaultValue()}) {
+                var $value = $getter;
+                var $path = ${parentPath.resolve(field.name)};
+                var $typeName =  ${parentName.orElse(declaringType)};
+                var $nestedSelection = ${nestedSelection()};
+                $constraints
+                var ${value}ByRegistry = $ValidatorRegistryClass.validate($value, $path, $typeName);
+                if (!${value}ByRegistry.isEmpty()) {
+                    $violations.addAll(${value}ByRegistry);
+                }
+            }
+            """.trimIndent()
+        )
+    }
+
+    /**
+     * Returns an expression selecting the fields of the message stored
+     * in the singular [field] out of the current [selection].
+     *
+     * The elements of `repeated` and `map` fields are always validated as a whole.
+     */
+    private fun nestedSelection(): String =
+        "$selection == null ? null : $selection.nested(${field.number})"
+
+    /**
+     * Wraps the given [code] into a check that the registry has validators
+     * for any of the [registryGate] classes.
+     *
+     * If there is no [registryGate], returns the [code] as is.
+     */
+    private fun gateByRegistry(code: CodeBlock): CodeBlock {
+        if (registryGate == null) {
+            return code
+        }
+        val hasValidators = registryGate.joinToString(" || ") {
+            "$ValidatorRegistryClass.hasValidators($it.class)"
+        }
+        return CodeBlock(
+            """
+            // The validated type has no constraints. Only the registered validators may apply.
+            if ($hasValidators) {
+                $code
+            }
+            """.trimIndent()
+        )
+    }
+
+    /**
+     * Wraps the [sequential] validation of the [elements] into a check for
+     * the number of elements, if parallel validation is enabled.
+     *
+     * If the number of elements reaches the [parallelThreshold], the elements are
+     * validated by [ParallelValidation][io.spine.validation.ParallelValidation].
+     * Otherwise, the [sequential] code runs.
+     *
+     * If parallel validation is disabled, returns the [sequential] code as is.
+     */
+    private fun parallelIfLarge(
+        elements: Expression<Collection<Message>>,
+        sequential: CodeBlock
+    ): CodeBlock {
+        if (parallelThreshold <= 0) {
+            return sequential
+        }
+        return CodeBlock(
+            """
+            if ($elements.size() < $parallelThreshold) {
+                $sequential
+            } else {
+                var fieldPath = ${parentPath.resolve(field.name)};
+                var typeName =  ${parentName.orElse(declaringType)};
+                $ParallelValidationClass.validate($elements, fieldPath, typeName, $violations);
+            }
+            """.trimIndent()
+        )
+    }
 
     /**
      * Yields an expression to validate the provided [message] if it implements
      * [io.spine.validation.ValidatableMessage] interface.
      *
+     * If the message type is generated in the current compilation, its `validateInto()`
+     * method is called [directly][direct] instead.
+     *
      * The reported violations are appended to [violations] list, if any.
      *
      * If the passed [message] represents [com.google.protobuf.Any], the method will firstly
@@ -183,6 +482,24 @@ private class GenerateValidate(
             else
                 " (($MessageClass) $message) instanceof $ValidatableMessageClass validatable"
 
+        @Language("java")
+        val ownValidation =
+            if (direct && fieldType.isMessage)
+                "$message.$VALIDATE_INTO(fieldPath, typeName, $violations, ${nestedSelection()});"
+            else if (direct)
+                "$message.$VALIDATE_INTO(fieldPath, typeName, $violations);"
+            else
+                """
+                if ($isValidatable) {
+                    validatable.validate(fieldPath, typeName)
+                        .map($ValidationErrorClass::getConstraintViolationList)
+                        .ifPresent($violations::addAll);
+                } else {
+                    var byRegistry = $ValidatorRegistryClass.validate(${if (isAny) "unpacked" else "$message"}, fieldPath, typeName);
+                    $violations.addAll(byRegistry);
+                }
+                """.trimIndent()
+
         @Language("java")
         val validationBlock =
             if (isAny)
@@ -190,29 +507,13 @@ private class GenerateValidate(
                 var fieldPath = ${parentPath.resolve(field.name)};
                 var typeName =  ${parentName.orElse(declaringType)};
                 var unpacked = $AnyPackerClass.unpack($message);
-                if ($isValidatable) {                
-                    validatable.validate(fieldPath, typeName)
-                        .map($ValidationErrorClass::getConstraintViolationList)
-                        .ifPresent($violations::addAll);
-                }
-                var byRegistry = io.spine.validation.ValidatorRegistry.validate(unpacked, fieldPath, typeName);
-                if (!byRegistry.isEmpty()) {  
-                    $violations.addAll(byRegistry);
-                }    
+                $ownValidation
                 """.trimIndent()
             else
                 """
                 var fieldPath = ${parentPath.resolve(field.name)};
                 var typeName =  ${parentName.orElse(declaringType)};
-                if ($isValidatable) {                
-                    validatable.validate(fieldPath, typeName)
-                        .map($ValidationErrorClass::getConstraintViolationList)
-                        .ifPresent($violations::addAll);
-                }
-                var byRegistry = io.spine.validation.ValidatorRegistry.validate($message, fieldPath, typeName);
-                if (!byRegistry.isEmpty()) {  
-                    $violations.addAll(byRegistry);
-                }    
+                $ownValidation
                 """.trimIndent()
         return if (isNotDefault == null) {
             CodeBlock(validationBlock)
@@ -30,9 +30,11 @@ import io.spine.base.FieldPath
 import io.spine.string.Placeholder
 import io.spine.string.camelCase
 import io.spine.tools.compiler.Compilation
+import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.ast.FieldType
 import io.spine.tools.compiler.ast.File
 import io.spine.tools.compiler.ast.Span
+import io.spine.tools.compiler.ast.field
 import io.spine.tools.compiler.ast.isList
 import io.spine.tools.compiler.ast.isSingular
 import io.spine.tools.compiler.ast.name
@@ -43,6 +45,8 @@ import io.spine.tools.compiler.jvm.StringLiteral
 import io.spine.tools.compiler.jvm.call
 import io.spine.tools.compiler.jvm.field
 import io.spine.tools.compiler.jvm.plus
+import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.compiler.type.message
 import io.spine.tools.validation.bound.BoundedFieldView
 import io.spine.tools.validation.bound.NumericBound
 import io.spine.tools.validation.bound.NumericBound.ValueCase.DOUBLE_VALUE
@@ -66,17 +70,23 @@ import io.spine.tools.validation.java.generate.ValidateScope.violations
 import io.spine.tools.validation.java.generate.option.bound.Docs.SCALAR_TYPES
 import io.spine.type.TypeName
 import io.spine.validation.ConstraintViolation
+import kotlin.math.sign
 
 /**
  * An abstract base for field generators that restrict the range of numeric fields.
  *
+ * @param view The view of the field with the option.
+ * @param option The name of the option.
+ * @param typeSystem The type system to resolve the fields referenced by the bounds.
+ *
  * @see GenerateRange
  * @see GenerateMin
  * @see GenerateMax
  */
 internal abstract class BoundedFieldGenerator(
     private val view: BoundedFieldView,
-    private val option: String
+    private val option: String,
+    private val typeSystem: TypeSystem
 ) {
     private val field = view.subject
     private val declaringType = field.declaringType
@@ -88,10 +98,20 @@ internal abstract class BoundedFieldGenerator(
     protected val fieldType: FieldType = field.type
 
     /**
-     * Return the generated code.
+     * Return the generated code, or `null` if the bounds can never be violated.
      */
+    fun code(): SingleOptionCode? {
+        if (boundPrimitive == UINT32_VALUE || boundPrimitive == UINT64_VALUE) {
+            unsignedIntegerWarning(view.file, field.span, boundPrimitive)
+        }
+        if (alwaysWithinBounds()) {
+            return null
+        }
+        return checkField()
+    }
+
     @Suppress("UNCHECKED_CAST") // The cast is guaranteed due to the field type checks.
-    fun code(): SingleOptionCode = when {
+    private fun checkField(): SingleOptionCode = when {
         fieldType.isSingular -> checkWithinBounds(getter as Expression<Number>)
 
         fieldType.isList ->
@@ -108,7 +128,27 @@ internal abstract class BoundedFieldGenerator(
                     " Please ensure that the supported field types in this generator match those" +
                     " used by the reaction, which verified `${view::class.simpleName}`."
         )
-    }.run { SingleOptionCode(this) }
+    }.run {
+        val onlyIfSet = if (fieldType.isSingular && defaultWithinBounds()) field else null
+        SingleOptionCode(this, violatedOnlyIfSet = onlyIfSet, dependsOn = dependencies())
+    }
+
+    /**
+     * Returns the field itself along with the fields of the declaring message,
+     * to which the [bounds] refer.
+     *
+     * For a bound referring to a field of a nested message, the message field
+     * of the declaring message is returned.
+     */
+    private fun dependencies(): List<Field> {
+        val referenced = bounds.filter { it.valueCase == FIELD_VALUE }
+        if (referenced.isEmpty()) {
+            return listOf(field)
+        }
+        val declaringMessage = typeSystem.message(declaringType)
+        val boundFields = referenced.map { declaringMessage.field(it.fieldValue.getFieldName(0)) }
+        return (listOf(field) + boundFields).distinctBy { it.number }
+    }
 
     /**
      * Returns a [CodeBlock] that checks that the given [value] is within the bounds.
@@ -116,11 +156,8 @@ internal abstract class BoundedFieldGenerator(
      * If the passed value is out of the allowed range, the block creates an instance
      * of [ConstraintViolation] and adds it to the [violations] list.
      */
-    private fun checkWithinBounds(value: Expression<Number>): CodeBlock {
-        if (boundPrimitive == UINT32_VALUE || boundPrimitive == UINT64_VALUE) {
-            unsignedIntegerWarning(view.file, field.span, boundPrimitive)
-        }
-        return CodeBlock(
+    private fun checkWithinBounds(value: Expression<Number>): CodeBlock =
+        CodeBlock(
             """
             if (${isOutOfBounds(value)}) {
                 var fieldPath = ${parentPath.resolve(field.name)};
@@ -130,7 +167,11 @@ internal abstract class BoundedFieldGenerator(
             }
             """.trimIndent()
         )
-    }
+
+    /**
+     * The bounds of the option.
+     */
+    protected abstract val bounds: List<NumericBound>
 
     /**
      * The number type of the bound.
@@ -150,6 +191,71 @@ internal abstract class BoundedFieldGenerator(
      */
     protected abstract fun isOutOfBounds(value: Expression<Number>): Expression<Boolean>
 
+    /**
+     * Tells whether any value of the field type is within the bounds.
+     *
+     * The check for such bounds is always passed, so it is not generated.
+     */
+    protected abstract fun alwaysWithinBounds(): Boolean
+
+    /**
+     * Tells whether the default value of the field, which is zero, is within the bounds.
+     *
+     * An unset field cannot violate such bounds.
+     */
+    protected abstract fun defaultWithinBounds(): Boolean
+
+    /**
+     * Tells whether zero is on the allowed side of this [NumericBound].
+     *
+     * Returns `false` for the bounds referring to fields, as their values
+     * are not known until run time.
+     *
+     * @param lower If `true`, this bound is treated as the lower one.
+     *   Otherwise, it is treated as the upper one.
+     */
+    protected fun NumericBound.admitsZero(lower: Boolean): Boolean {
+        val sign = when (valueCase) {
+            FLOAT_VALUE -> floatValue.compareTo(0.0F).sign
+            DOUBLE_VALUE -> doubleValue.compareTo(0.0).sign
+            INT32_VALUE -> int32Value.sign
+            INT64_VALUE -> int64Value.sign
+            // Unsigned values are never below zero.
+            UINT32_VALUE -> if (uint32Value == 0) 0 else 1
+            UINT64_VALUE -> if (uint64Value == 0L) 0 else 1
+            else -> return false
+        }
+        return when {
+            sign == 0 -> !exclusive
+            lower -> sign < 0
+            else -> sign > 0
+        }
+    }
+
+    /**
+     * Tells whether this [NumericBound] is the inclusive minimum or maximum value
+     * of its integer type, so that no value of the type can go beyond it.
+     *
+     * The bounds referring to fields and floating-point bounds are never considered
+     * such limits.
+     *
+     * @param lower If `true`, this bound is checked to be the minimal value of its type.
+     *   Otherwise, it is checked to be the maximal one.
+     */
+    protected fun NumericBound.isTypeLimit(lower: Boolean): Boolean {
+        if (exclusive) {
+            return false
+        }
+        return when (valueCase) {
+            INT32_VALUE -> int32Value == if (lower) Int.MIN_VALUE else Int.MAX_VALUE
+            INT64_VALUE -> int64Value == if (lower) Long.MIN_VALUE else Long.MAX_VALUE
+            // The maximal unsigned values are represented as `-1` in Java.
+            UINT32_VALUE -> uint32Value == if (lower) 0 else -1
+            UINT64_VALUE -> uint64Value == if (lower) 0L else -1L
+            else -> false
+        }
+    }
+
     private fun violation(
         fieldPath: Expression<FieldPath>,
         typeName: Expression<TypeName>,
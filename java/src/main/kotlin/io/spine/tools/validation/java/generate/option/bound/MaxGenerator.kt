@@ -33,7 +33,9 @@ import io.spine.tools.compiler.ast.name
 import io.spine.tools.compiler.jvm.Expression
 import io.spine.tools.compiler.jvm.StringLiteral
 import io.spine.tools.compiler.jvm.call
+import io.spine.tools.compiler.type.TypeSystem
 import io.spine.tools.validation.bound.MaxField
+import io.spine.tools.validation.bound.NumericBound
 import io.spine.tools.validation.bound.NumericBound.ValueCase
 import io.spine.tools.validation.bound.NumericBound.ValueCase.UINT32_VALUE
 import io.spine.tools.validation.bound.NumericBound.ValueCase.UINT64_VALUE
@@ -68,16 +70,21 @@ internal class MaxGenerator : OptionGenerator() {
     override fun codeFor(type: TypeName): List<SingleOptionCode> =
         allMaxFields
             .filter { it.id.type == type }
-            .map { GenerateMax(it).code() }
+            .mapNotNull { GenerateMax(it, typeSystem).code() }
 }
 
 /**
  * Generates code for a single application of the `(max)` option
  * represented by the [view].
  */
-private class GenerateMax(private val view: MaxField) : BoundedFieldGenerator(view, MAX) {
+private class GenerateMax(
+    private val view: MaxField,
+    typeSystem: TypeSystem
+) : BoundedFieldGenerator(view, MAX, typeSystem) {
 
     private val bound = view.bound
+
+    override val bounds: List<NumericBound> = listOf(bound)
     private val isExclusive = bound.exclusive
 
     override val boundPrimitive: ValueCase = bound.valueCase
@@ -97,6 +104,12 @@ private class GenerateMax(private val view: MaxField) : BoundedFieldGenerator(vi
         }
     }
 
+    override fun alwaysWithinBounds(): Boolean =
+        bound.isTypeLimit(lower = false)
+
+    override fun defaultWithinBounds(): Boolean =
+        bound.admitsZero(lower = false)
+
     override fun supportedPlaceholders(
         fieldPath: Expression<FieldPath>,
         typeName: Expression<String>,
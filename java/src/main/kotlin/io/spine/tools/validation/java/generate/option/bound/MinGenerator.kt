@@ -33,7 +33,9 @@ import io.spine.tools.compiler.ast.name
 import io.spine.tools.compiler.jvm.Expression
 import io.spine.tools.compiler.jvm.StringLiteral
 import io.spine.tools.compiler.jvm.call
+import io.spine.tools.compiler.type.TypeSystem
 import io.spine.tools.validation.bound.MinField
+import io.spine.tools.validation.bound.NumericBound
 import io.spine.tools.validation.bound.NumericBound.ValueCase
 import io.spine.tools.validation.bound.NumericBound.ValueCase.UINT32_VALUE
 import io.spine.tools.validation.bound.NumericBound.ValueCase.UINT64_VALUE
@@ -68,16 +70,21 @@ internal class MinGenerator : OptionGenerator() {
     override fun codeFor(type: TypeName): List<SingleOptionCode> =
         allMinFields
             .filter { it.id.type == type }
-            .map { GenerateMin(it).code() }
+            .mapNotNull { GenerateMin(it, typeSystem).code() }
 }
 
 /**
  * Generates code for a single application of the `(min)` option
  * represented by the [view].
  */
-private class GenerateMin(private val view: MinField) : BoundedFieldGenerator(view, MIN) {
+private class GenerateMin(
+    private val view: MinField,
+    typeSystem: TypeSystem
+) : BoundedFieldGenerator(view, MIN, typeSystem) {
 
     private val bound = view.bound
+
+    override val bounds: List<NumericBound> = listOf(bound)
     private val isExclusive = bound.exclusive
 
     override val boundPrimitive: ValueCase = bound.valueCase
@@ -97,6 +104,12 @@ private class GenerateMin(private val view: MinField) : BoundedFieldGenerator(vi
         }
     }
 
+    override fun alwaysWithinBounds(): Boolean =
+        bound.isTypeLimit(lower = true)
+
+    override fun defaultWithinBounds(): Boolean =
+        bound.admitsZero(lower = true)
+
     override fun supportedPlaceholders(
         fieldPath: Expression<FieldPath>,
         typeName: Expression<String>,
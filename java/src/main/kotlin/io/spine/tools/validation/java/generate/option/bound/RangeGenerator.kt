@@ -34,6 +34,8 @@ import io.spine.tools.compiler.jvm.Expression
 import io.spine.tools.compiler.jvm.StringLiteral
 import io.spine.tools.compiler.jvm.call
 import io.spine.tools.compiler.jvm.plus
+import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.validation.bound.NumericBound
 import io.spine.tools.validation.bound.NumericBound.ValueCase
 import io.spine.tools.validation.bound.NumericBound.ValueCase.UINT32_VALUE
 import io.spine.tools.validation.bound.NumericBound.ValueCase.UINT64_VALUE
@@ -68,7 +70,7 @@ internal class RangeGenerator : OptionGenerator() {
     override fun codeFor(type: TypeName): List<SingleOptionCode> =
         allRangeFields
             .filter { it.id.type == type }
-            .map { GenerateRange(it).code() }
+            .mapNotNull { GenerateRange(it, typeSystem).code() }
 }
 
 /**
@@ -76,12 +78,15 @@ internal class RangeGenerator : OptionGenerator() {
  * represented by the [view].
  */
 private class GenerateRange(
-    private val view: RangeField
-) : BoundedFieldGenerator(view, RANGE) {
+    private val view: RangeField,
+    typeSystem: TypeSystem
+) : BoundedFieldGenerator(view, RANGE, typeSystem) {
 
     private val lower = view.lowerBound
     private val upper = view.upperBound
 
+    override val bounds: List<NumericBound> = listOf(lower, upper)
+
     override val boundPrimitive: ValueCase = lower.valueCase
 
     /**
@@ -109,6 +114,12 @@ private class GenerateRange(
         }
     }
 
+    override fun alwaysWithinBounds(): Boolean =
+        lower.isTypeLimit(lower = true) && upper.isTypeLimit(lower = false)
+
+    override fun defaultWithinBounds(): Boolean =
+        lower.admitsZero(lower = true) && upper.admitsZero(lower = false)
+
     override fun supportedPlaceholders(
         fieldPath: Expression<FieldPath>,
         typeName: Expression<String>,
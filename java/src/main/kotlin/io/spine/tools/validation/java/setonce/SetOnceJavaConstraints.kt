@@ -69,7 +69,7 @@ internal sealed class SetOnceJavaConstraints<T>(
     private val errorTemplate: String
 ) {
 
-    private companion object {
+    internal companion object {
 
         /**
          * The signature of `mergeFrom(CodedInputStream)` method.
@@ -148,28 +148,49 @@ internal sealed class SetOnceJavaConstraints<T>(
      * the beginning of the reading block is the same for all message fields because it doesn't
      * include the field name. Differentiation is done way further.
      *
+     * Pass [presence] for fields, whose current value is expensive to obtain. When
+     * the field is not present in the builder, the current value is not read, and
+     * the postcondition is skipped altogether. This is the usual case of parsing
+     * into a fresh builder.
+     *
      * @param currentValue The current field value.
      * @param readerStartsWith The beginning of the field reading block.
      * @param readerContains An arbitrary code that must be present within the reading block.
+     * @param presence A cheap expression telling if the field currently has a value.
      */
     protected fun PsiClass.alterBytesMerge(
         currentValue: Expression<T>,
         readerStartsWith: String,
         readerContains: String = readerStartsWith,
+        presence: Expression<Boolean>? = null
     ) {
 
         val mergeFromBytes = methodWithSignature(MergeFromBytesSignature).body!!
         val fieldReading = mergeFromBytes.getFirstByText(readerStartsWith, readerContains)
         val fieldCaseBlock = fieldReading.parent
 
-        val previousValue = InitVar("previous", currentValue)
+        val previousValue = if (presence == null) {
+            InitVar("previous", currentValue)
+        } else {
+            InitVar("previous", Expression<T>("$presence ? $currentValue : null"))
+        }
         fieldCaseBlock.addBefore(previousValue.toPsi(), fieldReading)
 
         val postcondition = throwIfNotDefaultAndNotSame(
             currentValue = previousValue.read(),
             newValue = currentValue,
         )
-        fieldCaseBlock.addAfter(postcondition, fieldReading)
+        val guarded = if (presence == null) {
+            postcondition
+        } else {
+            elementFactory.createStatement(
+                """
+                if (${previousValue.read()} != null) {
+                    ${postcondition.text}
+                }""".trimIndent()
+            )
+        }
+        fieldCaseBlock.addAfter(guarded, fieldReading)
     }
 
     /**
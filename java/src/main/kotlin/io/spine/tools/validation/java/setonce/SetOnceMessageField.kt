@@ -73,7 +73,8 @@ internal class SetOnceMessageField(
         alterBytesMerge(
             currentValue = Expression(fieldGetter),
             readerStartsWith = "input.readMessage",
-            readerContains = "internalGet${fieldNameCamel}FieldBuilder().getBuilder()"
+            readerContains = "internalGet${fieldNameCamel}FieldBuilder().getBuilder()",
+            presence = Expression("has$fieldNameCamel()")
         )
     }
 
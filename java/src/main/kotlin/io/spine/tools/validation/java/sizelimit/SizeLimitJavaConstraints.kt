@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.sizelimit
+
+import com.intellij.psi.PsiBlockStatement
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiCodeBlock
+import com.intellij.psi.PsiJavaFile
+import com.intellij.psi.PsiMethodCallExpression
+import com.intellij.psi.PsiSwitchLabelStatement
+import com.intellij.psi.PsiWhileStatement
+import com.intellij.psi.util.PsiTreeUtil
+import io.spine.string.camelCase
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.ast.FieldType
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_BYTES
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_DOUBLE
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FIXED32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FIXED64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FLOAT
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_SFIXED32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_SFIXED64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_STRING
+import io.spine.tools.compiler.ast.isList
+import io.spine.tools.compiler.ast.isMap
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.jvm.javaCase
+import io.spine.tools.compiler.jvm.javaClassName
+import io.spine.tools.compiler.jvm.render.findClass
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.execute
+import io.spine.tools.psi.java.methodWithSignature
+import io.spine.tools.validation.SizeLimitField
+import io.spine.tools.validation.java.expression.SizeLimitsClass
+import io.spine.tools.validation.java.setonce.SetOnceJavaConstraints.Companion.MergeFromBytesSignature
+
+/**
+ * Renders Java code enforcing the `(size_limit)` option for the field of the given [view].
+ *
+ * The code is rendered into the `mergeFrom(CodedInputStream)` method of the message builder.
+ * The method reads the message field-by-field, handling each field tag in a separate
+ * `case` block of the `switch` statement.
+ *
+ * For `max_count`, the rendered code checks the current number of elements before
+ * each element is read. For a packed repeated field, the check is done within the loop
+ * reading the packed elements.
+ *
+ * For `max_bytes`, the calls reading a `string` or `bytes` value are replaced with
+ * the corresponding methods of [io.spine.validation.SizeLimits]. They read the length
+ * prefix of the value and check it before allocating the value itself.
+ *
+ * @param view The view of the field with the option.
+ * @param typeSystem The type system to resolve types.
+ */
+internal class SizeLimitJavaConstraints(
+    private val view: SizeLimitField,
+    typeSystem: TypeSystem
+) {
+
+    private val field = view.subject
+    private val declaringMessageClass = field.declaringType.javaClassName(typeSystem)
+    private val countGetter = "get${field.name.javaCase().camelCase()}Count()"
+    private val typeNameLiteral = "\"${field.declaringType.qualifiedName}\""
+    private val fieldNameLiteral = "\"${field.name.value}\""
+
+    /**
+     * Renders the size checks in the given [sourceFile].
+     *
+     * @param sourceFile Protobuf-generated Java source code of the message declared the field.
+     */
+    fun render(sourceFile: SourceFile<Java>) {
+        val messageBuilder = declaringMessageClass.nested("Builder")
+        val psiFile = sourceFile.psi() as PsiJavaFile
+        val psiClass = psiFile.findClass(messageBuilder)
+
+        execute {
+            psiClass.renderConstraints()
+        }
+
+        sourceFile.overwrite(psiFile.text)
+    }
+
+    private fun PsiClass.renderConstraints() {
+        val mergeFromBytes = methodWithSignature(MergeFromBytesSignature).body!!
+        val lengthDelimited = mergeFromBytes.caseBlock(tag(WIRE_TYPE_LENGTH_DELIMITED))
+        if (view.maxCount > 0) {
+            limitCount(mergeFromBytes, lengthDelimited)
+        }
+        if (view.maxBytes > 0) {
+            limitBytes(lengthDelimited!!)
+        }
+    }
+
+    /**
+     * Adds the element count checks to the case blocks reading the field.
+     *
+     * @param mergeFromBytes The body of the merge method.
+     * @param lengthDelimited The case block reading a length-delimited value of the field.
+     */
+    private fun limitCount(mergeFromBytes: PsiCodeBlock, lengthDelimited: PsiCodeBlock?) {
+        val elementWireType = field.type.elementWireType()
+        if (elementWireType == WIRE_TYPE_LENGTH_DELIMITED) {
+            lengthDelimited!!.insertCountCheck()
+            return
+        }
+        mergeFromBytes.caseBlock(tag(elementWireType))?.insertCountCheck()
+        lengthDelimited?.let {
+            val packedLoop = PsiTreeUtil.findChildOfType(it, PsiWhileStatement::class.java)!!
+            val loopBody = packedLoop.body as PsiBlockStatement
+            loopBody.codeBlock.insertCountCheck()
+        }
+    }
+
+    private fun PsiCodeBlock.insertCountCheck() {
+        val check = elementFactory.createStatementFromText(
+            "$SizeLimitsClass.checkCount($countGetter, ${view.maxCount}," +
+                    " $typeNameLiteral, $fieldNameLiteral);", null
+        )
+        addAfter(check, lBrace)
+    }
+
+    /**
+     * Replaces the calls reading a `string` or `bytes` value within the given case block
+     * with their length-checking counterparts.
+     */
+    private fun limitBytes(caseBlock: PsiCodeBlock) {
+        PsiTreeUtil.findChildrenOfType(caseBlock, PsiMethodCallExpression::class.java)
+            .filter { it.methodExpression.text in SIZED_READERS }
+            .forEach { call ->
+                val reader = call.methodExpression.referenceName
+                val limited = elementFactory.createExpressionFromText(
+                    "$SizeLimitsClass.$reader(input, ${view.maxBytes}," +
+                            " $typeNameLiteral, $fieldNameLiteral)", null
+                )
+                call.replace(limited)
+            }
+    }
+
+    private fun tag(wireType: Int): Int = tag(field.number, wireType)
+}
+
+/**
+ * Returns the tag of the field with the given [number] written with the given [wireType].
+ */
+internal fun tag(number: Int, wireType: Int): Int = (number shl TAG_TYPE_BITS) or wireType
+
+/**
+ * Finds the block of the `case` label for the given [tag] within this `switch` body.
+ *
+ * Returns `null` if there is no such label.
+ */
+internal fun PsiCodeBlock.caseBlock(tag: Int): PsiCodeBlock? {
+    val label = PsiTreeUtil.findChildrenOfType(this, PsiSwitchLabelStatement::class.java)
+        .firstOrNull { it.text.trim() == "case $tag:" }
+        ?: return null
+    val block = PsiTreeUtil.getNextSiblingOfType(label, PsiBlockStatement::class.java)
+    return block?.codeBlock
+}
+
+/**
+ * Returns the wire type used to write a single element of this collection type.
+ */
+private fun FieldType.elementWireType(): Int {
+    check(isList || isMap) {
+        "Only `repeated` and `map` fields have elements. The passed type: `$this`."
+    }
+    return when {
+        isMap -> WIRE_TYPE_LENGTH_DELIMITED
+        list.isEnum -> WIRE_TYPE_VARINT
+        list.isPrimitive -> list.primitive.wireType()
+        else -> WIRE_TYPE_LENGTH_DELIMITED
+    }
+}
+
+/**
+ * Returns the wire type used to write a value of this primitive type.
+ */
+internal fun PrimitiveType.wireType(): Int = when (this) {
+    TYPE_DOUBLE, TYPE_FIXED64, TYPE_SFIXED64 -> WIRE_TYPE_FIXED64
+    TYPE_FLOAT, TYPE_FIXED32, TYPE_SFIXED32 -> WIRE_TYPE_FIXED32
+    TYPE_STRING, TYPE_BYTES -> WIRE_TYPE_LENGTH_DELIMITED
+    else -> WIRE_TYPE_VARINT
+}
+
+/**
+ * The `CodedInputStream` calls replaced by the methods checking the length of the value.
+ */
+private val SIZED_READERS = setOf(
+    "input.readStringRequireUtf8",
+    "input.readString",
+    "input.readBytes",
+)
+
+private const val TAG_TYPE_BITS = 3
+private const val WIRE_TYPE_VARINT = 0
+private const val WIRE_TYPE_FIXED64 = 1
+private const val WIRE_TYPE_LENGTH_DELIMITED = 2
+private const val WIRE_TYPE_FIXED32 = 5
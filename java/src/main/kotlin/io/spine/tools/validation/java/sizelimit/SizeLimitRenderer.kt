@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.sizelimit
+
+import io.spine.server.query.Querying
+import io.spine.server.query.select
+import io.spine.tools.compiler.jvm.file.hasJavaRoot
+import io.spine.tools.compiler.jvm.render.JavaRenderer
+import io.spine.tools.compiler.jvm.render.findMessageTypes
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.validation.SizeLimitField
+
+/**
+ * Takes the discovered [SizeLimitField]s and modifies the parsing code of their
+ * Java builders to reject oversize values.
+ *
+ * The limits are enforced in the `mergeFrom(CodedInputStream)` method of the builder,
+ * so that an oversize value is rejected before it is allocated.
+ * Take a look at [SizeLimitJavaConstraints] for details.
+ */
+internal class SizeLimitRenderer : JavaRenderer() {
+
+    override fun render(sources: SourceFileSet) {
+        // We receive `grpc` and `kotlin` output sources roots here as well.
+        // As for now, we modify only `java` sources.
+        if (!sources.hasJavaRoot) {
+            return
+        }
+
+        val allCompilationMessages = findMessageTypes().associateBy { it.name }
+        (this as Querying).select<SizeLimitField>().all()
+            .associateWith { allCompilationMessages[it.id.type]!! }
+            .forEach { (view, declaredIn) ->
+                val javaConstraints = SizeLimitJavaConstraints(view, typeSystem)
+                val sourceFile = sources.javaFileOf(declaredIn)
+                javaConstraints.render(sourceFile)
+            }
+    }
+}
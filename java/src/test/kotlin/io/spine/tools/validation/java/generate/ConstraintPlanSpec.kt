@@ -0,0 +1,501 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.generate
+
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.ints.shouldBeLessThan
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.ast.FieldName
+import io.spine.tools.compiler.ast.FieldType
+import io.spine.tools.compiler.ast.OneofName
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.ast.TypeName
+import io.spine.tools.compiler.jvm.CodeBlock
+import io.spine.tools.compiler.jvm.Expression
+import io.spine.tools.compiler.jvm.FieldDeclaration
+import io.spine.tools.compiler.jvm.MethodDeclaration
+import io.spine.tools.validation.java.expression.PatternClass
+import io.spine.tools.validation.java.generate.option.GoesGenerator
+import io.spine.tools.validation.java.generate.option.PatternGenerator
+import io.spine.tools.validation.java.generate.option.RequiredGenerator
+import io.spine.tools.validation.java.generate.option.ValidateGenerator
+import io.spine.tools.validation.java.generate.option.bound.MinGenerator
+import io.spine.validation.ConstraintProfile
+import io.spine.validation.ConstraintStats
+import java.util.regex.Pattern
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ConstraintPlan` should")
+internal class ConstraintPlanSpec {
+
+    @Test
+    fun `check constraints in the order of their generation`() {
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                CustomGenerator() to listOf(code("custom();")),
+                ValidateGenerator() to listOf(code("nested();")),
+                PatternGenerator() to listOf(code("pattern();")),
+                RequiredGenerator() to listOf(code("required1();"), code("required2();")),
+            )
+        )
+
+        plan.constraints.map { it.toString() } shouldBe listOf(
+            "custom();",
+            "nested();",
+            "pattern();",
+            "required1();",
+            "required2();",
+        )
+    }
+
+    @Test
+    fun `look for the first violation from the cheapest to the most expensive constraint`() {
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                CustomGenerator() to listOf(code("custom();")),
+                ValidateGenerator() to listOf(code("nested();")),
+                PatternGenerator() to listOf(code("pattern();")),
+                RequiredGenerator() to listOf(code("required1();"), code("required2();")),
+            )
+        )
+
+        plan.failFastConstraints.map { it.toString().lines().first() } shouldBe listOf(
+            "required1();",
+            "required2();",
+            "pattern();",
+            "nested();",
+            "custom();",
+        )
+        plan.failFastConstraints.forEach {
+            it.toString() shouldContain "return java.util.Optional.of(violations.get(0));"
+        }
+    }
+
+    @Test
+    fun `declare the same supporting field once`() {
+        val shared = patternField("shared_abc")
+        val plan = ConstraintPlan(
+            type,
+            mapOf(
+                PatternGenerator() to listOf(
+                    code("shared_abc.matcher(a);", shared),
+                    SingleOptionCode(
+                        CodeBlock("check();"),
+                        listOf(shared),
+                        listOf(MethodDeclaration("private void check() { shared_abc.matcher(b); }"))
+                    ),
+                )
+            )
+        )
+
+        plan.fields shouldBe listOf(shared)
+        plan.constraints.map { it.toString() } shouldBe listOf(
+            "shared_abc.matcher(a);",
+            "check();"
+        )
+    }
+
+    @Test
+    fun `keep the fields having different values`() {
+        val plan = ConstraintPlan(
+            type,
+            mapOf(
+                PatternGenerator() to listOf(
+                    code("a_1.matcher(a);", patternField("a_1", regex = "a")),
+                    code("b_1.matcher(b);", patternField("b_1", regex = "b")),
+                )
+            )
+        )
+
+        plan.fields shouldHaveSize 2
+        plan.constraints.map { it.toString() } shouldBe listOf(
+            "a_1.matcher(a);",
+            "b_1.matcher(b);"
+        )
+    }
+
+    @Test
+    fun `look for the first violation by the violation rate in the profile and the cost`() {
+        val required = RequiredGenerator()
+        val pattern = PatternGenerator()
+        val (id, name) = listOf(scalarField("id", 1), scalarField("name", 2))
+        val profile = ConstraintProfile(
+            mapOf(
+                "acme.Order/required/2" to ConstraintStats(100, 1),
+                "acme.Order/pattern/1" to ConstraintStats(100, 50),
+            )
+        )
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                required to listOf(
+                    code("required0();", dependsOn = listOf(id)),
+                    code("required1();", dependsOn = listOf(name))
+                ),
+                pattern to listOf(
+                    code("pattern0();", dependsOn = listOf(id)),
+                    code("pattern1();", dependsOn = listOf(name))
+                ),
+            ),
+            profile
+        )
+
+        val checked = plan.failFastConstraints.map { it.toString() }
+        val order = listOf("pattern0();", "required1();", "required0();", "pattern1();")
+            .map { constraint -> checked.indexOfFirst { it.contains(constraint) } }
+        order shouldBe listOf(0, 1, 2, 3)
+        plan.constraints.map { it.toString() }.joinToString().let {
+            it.indexOf("required0();") shouldBeLessThan it.indexOf("pattern0();")
+        }
+    }
+
+    @Test
+    fun `record the checks of constraints if requested`() {
+        val plan = ConstraintPlan(
+            type,
+            mapOf(RequiredGenerator() to listOf(code("required();"))),
+            record = true
+        )
+
+        val constraint = plan.constraints.single().toString()
+        constraint shouldContain "required();"
+        constraint shouldContain
+                "ConstraintProfiler.record(\"acme.Order/required\","
+    }
+
+    @Test
+    fun `identify constraints by the option and the fields they depend on`() {
+        val (id, name) = listOf(scalarField("id", 1), scalarField("name", 2))
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                RequiredGenerator() to listOf(
+                    code("required();", dependsOn = listOf(name)),
+                    code("requiredAgain();", dependsOn = listOf(name)),
+                ),
+                GoesGenerator() to listOf(code("goes();", dependsOn = listOf(id, name))),
+                CustomGenerator() to listOf(code("custom();")),
+            ),
+            record = true
+        )
+
+        val (required, requiredAgain, goes, custom) = plan.constraints.map { it.toString() }
+        required shouldContain "\"acme.Order/required/2\""
+        requiredAgain shouldContain "\"acme.Order/required/2#1\""
+        goes shouldContain "\"acme.Order/goes/1+2\""
+        custom shouldContain "\"acme.Order/CustomGenerator\""
+    }
+
+    @Test
+    fun `check constraints of 'oneof' alternatives within a 'switch' over the set case`() {
+        val textField = oneofField("text", 1)
+        val codeField = oneofField("code", 2)
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                RequiredGenerator() to listOf(code("required();")),
+                PatternGenerator() to listOf(
+                    code("textPattern();", onlyIfSet = textField),
+                    code("codePattern();", onlyIfSet = codeField),
+                ),
+                ValidateGenerator() to listOf(code("textNested();", onlyIfSet = textField)),
+            )
+        )
+
+        plan.constraints shouldHaveSize 2
+        plan.constraints[0].toString() shouldBe "required();"
+        val switch = plan.constraints[1].toString()
+        switch shouldContain "switch (bodyCase_)"
+        switch.indexOf("case 1 ->") shouldBeLessThan switch.indexOf("textPattern();")
+        switch.indexOf("textPattern();") shouldBeLessThan switch.indexOf("textNested();")
+        switch.indexOf("textNested();") shouldBeLessThan switch.indexOf("case 2 ->")
+        switch.indexOf("case 2 ->") shouldBeLessThan switch.indexOf("codePattern();")
+    }
+
+    @Test
+    fun `not switch over synthetic groups of 'optional' fields`() {
+        val optional = oneofField("note", 1, group = "_note")
+        val plan = ConstraintPlan(
+            type,
+            mapOf(PatternGenerator() to listOf(code("notePattern();", onlyIfSet = optional)))
+        )
+
+        plan.constraints.map { it.toString() } shouldBe listOf("notePattern();")
+    }
+
+    @Test
+    fun `check constraints only if the fields they depend on are selected`() {
+        val first = oneofField("first", 1, group = "_first")
+        val second = oneofField("second", 2, group = "_second")
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                RequiredGenerator() to listOf(
+                    SingleOptionCode(CodeBlock("required();"), dependsOn = listOf(first, second))
+                ),
+                CustomGenerator() to listOf(code("custom();")),
+            )
+        )
+
+        val (required, custom) = plan.constraints.map { it.toString() }
+        required shouldContain
+                "if (selection == null || selection.includes(1) || selection.includes(2))"
+        required shouldContain "required();"
+        custom shouldBe "custom();"
+    }
+
+    @Test
+    fun `skip constraints of the options skipped by the active validation profile`() {
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                RequiredGenerator() to listOf(code("required();")),
+                PatternGenerator() to listOf(code("pattern();")),
+                CustomGenerator() to listOf(code("custom();")),
+            ),
+            profiles = mapOf(
+                "trusted" to setOf("pattern"),
+                "structural" to setOf("pattern", "validate"),
+            )
+        )
+
+        val (declaration, required, pattern, custom) = plan.constraints.map { it.toString() }
+        declaration shouldContain "var activeProfile = "
+        declaration shouldContain "ValidationProfile.active();"
+        required shouldBe "required();"
+        pattern shouldContain
+                "if (!\"structural\".equals(activeProfile) && !\"trusted\".equals(activeProfile))"
+        pattern shouldContain "pattern();"
+        custom shouldBe "custom();"
+    }
+
+    @Test
+    fun `not obtain the active validation profile if no constraint is skipped`() {
+        val plan = ConstraintPlan(
+            type,
+            mapOf(RequiredGenerator() to listOf(code("required();"))),
+            profiles = mapOf("structural" to setOf("pattern"))
+        )
+
+        plan.constraints.map { it.toString() } shouldBe listOf("required();")
+    }
+
+    @Test
+    fun `reject validation profiles with invalid names or unknown options`() {
+        assertThrows<IllegalStateException> {
+            checkValidationProfiles(mapOf("\"); hack(); \"" to setOf("pattern")))
+        }
+        assertThrows<IllegalStateException> {
+            checkValidationProfiles(mapOf("trusted" to setOf("patern")))
+        }
+        checkValidationProfiles(mapOf("trusted-internal" to setOf("pattern", "validate")))
+    }
+
+    @Test
+    fun `offer the checks of single scalar fields to run on parse`() {
+        val shipmentCode = scalarField("code", 2)
+        val weight = scalarField("weight", 3, PrimitiveType.TYPE_INT32)
+        val plan = ConstraintPlan(
+            type,
+            mapOf(
+                RequiredGenerator() to listOf(
+                    code("required();", dependsOn = listOf(shipmentCode))
+                ),
+                PatternGenerator() to listOf(
+                    code("pattern();", dependsOn = listOf(shipmentCode))
+                ),
+                MinGenerator() to listOf(
+                    code("min();", dependsOn = listOf(weight)),
+                    code("minOfField();", dependsOn = listOf(weight, shipmentCode)),
+                ),
+            )
+        )
+
+        plan.parseChecks.keys shouldBe setOf(shipmentCode, weight)
+        plan.parseChecks[shipmentCode]!!.map { it.toString() } shouldBe listOf("pattern();")
+        plan.parseChecks[weight]!!.map { it.toString() } shouldBe listOf("min();")
+    }
+
+    @Test
+    fun `not check again after parse the constraints violated only by set fields`() {
+        val shipmentCode = scalarField("code", 2)
+        val weight = scalarField("weight", 3, PrimitiveType.TYPE_INT32)
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                RequiredGenerator() to listOf(
+                    code("required();", dependsOn = listOf(shipmentCode))
+                ),
+                PatternGenerator() to listOf(
+                    code("pattern();", onlyIfSet = shipmentCode, dependsOn = listOf(shipmentCode))
+                ),
+                MinGenerator() to listOf(code("min();", dependsOn = listOf(weight))),
+            )
+        )
+
+        val afterParse = plan.constraintsAfterParse.joinToString { it.toString() }
+        afterParse shouldContain "required();"
+        afterParse shouldContain "min();"
+        afterParse shouldNotContain "pattern();"
+        plan.constraints shouldHaveSize 3
+    }
+
+    @Test
+    fun `not check on parse the constraints skipped by profiles`() {
+        val shipmentCode = scalarField("code", 2)
+        val plan = ConstraintPlan(
+            type,
+            mapOf(
+                PatternGenerator() to listOf(code("pattern();", dependsOn = listOf(shipmentCode)))
+            ),
+            profiles = mapOf("trusted" to setOf("pattern"))
+        )
+
+        plan.parseChecks shouldBe emptyMap()
+    }
+
+    @Test
+    fun `let the builder check each constraint separately`() {
+        val shipmentCode = scalarField("code", 2)
+        val plan = ConstraintPlan(
+            type,
+            linkedMapOf(
+                RequiredGenerator() to listOf(
+                    code("required();", dependsOn = listOf(shipmentCode))
+                ),
+                PatternGenerator() to listOf(code("pattern();")),
+            ),
+            profiles = mapOf("trusted" to setOf("pattern"))
+        )
+
+        val (required, pattern) = plan.builderConstraints!!
+        required.first.toString() shouldBe "required();"
+        required.second shouldBe listOf(shipmentCode)
+        pattern.first.toString() shouldContain "!\"trusted\".equals(activeProfile)"
+        pattern.second shouldBe null
+    }
+
+    @Test
+    fun `not let the builder check the constraints of custom options`() {
+        val plan = ConstraintPlan(
+            type,
+            mapOf(
+                RequiredGenerator() to listOf(code("required();")),
+                CustomGenerator() to listOf(code("custom();")),
+            )
+        )
+
+        plan.builderConstraints shouldBe null
+    }
+
+    @Test
+    fun `inline the constraints reading the fields via getters`() {
+        val required = code("required();")
+        val min = code("min();")
+        val inlined = inlinableConstraints(
+            mapOf(
+                RequiredGenerator() to listOf(required),
+                MinGenerator() to listOf(min),
+                CustomGenerator() to emptyList()
+            ),
+            profiles = emptyMap()
+        )
+
+        inlined shouldBe listOf(required, min)
+    }
+
+    @Test
+    fun `not inline the constraints using supporting members`() {
+        val generated = mapOf(
+            RequiredGenerator() to listOf(code("required();")),
+            PatternGenerator() to listOf(code("pattern();", patternField("pattern_abc"))),
+        )
+
+        inlinableConstraints(generated, profiles = emptyMap()) shouldBe null
+    }
+
+    @Test
+    fun `not inline the constraints skipped by profiles`() {
+        val generated = mapOf(RequiredGenerator() to listOf(code("required();")))
+
+        inlinableConstraints(generated, mapOf("trusted" to setOf("required"))) shouldBe null
+    }
+}
+
+private fun scalarField(
+    name: String,
+    number: Int,
+    type: PrimitiveType = PrimitiveType.TYPE_STRING
+): Field =
+    Field.newBuilder()
+        .setName(FieldName.newBuilder().setValue(name))
+        .setNumber(number)
+        .setType(FieldType.newBuilder().setPrimitive(type))
+        .build()
+
+private fun oneofField(name: String, number: Int, group: String = "body"): Field =
+    Field.newBuilder()
+        .setName(FieldName.newBuilder().setValue(name))
+        .setNumber(number)
+        .setOneofName(OneofName.newBuilder().setValue(group))
+        .build()
+
+private val type = TypeName.newBuilder()
+    .setPackageName("acme")
+    .setSimpleName("Order")
+    .build()
+
+private class CustomGenerator : OptionGenerator() {
+    override fun codeFor(type: TypeName): List<SingleOptionCode> = emptyList()
+}
+
+private fun code(
+    constraint: String,
+    vararg fields: FieldDeclaration<*>,
+    onlyIfSet: Field? = null,
+    dependsOn: List<Field>? = null
+) = SingleOptionCode(
+    CodeBlock(constraint),
+    fields.toList(),
+    violatedOnlyIfSet = onlyIfSet,
+    dependsOn = dependsOn
+)
+
+private fun patternField(name: String, regex: String = "[a-z]+") =
+    FieldDeclaration<Pattern>(
+        modifiers = "private static final",
+        type = PatternClass,
+        name = name,
+        value = Expression("$PatternClass.compile(\"$regex\")")
+    )
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.validation.java.generate
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.spine.tools.compiler.jvm.CodeBlock
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`CodeBlock.rebound()` should")
+internal class InlinedCodeSpec {
+
+    private val variables = mapOf(
+        "parentPath" to "inlined1Path",
+        "parentName" to "inlined1TypeName",
+    )
+
+    @Test
+    fun `call the methods of the validated message on the receiver`() {
+        val code = CodeBlock("if (!hasName()) { report(getName()); }")
+
+        val rebound = code.rebound("inlined1", variables)
+
+        rebound.toString() shouldBe "if (!inlined1.hasName()) { inlined1.report(inlined1.getName()); }"
+    }
+
+    @Test
+    fun `keep the qualified calls as is`() {
+        val code = CodeBlock("violations.add(parentPath.toBuilder().build());")
+
+        val rebound = code.rebound("inlined1", variables)
+
+        rebound.toString() shouldBe "violations.add(inlined1Path.toBuilder().build());"
+    }
+
+    @Test
+    fun `replace only the references to the given variables`() {
+        val code = CodeBlock(
+            """
+            var parentPathCopy = parentPath;
+            var name = parentName == null ? this.parentName : parentName;
+            """.trimIndent()
+        )
+
+        val rebound = code.rebound("inlined1", variables).toString()
+
+        rebound shouldContain "var parentPathCopy = inlined1Path;"
+        rebound shouldContain "this.parentName"
+        rebound shouldNotContain " parentName == null"
+    }
+}
@@ -28,6 +28,7 @@
 
 import io.spine.dependency.lib.AutoService
 import io.spine.dependency.lib.AutoServiceKsp
+import io.spine.dependency.lib.GraalVm
 import io.spine.dependency.local.Base
 import io.spine.dependency.local.Spine
 import io.spine.dependency.local.TestLib
@@ -68,6 +69,7 @@ dependencies {
     ksp(AutoServiceKsp.processor)
     annotationProcessor(AutoService.processor)
     compileOnly(AutoService.annotations)
+    compileOnly(GraalVm.nativeImage)
 
     api(Base.lib)
 
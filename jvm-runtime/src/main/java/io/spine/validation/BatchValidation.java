@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import io.spine.type.KnownTypes;
+import io.spine.type.TypeUrl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static io.spine.protobuf.AnyPacker.unpack;
+import static io.spine.validation.ParallelValidation.chunkSize;
+import static io.spine.validation.ParallelValidation.join;
+
+/**
+ * Validates messages of a batch, collecting their violations up to the given limit.
+ *
+ * <p>The instance caches the results of lookups, which are the same for all messages
+ * of the same type: resolution of the classes of packed {@link Any} messages, and
+ * presence of validators in {@link ValidatorRegistry}. This way, the cost of
+ * the lookups is paid once per type rather than once per message.
+ *
+ * <p>The instances are not thread-safe. Each thread validating a part of
+ * the batch should use its own instance.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr" /* See `Validate` for details. */)
+final class BatchValidation {
+
+    private final int violationLimit;
+    private final Map<String, Optional<Class<Message>>> packedClasses = new HashMap<>();
+    private final Map<Class<? extends Message>, Boolean> withValidators = new HashMap<>();
+    private final TreeMap<Integer, ImmutableList<ConstraintViolation>> byIndex = new TreeMap<>();
+    private int collected;
+    private boolean truncated;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param violationLimit
+     *         the maximum number of violations to collect
+     */
+    BatchValidation(int violationLimit) {
+        this.violationLimit = violationLimit;
+    }
+
+    /**
+     * Validates the given messages splitting them into chunks validated
+     * on the given executor.
+     *
+     * @param messages
+     *         the messages to validate
+     * @param executor
+     *         the executor to validate the chunks
+     * @param violationLimit
+     *         the maximum number of violations to collect
+     * @return the violations in the order of the messages
+     */
+    static BatchViolations inParallel(List<? extends Message> messages,
+                                      Executor executor,
+                                      int violationLimit) {
+        var size = messages.size();
+        var chunkSize = chunkSize(size);
+        var chunks = new ArrayList<CompletableFuture<BatchValidation>>();
+        for (var from = 0; from < size; from += chunkSize) {
+            var start = from;
+            var chunk = messages.subList(from, Math.min(from + chunkSize, size));
+            var future = CompletableFuture.supplyAsync(() -> {
+                var validation = new BatchValidation(violationLimit);
+                for (var i = 0; i < chunk.size() && !validation.isFull(); i++) {
+                    validation.validate(start + i, chunk.get(i));
+                }
+                return validation;
+            }, executor);
+            chunks.add(future);
+        }
+        var result = new BatchValidation(violationLimit);
+        for (var chunk : chunks) {
+            result.append(join(chunk));
+        }
+        return result.result();
+    }
+
+    /**
+     * Tells if the limit of the collected violations is reached.
+     *
+     * <p>Once the limit is reached, there is no need to validate further messages.
+     */
+    boolean isFull() {
+        return truncated;
+    }
+
+    /**
+     * Validates the given message recording its violations under the given index.
+     */
+    void validate(int index, Message message) {
+        if (truncated) {
+            return;
+        }
+        var violations = violationsOf(message);
+        if (!violations.isEmpty()) {
+            add(index, violations);
+        }
+    }
+
+    /**
+     * Appends the violations collected by the given instance, which
+     * validated the messages following the ones validated by this instance.
+     */
+    void append(BatchValidation following) {
+        for (var entry : following.byIndex.entrySet()) {
+            if (truncated) {
+                return;
+            }
+            add(entry.getKey(), entry.getValue());
+        }
+        truncated = truncated || following.truncated;
+    }
+
+    /**
+     * Records the given violations of the message with the given index.
+     *
+     * <p>If the violations do not fit into the limit, records only the fitting
+     * part of them, and marks the batch as truncated.
+     */
+    private void add(int index, List<ConstraintViolation> violations) {
+        var capacity = violationLimit - collected;
+        var accepted = violations.size() <= capacity
+                       ? violations
+                       : violations.subList(0, capacity);
+        if (!accepted.isEmpty()) {
+            byIndex.put(index, ImmutableList.copyOf(accepted));
+            collected += accepted.size();
+        }
+        if (accepted.size() < violations.size()) {
+            truncated = true;
+        }
+    }
+
+    /**
+     * Returns the collected violations.
+     */
+    BatchViolations result() {
+        return new BatchViolations(ImmutableSortedMap.copyOfSorted(byIndex), truncated);
+    }
+
+    /**
+     * Obtains violations of the given message in the same way as
+     * {@link Validate#violationsOf(Message)} does, but using the cached lookups.
+     */
+    private List<ConstraintViolation> violationsOf(Message message) {
+        var msg = message;
+        if (message instanceof Any packed) {
+            var cls = packedClass(packed);
+            if (cls.isPresent()) {
+                msg = unpack(packed, cls.get());
+            }
+        }
+        if (msg instanceof ValidatableMessage validatable) {
+            var error = validatable.validate();
+            return error.map(ValidationError::getConstraintViolationList)
+                        .orElse(ImmutableList.of());
+        }
+        var hasValidators = withValidators.computeIfAbsent(
+                msg.getClass(), cls -> !ValidatorRegistry.get(cls).isEmpty()
+        );
+        return hasValidators
+               ? ValidatorRegistry.validate(msg)
+               : ImmutableList.of();
+    }
+
+    /**
+     * Obtains the class of the message packed into the given {@code Any}.
+     *
+     * <p>Returns {@code Optional.empty()} for unknown types, reporting the type
+     * only once per batch.
+     */
+    private Optional<Class<Message>> packedClass(Any packed) {
+        return packedClasses.computeIfAbsent(packed.getTypeUrl(), url -> {
+            var typeUrl = TypeUrl.ofEnclosed(packed);
+            if (KnownTypes.instance().contains(typeUrl)) {
+                Class<Message> cls = typeUrl.toJavaClass();
+                return Optional.of(cls);
+            }
+            System.err.printf("Could not validate packed message of an unknown type `%s`.%n", url);
+            return Optional.empty();
+        });
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.Immutable;
+
+import java.util.List;
+
+/**
+ * Violations detected during validation of a batch of messages.
+ *
+ * <p>The violations are keyed by the index of the invalid message in the batch.
+ * Valid messages have no entries.
+ *
+ * <p>The number of the collected violations may be limited to cap the memory used
+ * by the result. If the limit is reached, the batch is reported as
+ * {@linkplain #isTruncated() truncated}. In this case, only the violations of
+ * the messages preceding the limit are present, and the rest of the batch
+ * may be not validated at all.
+ *
+ * @see Validate#violationsOfAll(Iterable)
+ */
+@Immutable
+public final class BatchViolations {
+
+    private final ImmutableSortedMap<Integer, ImmutableList<ConstraintViolation>> byIndex;
+    private final boolean truncated;
+
+    BatchViolations(ImmutableSortedMap<Integer, ImmutableList<ConstraintViolation>> byIndex,
+                    boolean truncated) {
+        this.byIndex = byIndex;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Returns the violations of invalid messages keyed by their indexes in the batch.
+     */
+    public ImmutableSortedMap<Integer, ImmutableList<ConstraintViolation>> byIndex() {
+        return byIndex;
+    }
+
+    /**
+     * Returns the violations of the message with the given index in the batch.
+     *
+     * @return the violations or an empty list if the message is valid
+     */
+    public List<ConstraintViolation> of(int index) {
+        var violations = byIndex.get(index);
+        return violations != null ? violations : ImmutableList.of();
+    }
+
+    /**
+     * Tells if no violations were found in the batch.
+     */
+    public boolean isEmpty() {
+        return byIndex.isEmpty();
+    }
+
+    /**
+     * Tells if the limit of the collected violations was reached, so that
+     * some violations were not collected.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
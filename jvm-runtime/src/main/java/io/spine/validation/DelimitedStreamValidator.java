@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.validation.ParallelValidation.join;
+
+/**
+ * Validates messages read from a stream of length-delimited records.
+ *
+ * <p>The records are expected in the format written by
+ * {@link com.google.protobuf.MessageLite#writeDelimitedTo MessageLite.writeDelimitedTo()}.
+ *
+ * <p>The records are parsed one by one on the calling thread. Each parsed message is
+ * {@linkplain Validate#violationsOf(Message) validated} on the configured executor,
+ * so that parsing of the next record overlaps with validation of the previous ones.
+ *
+ * <p>The number of messages being validated at the same time is limited by
+ * the {@linkplain Builder#setMaxInFlight(int) max in-flight} value. When the limit is
+ * reached, parsing waits for the validation of the oldest message to complete.
+ * This way, a slow validation holds back the reading of the stream, and the number of
+ * parsed messages kept in memory stays bounded.
+ *
+ * <p>The results are passed to the consumer on the calling thread in the order of
+ * the records in the stream.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var validator = DelimitedStreamValidator.newBuilder(Task.parser())
+ *         .setMaxInFlight(64)
+ *         .build();
+ * validator.validate(input, record -> {
+ *     if (!record.isValid()) {
+ *         reject(record.index(), record.violations());
+ *     }
+ * });
+ * }</pre>
+ *
+ * @param <M>
+ *         the type of messages in the stream
+ */
+public final class DelimitedStreamValidator<M extends Message> {
+
+    private final Parser<M> parser;
+    private final ExtensionRegistryLite extensionRegistry;
+    private final Executor executor;
+    private final int maxInFlight;
+
+    private DelimitedStreamValidator(Builder<M> builder) {
+        this.parser = builder.parser;
+        this.extensionRegistry = builder.extensionRegistry;
+        this.executor = builder.executor;
+        this.maxInFlight = builder.maxInFlight;
+    }
+
+    /**
+     * Creates a new builder of the validator for the messages parsed by the given parser.
+     */
+    public static <M extends Message> Builder<M> newBuilder(Parser<M> parser) {
+        checkNotNull(parser);
+        return new Builder<>(parser);
+    }
+
+    /**
+     * Reads the records from the given stream until its end, validating the messages.
+     *
+     * <p>The stream is not closed by this method.
+     *
+     * @param input
+     *         the stream of length-delimited records
+     * @param consumer
+     *         the consumer of the validation results
+     * @return the number of read records
+     * @throws IOException
+     *         if the stream cannot be read or a record cannot be parsed
+     */
+    @CanIgnoreReturnValue
+    public long validate(InputStream input, Consumer<? super ValidatedRecord<M>> consumer)
+            throws IOException {
+        checkNotNull(input);
+        checkNotNull(consumer);
+        var inFlight = new ArrayDeque<CompletableFuture<ValidatedRecord<M>>>(maxInFlight);
+        var index = 0L;
+        M message;
+        while ((message = parser.parseDelimitedFrom(input, extensionRegistry)) != null) {
+            if (inFlight.size() == maxInFlight) {
+                consumer.accept(join(inFlight.removeFirst()));
+            }
+            inFlight.addLast(validateAsync(index, message));
+            index++;
+        }
+        while (!inFlight.isEmpty()) {
+            consumer.accept(join(inFlight.removeFirst()));
+        }
+        return index;
+    }
+
+    /**
+     * Reads the records from the given channel until its end, validating the messages.
+     *
+     * <p>The channel is not closed by this method.
+     *
+     * @param channel
+     *         the channel of length-delimited records
+     * @param consumer
+     *         the consumer of the validation results
+     * @return the number of read records
+     * @throws IOException
+     *         if the channel cannot be read or a record cannot be parsed
+     * @see #validate(InputStream, Consumer)
+     */
+    @CanIgnoreReturnValue
+    public long validate(ReadableByteChannel channel,
+                         Consumer<? super ValidatedRecord<M>> consumer) throws IOException {
+        checkNotNull(channel);
+        var input = Channels.newInputStream(channel);
+        return validate(input, consumer);
+    }
+
+    private CompletableFuture<ValidatedRecord<M>> validateAsync(long index, M message) {
+        return CompletableFuture.supplyAsync(
+                () -> new ValidatedRecord<>(index, message, Validate.violationsOf(message)),
+                executor
+        );
+    }
+
+    /**
+     * The builder of {@link DelimitedStreamValidator}.
+     *
+     * @param <M>
+     *         the type of messages in the stream
+     */
+    public static final class Builder<M extends Message> {
+
+        private final Parser<M> parser;
+        private ExtensionRegistryLite extensionRegistry = ExtensionRegistryLite.getEmptyRegistry();
+        private Executor executor = ForkJoinPool.commonPool();
+        private int maxInFlight = 2 * Runtime.getRuntime().availableProcessors();
+
+        private Builder(Parser<M> parser) {
+            this.parser = parser;
+        }
+
+        /**
+         * Sets the extension registry to parse the records.
+         *
+         * <p>By default, the empty registry is used.
+         */
+        @CanIgnoreReturnValue
+        public Builder<M> setExtensionRegistry(ExtensionRegistryLite extensionRegistry) {
+            this.extensionRegistry = checkNotNull(extensionRegistry);
+            return this;
+        }
+
+        /**
+         * Sets the executor to validate the messages.
+         *
+         * <p>By default, the {@linkplain ForkJoinPool#commonPool() common pool} is used.
+         */
+        @CanIgnoreReturnValue
+        public Builder<M> setExecutor(Executor executor) {
+            this.executor = checkNotNull(executor);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of messages being validated at the same time.
+         *
+         * <p>The value limits both the parallelism of validation and the number of
+         * parsed messages awaiting their results.
+         *
+         * <p>By default, it is twice the number of available processors.
+         */
+        @CanIgnoreReturnValue
+        public Builder<M> setMaxInFlight(int maxInFlight) {
+            checkArgument(maxInFlight > 0,
+                          "The max number of in-flight messages must be positive." +
+                                  " Passed: %s.", maxInFlight);
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Creates a new validator.
+         */
+        public DelimitedStreamValidator<M> build() {
+            return new DelimitedStreamValidator<>(this);
+        }
+    }
+}
@@ -29,6 +29,7 @@ package io.spine.validation;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import com.google.protobuf.Message;
 import io.spine.annotation.Experimental;
 import io.spine.annotation.GeneratedMixin;
@@ -37,12 +38,18 @@ import io.spine.annotation.Internal;
 import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
 
 /**
  * The mixin for {@link Message Message}s which are aware of their fields and are able to provide
  * their values with no reflection {@linkplain Message#getField(Descriptors.FieldDescriptor)
  * used by Protobuf}.
  *
+ * <p>The Validation plugin makes the generated message classes implement this interface.
+ * The generated implementations switch over the field numbers and call the field getters
+ * directly. The primitive-specialized methods, such as {@link #readInt(int)}, also avoid
+ * boxing of the field values.
+ *
  * <p>This mixin is an experimental part of the framework and may be changed or
  * removed in the future.
  */
@@ -65,6 +72,107 @@ public interface FieldAwareMessage extends Message {
         return getField(field);
     }
 
+    /**
+     * Reads the value of the field with the given number.
+     *
+     * <p>Returns the same value as {@link #readValue(FieldDescriptor)} does for
+     * the descriptor of the field.
+     *
+     * @param number
+     *         the number of the field
+     * @return field value
+     * @throws IllegalArgumentException
+     *         if the message does not have a field with the given number
+     */
+    default Object readValue(int number) {
+        return getField(field(this, number));
+    }
+
+    /**
+     * Reads the value of the singular {@code int32}, {@code uint32}, {@code sint32},
+     * {@code fixed32}, or {@code sfixed32} field with the given number.
+     *
+     * @throws IllegalArgumentException
+     *         if the message does not have a singular field of such a type
+     *         with the given number
+     */
+    default int readInt(int number) {
+        return (Integer) getField(field(this, number, JavaType.INT));
+    }
+
+    /**
+     * Reads the value of the singular {@code int64}, {@code uint64}, {@code sint64},
+     * {@code fixed64}, or {@code sfixed64} field with the given number.
+     *
+     * @throws IllegalArgumentException
+     *         if the message does not have a singular field of such a type
+     *         with the given number
+     */
+    default long readLong(int number) {
+        return (Long) getField(field(this, number, JavaType.LONG));
+    }
+
+    /**
+     * Reads the value of the singular {@code float} field with the given number.
+     *
+     * @throws IllegalArgumentException
+     *         if the message does not have a singular {@code float} field
+     *         with the given number
+     */
+    default float readFloat(int number) {
+        return (Float) getField(field(this, number, JavaType.FLOAT));
+    }
+
+    /**
+     * Reads the value of the singular {@code double} field with the given number.
+     *
+     * @throws IllegalArgumentException
+     *         if the message does not have a singular {@code double} field
+     *         with the given number
+     */
+    default double readDouble(int number) {
+        return (Double) getField(field(this, number, JavaType.DOUBLE));
+    }
+
+    /**
+     * Reads the value of the singular {@code bool} field with the given number.
+     *
+     * @throws IllegalArgumentException
+     *         if the message does not have a singular {@code bool} field
+     *         with the given number
+     */
+    default boolean readBoolean(int number) {
+        return (Boolean) getField(field(this, number, JavaType.BOOLEAN));
+    }
+
+    /**
+     * Obtains the descriptor of the field with the given number in the given message.
+     *
+     * <p>This method is used by the generated code as a fallback for the fields
+     * not covered by the generated switch.
+     *
+     * @throws IllegalArgumentException
+     *         if the message does not have a field with the given number
+     */
+    static FieldDescriptor field(Message message, int number) {
+        var type = message.getDescriptorForType();
+        var field = type.findFieldByNumber(number);
+        if (field == null) {
+            throw new IllegalArgumentException(format(
+                    "The message type `%s` has no field with the number %d.",
+                    type.getFullName(), number));
+        }
+        return field;
+    }
+
+    private static FieldDescriptor field(Message message, int number, JavaType expected) {
+        var field = field(message, number);
+        checkArgument(!field.isRepeated() && field.getJavaType() == expected,
+                      "The field `%s` is not a singular field of the `%s` type.",
+                      field.getFullName(), expected);
+        return field;
+    }
+
     /**
      * A test-only method that checks that the implementation of
      * {@link #readValue(Descriptors.FieldDescriptor)} gives the same results as
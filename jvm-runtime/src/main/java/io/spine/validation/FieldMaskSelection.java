@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import org.jspecify.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+
+/**
+ * A {@link FieldSelection} of the fields listed in a {@link FieldMask}.
+ *
+ * <p>The paths of the mask are resolved into field numbers once, when the selection
+ * is created. The selection forms a trie: a path like {@code address.city} selects
+ * the {@code address} field, and the {@linkplain #nested(int) nested} selection of
+ * the {@code address} field includes the {@code city} field.
+ *
+ * <p>If a message field is listed in the mask itself, the nested message is
+ * selected as a whole, regardless of the other paths going through the field.
+ */
+final class FieldMaskSelection implements FieldSelection {
+
+    private static final Splitter PATH_SPLITTER = Splitter.on('.');
+
+    private final BitSet numbers;
+    private final ImmutableMap<Integer, FieldMaskSelection> nested;
+
+    private FieldMaskSelection(BitSet numbers,
+                               ImmutableMap<Integer, FieldMaskSelection> nested) {
+        this.numbers = numbers;
+        this.nested = nested;
+    }
+
+    /**
+     * Creates a selection of the fields of the given message type listed in the given mask.
+     *
+     * @throws IllegalArgumentException
+     *         if a path of the mask does not denote a field of the given type
+     */
+    static FieldMaskSelection of(Descriptor type, FieldMask mask) {
+        checkNotNull(type);
+        checkNotNull(mask);
+        var root = new Node();
+        for (var path : mask.getPathsList()) {
+            root.add(type, PATH_SPLITTER.splitToList(path), path);
+        }
+        return root.compile();
+    }
+
+    @Override
+    public boolean includes(int number) {
+        return numbers.get(number);
+    }
+
+    @Override
+    public @Nullable FieldSelection nested(int number) {
+        return nested.get(number);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldMaskSelection" + numbers;
+    }
+
+    /**
+     * A node of the trie under construction.
+     */
+    private static final class Node {
+
+        /**
+         * The numbers of the fields selected as a whole.
+         */
+        private final BitSet whole = new BitSet();
+
+        /**
+         * The nodes of the message fields, only some fields of which are selected.
+         */
+        private final Map<Integer, Node> partial = new HashMap<>();
+
+        private void add(Descriptor type, List<String> names, String path) {
+            var field = type.findFieldByName(names.get(0));
+            checkArgument(field != null,
+                          "The field mask path `%s` does not match the fields of `%s`.",
+                          path, type.getFullName());
+            var number = field.getNumber();
+            if (names.size() == 1) {
+                whole.set(number);
+                return;
+            }
+            checkArgument(isSingularMessage(field),
+                          "The field mask path `%s` goes through the field `%s`," +
+                                  " which is not a singular message field.",
+                          path, field.getFullName());
+            partial.computeIfAbsent(number, n -> new Node())
+                   .add(field.getMessageType(), names.subList(1, names.size()), path);
+        }
+
+        private FieldMaskSelection compile() {
+            var numbers = (BitSet) whole.clone();
+            var nested = ImmutableMap.<Integer, FieldMaskSelection>builder();
+            partial.forEach((number, node) -> {
+                if (!whole.get(number)) {
+                    numbers.set(number);
+                    nested.put(number, node.compile());
+                }
+            });
+            return new FieldMaskSelection(numbers, nested.build());
+        }
+
+        private static boolean isSingularMessage(FieldDescriptor field) {
+            return field.getJavaType() == MESSAGE && !field.isRepeated();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.FieldMask;
+import org.jspecify.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * A selection of the fields of a message, the constraints of which are to be checked.
+ *
+ * <p>The generated code checks a constraint if the selection includes at least one of
+ * the fields the constraint depends on. The constraints, for which such fields are not
+ * known, are checked regardless of the selection. These are the constraints of custom
+ * options and the validators from {@link ValidatorRegistry}.
+ *
+ * <p>When a selected message field is validated in depth, the fields of the nested
+ * message are selected by {@link #nested(int)}.
+ *
+ * @see ValidatableMessage#validate(FieldSelection)
+ */
+public interface FieldSelection {
+
+    /**
+     * Tells if the field with the given number is selected.
+     *
+     * @param number
+     *         the number of a field of the message
+     */
+    boolean includes(int number);
+
+    /**
+     * Obtains the selection of the fields of the message stored in the field
+     * with the given number.
+     *
+     * <p>By default, returns {@code null}, which means that the nested message
+     * is validated as a whole.
+     *
+     * @param number
+     *         the number of a selected message field
+     * @return the selection for the nested message, or {@code null} to check
+     *         all the constraints of the nested message
+     */
+    default @Nullable FieldSelection nested(int number) {
+        return null;
+    }
+
+    /**
+     * Creates a selection of the fields with the given numbers.
+     *
+     * <p>The messages stored in the selected fields are validated as a whole.
+     *
+     * @param numbers
+     *         the numbers of the selected fields
+     */
+    static FieldSelection of(BitSet numbers) {
+        return new FieldNumbers(numbers);
+    }
+
+    /**
+     * Creates a selection of the fields listed in the given mask.
+     *
+     * <p>The paths of the mask are resolved into field numbers when the selection
+     * is created. Reuse the selection to validate many messages against
+     * the same mask.
+     *
+     * <p>A path going through a message field, e.g., {@code address.city}, selects
+     * the message field and the listed fields of the nested message. If the message
+     * field itself is listed, the nested message is validated as a whole.
+     *
+     * @param type
+     *         the type of the messages to validate
+     * @param mask
+     *         the mask listing the selected fields
+     * @throws IllegalArgumentException
+     *         if a path of the mask does not denote a field of the given type
+     */
+    static FieldSelection of(Descriptor type, FieldMask mask) {
+        return FieldMaskSelection.of(type, mask);
+    }
+}
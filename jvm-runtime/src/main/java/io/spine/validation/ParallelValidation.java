@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import io.spine.base.FieldPath;
+import io.spine.type.KnownTypes;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.util.Objects.requireNonNullElse;
+import static java.util.Objects.requireNonNullElseGet;
+
+/**
+ * Validates elements of large {@code repeated} and {@code map} fields in parallel.
+ *
+ * <p>The code generated for a field marked with {@code (validate) = true} validates
+ * its elements sequentially. If parallel validation is enabled in the settings of
+ * the Validation Compiler, the generated code passes fields with the number of elements
+ * reaching the configured threshold to this class instead.
+ *
+ * <p>The elements are split into contiguous chunks, which are validated on
+ * the {@linkplain ForkJoinPool#commonPool() common pool}, or on the executor passed
+ * to {@link Validate#violationsOf(Message, Executor)} by the validating call.
+ * The violations of the chunks are merged in the order of the elements, so the result
+ * is the same as for the sequential validation.
+ *
+ * <p>The {@linkplain ValidationProfile validation profile} active in the calling thread
+ * is activated for the validation of each chunk, so the elements are checked against
+ * the same constraints as they would be checked sequentially.
+ *
+ * <p>The calling thread validates the last chunk itself while the other chunks
+ * are validated by the executor. If an element holds another field validated in parallel,
+ * the elements of the nested field are validated sequentially within the chunk.
+ * This way, the threads of the executor never wait for the tasks of the same executor,
+ * which could exhaust a bounded executor and block forever.
+ *
+ * <p>The threshold may be configured for the whole build, or for a field via
+ * the {@code (parallel_validation)} option declared in
+ * {@code spine/validation/parallel_options.proto}.
+ *
+ * <p>Each element is validated in the same way as the generated code does it:
+ *
+ * <ol>
+ *     <li>{@link Any} elements are unpacked. Default instances of {@link Any}
+ *     are considered valid.
+ *     <li>If an element is a {@link ValidatableMessage}, its constraints are checked.
+ *     Such a message applies the validators from {@link ValidatorRegistry} itself.
+ *     <li>Otherwise, the validators from {@link ValidatorRegistry} are applied to the element.
+ * </ol>
+ */
+@Internal
+public final class ParallelValidation {
+
+    /**
+     * The number of chunks per a thread of the executor.
+     *
+     * <p>Having several chunks per thread balances the load when validation of
+     * some elements takes longer than of others.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * The minimal number of elements in a chunk.
+     *
+     * <p>Prevents scheduling tasks, which are too small to pay off.
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    /**
+     * The executor passed to the validating call performed by the current thread,
+     * or {@code null} if the common pool should be used.
+     */
+    private static final ThreadLocal<@Nullable Executor> callExecutor = new ThreadLocal<>();
+
+    /**
+     * Tells if the current thread validates a chunk of elements.
+     */
+    private static final ThreadLocal<Boolean> inChunk = ThreadLocal.withInitial(() -> false);
+
+    /** Prevents instantiation of this utility class. */
+    private ParallelValidation() {
+    }
+
+    /**
+     * Performs the given validating action, which validates the fields in parallel
+     * on the given executor.
+     *
+     * <p>The executor is used only for the fields validated by the current thread
+     * while the action is performed. Other validating calls keep using their executors.
+     *
+     * @param executor
+     *         the executor to validate the elements of the fields
+     * @param action
+     *         the validating action
+     * @return the result of the action
+     */
+    static <T> T using(Executor executor, Supplier<T> action) {
+        checkNotNull(executor);
+        checkNotNull(action);
+        var previous = callExecutor.get();
+        callExecutor.set(executor);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                callExecutor.remove();
+            } else {
+                callExecutor.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Validates the given field elements in parallel.
+     *
+     * @param elements
+     *         the elements of a {@code repeated} field, or values of a {@code map} field
+     * @param fieldPath
+     *         the path to the field holding the elements
+     * @param typeName
+     *         the name of the type that initiated validation
+     * @param violations
+     *         the list to append the detected violations to
+     */
+    public static void validate(Collection<? extends Message> elements,
+                                FieldPath fieldPath,
+                                TypeName typeName,
+                                List<ConstraintViolation> violations) {
+        checkNotNull(elements);
+        checkNotNull(fieldPath);
+        checkNotNull(typeName);
+        checkNotNull(violations);
+        var indexed = asRandomAccess(elements);
+        if (inChunk.get()) {
+            violations.addAll(validateChunk(indexed, fieldPath, typeName));
+            return;
+        }
+        var size = indexed.size();
+        var chunkSize = chunkSize(size);
+        var lastFrom = size == 0 ? 0 : (size - 1) / chunkSize * chunkSize;
+        var executor = requireNonNullElseGet(callExecutor.get(), ForkJoinPool::commonPool);
+        var profile = requireNonNullElse(ValidationProfile.active(), ValidationProfile.FULL);
+        var chunks = new ArrayList<CompletableFuture<List<ConstraintViolation>>>();
+        for (var from = 0; from < lastFrom; from += chunkSize) {
+            var chunk = indexed.subList(from, from + chunkSize);
+            var future = CompletableFuture.supplyAsync(
+                    () -> ValidationProfile.using(
+                            profile, () -> validateChunk(chunk, fieldPath, typeName)
+                    ), executor
+            );
+            chunks.add(future);
+        }
+        var last = validateChunk(indexed.subList(lastFrom, size), fieldPath, typeName);
+        for (var chunk : chunks) {
+            violations.addAll(join(chunk));
+        }
+        violations.addAll(last);
+    }
+
+    private static List<? extends Message> asRandomAccess(Collection<? extends Message> elements) {
+        if (elements instanceof List<? extends Message> list && list instanceof RandomAccess) {
+            return list;
+        }
+        return ImmutableList.copyOf(elements);
+    }
+
+    /**
+     * Obtains the size of chunks to split the given number of elements into.
+     */
+    static int chunkSize(int elementCount) {
+        var threads = Runtime.getRuntime().availableProcessors();
+        var chunkCount = threads * CHUNKS_PER_THREAD;
+        var size = (elementCount + chunkCount - 1) / chunkCount;
+        return Math.max(size, MIN_CHUNK_SIZE);
+    }
+
+    private static List<ConstraintViolation>
+    validateChunk(List<? extends Message> chunk, FieldPath fieldPath, TypeName typeName) {
+        List<ConstraintViolation> violations = new ArrayList<>();
+        var nested = inChunk.get();
+        inChunk.set(true);
+        try {
+            for (var element : chunk) {
+                validateElement(element, fieldPath, typeName, violations);
+            }
+        } finally {
+            inChunk.set(nested);
+        }
+        return violations;
+    }
+
+    private static void validateElement(Message element,
+                                        FieldPath fieldPath,
+                                        TypeName typeName,
+                                        List<ConstraintViolation> violations) {
+        var message = element;
+        var checkable = true;
+        if (element instanceof Any packed) {
+            if (packed.equals(Any.getDefaultInstance())) {
+                return;
+            }
+            message = unpack(packed);
+            checkable = KnownTypes.instance().contains(TypeUrl.ofEnclosed(packed));
+        }
+        if (checkable && message instanceof ValidatableMessage validatable) {
+            validatable.validate(fieldPath, typeName)
+                    .map(ValidationError::getConstraintViolationList)
+                    .ifPresent(violations::addAll);
+        } else {
+            var byRegistry = ValidatorRegistry.validate(message, fieldPath, typeName);
+            violations.addAll(byRegistry);
+        }
+    }
+
+    /**
+     * Waits for the given chunk validation to complete, rethrowing
+     * the unchecked exception thrown by the validation code, if any.
+     */
+    static <T> T join(CompletableFuture<T> chunk) {
+        try {
+            return chunk.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.Utf8;
+import io.spine.annotation.Internal;
+import io.spine.base.FieldPath;
+import io.spine.string.TemplateString;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Enforces the {@code (size_limit)} option while a message is parsed.
+ *
+ * <p>The Java renderer patches the {@code mergeFrom(CodedInputStream)} method of
+ * the builders to call these methods. String and bytes values are read with their
+ * length checked before the value is allocated. The number of elements in
+ * a collection is checked before each element is added.
+ *
+ * <p>If a limit is exceeded, the methods throw {@link ValidationException}.
+ */
+@Internal
+public final class SizeLimits {
+
+    private static final String TOO_MANY_ELEMENTS =
+            "The field `${parent.type}.${field.path}` must not have more than"
+                    + " ${max.value} elements.";
+
+    private static final String TOO_MANY_BYTES =
+            "The value of the field `${parent.type}.${field.path}` must not be longer"
+                    + " than ${max.value} bytes.";
+
+    /** Prevents instantiation of this utility class. */
+    private SizeLimits() {
+    }
+
+    /**
+     * Ensures one more element can be added to a collection field.
+     *
+     * @param count
+     *         the current number of elements in the field
+     * @param maxCount
+     *         the maximum number of elements
+     * @param typeName
+     *         the name of the message type declaring the field
+     * @param fieldName
+     *         the name of the field
+     * @throws ValidationException
+     *         if the field already contains {@code maxCount} elements
+     */
+    public static void checkCount(int count, int maxCount, String typeName, String fieldName) {
+        if (count >= maxCount) {
+            throw violation(TOO_MANY_ELEMENTS, maxCount, typeName, fieldName);
+        }
+    }
+
+    /**
+     * Reads a UTF-8 string from the given stream checking its length.
+     *
+     * <p>Acts as {@link CodedInputStream#readStringRequireUtf8()}.
+     *
+     * @throws ValidationException
+     *         if the string is longer than {@code maxBytes}
+     */
+    public static String readStringRequireUtf8(CodedInputStream input,
+                                               int maxBytes,
+                                               String typeName,
+                                               String fieldName) throws IOException {
+        var bytes = readRawBytes(input, maxBytes, typeName, fieldName);
+        if (!Utf8.isValidUtf8(bytes)) {
+            throw new InvalidProtocolBufferException("Protocol message had invalid UTF-8.");
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads a string from the given stream checking its length.
+     *
+     * <p>Acts as {@link CodedInputStream#readString()}.
+     *
+     * @throws ValidationException
+     *         if the string is longer than {@code maxBytes}
+     */
+    public static String readString(CodedInputStream input,
+                                    int maxBytes,
+                                    String typeName,
+                                    String fieldName) throws IOException {
+        var bytes = readRawBytes(input, maxBytes, typeName, fieldName);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads a byte string from the given stream checking its length.
+     *
+     * <p>Acts as {@link CodedInputStream#readBytes()}.
+     *
+     * @throws ValidationException
+     *         if the value is longer than {@code maxBytes}
+     */
+    public static ByteString readBytes(CodedInputStream input,
+                                       int maxBytes,
+                                       String typeName,
+                                       String fieldName) throws IOException {
+        var bytes = readRawBytes(input, maxBytes, typeName, fieldName);
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    /**
+     * Reads the length prefix and, if it fits the limit, the bytes following it.
+     *
+     * <p>A negative length is passed to the stream as-is, so that the stream
+     * reports the malformed input in its usual way.
+     */
+    private static byte[] readRawBytes(CodedInputStream input,
+                                       int maxBytes,
+                                       String typeName,
+                                       String fieldName) throws IOException {
+        var size = input.readRawVarint32();
+        if (size > maxBytes) {
+            throw violation(TOO_MANY_BYTES, maxBytes, typeName, fieldName);
+        }
+        return input.readRawBytes(size);
+    }
+
+    private static ValidationException
+    violation(String template, int limit, String typeName, String fieldName) {
+        var message = TemplateString.newBuilder()
+                .setWithPlaceholders(template)
+                .putPlaceholderValue("parent.type", typeName)
+                .putPlaceholderValue("field.path", fieldName)
+                .putPlaceholderValue("max.value", String.valueOf(limit))
+                .build();
+        var fieldPath = FieldPath.newBuilder()
+                .addFieldName(fieldName)
+                .build();
+        var violation = ConstraintViolation.newBuilder()
+                .setMessage(message)
+                .setTypeName(typeName)
+                .setFieldPath(fieldPath)
+                .build();
+        return new ValidationException(violation);
+    }
+}
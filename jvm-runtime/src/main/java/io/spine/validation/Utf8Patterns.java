@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.protobuf.ByteString;
+import io.spine.annotation.Internal;
+
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+/**
+ * Matches regular expressions against string field values without decoding
+ * their UTF-8 representation, if possible.
+ *
+ * <p>Protobuf keeps string fields of a parsed message as {@link ByteString}s until
+ * the corresponding {@code String} getter is called for the first time. Calling
+ * the getter from the validation code forces a UTF-8 decode of every constrained
+ * field, even if the message is only validated and forwarded further.
+ *
+ * <p>The methods of this class check whether the bytes are ASCII-only, and if so,
+ * match the pattern over the bytes directly. An ASCII byte sequence decodes to
+ * a string with exactly the same characters, so the result is identical to matching
+ * the decoded string. If a non-ASCII byte is met, the value is decoded, and
+ * the decoded string is matched instead.
+ *
+ * <p>The methods accept the raw value of a string field as stored by the Protobuf
+ * generated code: either a {@code String} or a {@code ByteString}. Values of
+ * a {@code String} type are matched as-is.
+ *
+ * <p>This class is used by the code generated for the {@code (pattern)} option.
+ */
+@Internal
+public final class Utf8Patterns {
+
+    /** Prevents instantiation of this utility class. */
+    private Utf8Patterns() {
+    }
+
+    /**
+     * Tells whether the given raw string field value is empty.
+     *
+     * @param value
+     *         the raw field value, either a {@code String} or a {@code ByteString}
+     */
+    public static boolean isEmpty(Object value) {
+        checkNotNull(value);
+        if (value instanceof ByteString bytes) {
+            return bytes.isEmpty();
+        }
+        return ((CharSequence) value).length() == 0;
+    }
+
+    /**
+     * Tells whether the given raw string field value matches the given pattern.
+     *
+     * @param pattern
+     *         the pattern to match
+     * @param value
+     *         the raw field value, either a {@code String} or a {@code ByteString}
+     * @param partialMatch
+     *         if {@code true}, it is enough for a part of the value to match
+     *         the pattern; otherwise, the whole value must match
+     */
+    public static boolean matches(Pattern pattern, Object value, boolean partialMatch) {
+        checkNotNull(value);
+        if (value instanceof ByteString bytes) {
+            return matches(pattern, bytes, partialMatch);
+        }
+        return matches(pattern, (CharSequence) value, partialMatch);
+    }
+
+    /**
+     * Tells whether the given UTF-8 bytes match the given pattern.
+     *
+     * <p>The bytes are decoded only if they contain non-ASCII characters.
+     *
+     * @param pattern
+     *         the pattern to match
+     * @param bytes
+     *         the UTF-8 encoded string value
+     * @param partialMatch
+     *         if {@code true}, it is enough for a part of the value to match
+     *         the pattern; otherwise, the whole value must match
+     */
+    public static boolean matches(Pattern pattern, ByteString bytes, boolean partialMatch) {
+        checkNotNull(pattern);
+        checkNotNull(bytes);
+        CharSequence chars = isAscii(bytes)
+                             ? new AsciiChars(bytes, 0, bytes.size())
+                             : bytes.toStringUtf8();
+        return matches(pattern, chars, partialMatch);
+    }
+
+    private static boolean matches(Pattern pattern, CharSequence value, boolean partialMatch) {
+        var matcher = pattern.matcher(value);
+        return partialMatch ? matcher.find() : matcher.matches();
+    }
+
+    private static boolean isAscii(ByteString bytes) {
+        var iterator = bytes.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.nextByte() < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A view on an ASCII-only {@link ByteString} as a sequence of characters.
+     *
+     * <p>The view does not copy the bytes. Each byte is treated as a single character.
+     */
+    private static final class AsciiChars implements CharSequence {
+
+        private final ByteString bytes;
+        private final int offset;
+        private final int length;
+
+        private AsciiChars(ByteString bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) bytes.byteAt(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            checkPositionIndexes(start, end, length);
+            return new AsciiChars(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return bytes.substring(offset, offset + length).toStringUtf8();
+        }
+    }
+}
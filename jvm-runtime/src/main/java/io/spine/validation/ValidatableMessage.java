@@ -27,11 +27,14 @@
 package io.spine.validation;
 
 import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
 import io.spine.base.FieldPath;
 import io.spine.type.TypeName;
 import org.jspecify.annotations.Nullable;
 
+import java.util.BitSet;
 import java.util.Optional;
 
 /**
@@ -72,4 +75,130 @@ public interface ValidatableMessage extends Message {
      * @return an error or {@link Optional#empty()} if no violations found
      */
     Optional<ValidationError> validate(FieldPath parentPath, @Nullable TypeName parentName);
+
+    /**
+     * Validates this message checking only the constraints, which depend on
+     * the selected fields.
+     *
+     * <p>The constraints, for which the fields they depend on are not known,
+     * are always checked. Please see {@link FieldSelection} for details.
+     *
+     * <p>The default implementation checks all the constraints. The generated
+     * messages override this method.
+     *
+     * @param selection
+     *         the fields, the constraints of which are to be checked
+     * @return an error or {@link Optional#empty()} if no violations found
+     */
+    @Internal
+    default Optional<ValidationError> validate(FieldSelection selection) {
+        return validate();
+    }
+
+    /**
+     * Validates the fields of this message listed in the given mask.
+     *
+     * <p>Only the constraints depending on the listed fields are checked, along with
+     * the constraints, for which the fields they depend on are not known. Nested messages
+     * are validated in depth only for the paths going through them. An empty mask selects
+     * no fields.
+     *
+     * <p>Use this method to check partial updates, e.g., the ones coming with
+     * PATCH-style requests. To validate many messages against the same mask,
+     * create the {@linkplain FieldSelection#of(com.google.protobuf.Descriptors.Descriptor,
+     * FieldMask) selection} once and pass it to {@link #validate(FieldSelection)}.
+     *
+     * @param mask
+     *         the fields to validate
+     * @return an error or {@link Optional#empty()} if no violations found
+     * @throws IllegalArgumentException
+     *         if a path of the mask does not denote a field of this message
+     */
+    default Optional<ValidationError> validate(FieldMask mask) {
+        var selection = FieldSelection.of(getDescriptorForType(), mask);
+        return validate(selection);
+    }
+
+    /**
+     * Finds a violation of the constraints of this message, stopping at the first one.
+     *
+     * <p>Use this method to tell if a message is valid, when the violations
+     * themselves are not needed.
+     *
+     * <p>The generated messages check the cheaper constraints first. Therefore, the returned
+     * violation is not necessarily the first one {@linkplain #validate() reported} otherwise.
+     * The messages of the {@code (validate)} fields are validated as a whole.
+     *
+     * <p>The default implementation checks all the constraints and returns the first
+     * found violation.
+     *
+     * @return the found violation or {@link Optional#empty()} if the message is valid
+     */
+    default Optional<ConstraintViolation> firstViolation() {
+        return validate().map(error -> error.getConstraintViolation(0));
+    }
+
+    /**
+     * Validates this message read by a builder, which
+     * {@linkplain ValidatingBuilder#checkFieldsOnParse() checked} the fields as they were read.
+     *
+     * <p>The constraints, which the fields checked on parse cannot violate otherwise,
+     * are not checked again.
+     *
+     * <p>The default implementation checks all the constraints. The generated messages
+     * override this method if their builders check the fields on parse.
+     *
+     * @return an error or {@link Optional#empty()} if no violations found
+     * @see ValidatingParser#failFast()
+     */
+    @Internal
+    default Optional<ValidationError> validateParsed() {
+        return validate();
+    }
+
+    /**
+     * Obtains the numbers of the fields of this message, which may hold values
+     * other than the ones in the given message.
+     *
+     * <p>The values are compared by reference. Therefore, a field may be reported
+     * as changed even if its new value is equal to the previous one. A field,
+     * which is not reported, holds the same value in both messages.
+     *
+     * <p>The default implementation returns {@code null}. The generated messages
+     * override this method.
+     *
+     * @param previous
+     *         the message to compare this message with
+     * @return the numbers of the changed fields, or {@code null} if the messages
+     *         cannot be compared field by field
+     */
+    @Internal
+    default @Nullable BitSet fieldsChangedSince(ValidatableMessage previous) {
+        return null;
+    }
+
+    /**
+     * Validates this message assuming that the given message, from which this one
+     * was derived, is valid.
+     *
+     * <p>Only the constraints depending on the {@linkplain #fieldsChangedSince changed}
+     * fields are checked, along with the constraints, for which the fields they depend
+     * on are not known. If the messages cannot be compared field by field, all
+     * the constraints are checked.
+     *
+     * <p>The generated builders use this method when building a message from the builder
+     * obtained via {@link #toBuilder()} of a message known to be valid.
+     *
+     * @param valid
+     *         the valid message, from which this message was derived
+     * @return an error or {@link Optional#empty()} if no violations found
+     */
+    @Internal
+    default Optional<ValidationError> validateChangesSince(ValidatableMessage valid) {
+        var changed = fieldsChangedSince(valid);
+        if (changed == null) {
+            return validate();
+        }
+        return validate(FieldSelection.of(changed));
+    }
 }
@@ -29,12 +29,19 @@ package io.spine.validation;
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Any;
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import io.spine.type.KnownTypes;
 import io.spine.type.TypeUrl;
+import io.spine.validation.dynamic.DescriptorValidator;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.protobuf.AnyPacker.unpack;
 
@@ -47,6 +54,12 @@ import static io.spine.protobuf.AnyPacker.unpack;
 )
 public final class Validate {
 
+    /**
+     * The limit of violations collected by the batch validation methods
+     * when no limit is specified explicitly.
+     */
+    private static final int NO_VIOLATION_LIMIT = Integer.MAX_VALUE;
+
     /** Prevents instantiation of this utility class. */
     private Validate() {
     }
@@ -73,9 +86,16 @@ public final class Validate {
      *
      * <p>If the message is {@link Any}, it is unpacked before validation.
      *
+     * <p>Messages that do not carry the generated validation code, such as
+     * {@link com.google.protobuf.DynamicMessage DynamicMessage}s, are validated
+     * by the {@linkplain ValidatorRegistry custom validators} only. The options declared
+     * in the descriptors of such messages are checked by {@link DescriptorValidator},
+     * which should be used explicitly.
+     *
      * @return violations of the validation rules or an empty list if the message is valid
      * @see ValidatableMessage
      * @see MessageValidator
+     * @see DescriptorValidator
      */
     @SuppressWarnings("ChainOfInstanceofChecks") // A necessity for covering more cases.
     public static List<ConstraintViolation> violationsOf(Message message) {
@@ -98,4 +118,187 @@ public final class Validate {
             return ValidatorRegistry.validate(msg);
         }
     }
+
+    /**
+     * Finds a violation of the constraints of the given message, stopping at the first one.
+     *
+     * <p>The generated messages check the cheaper constraints first. Please see
+     * {@link ValidatableMessage#firstViolation()} for details.
+     *
+     * <p>The messages without the generated validation code are validated
+     * as a whole in the same way as {@link #violationsOf(Message)} does it.
+     *
+     * @return the found violation or {@link Optional#empty()} if the message is valid
+     */
+    public static Optional<ConstraintViolation> firstViolationOf(Message message) {
+        checkNotNull(message);
+        if (message instanceof ValidatableMessage validatable) {
+            return validatable.firstViolation();
+        }
+        return violationsOf(message).stream()
+                                    .findFirst();
+    }
+
+    /**
+     * Validates the given message in the same way as {@link #violationsOf(Message)} does,
+     * validating the elements of large fields on the given executor.
+     *
+     * <p>The executor is used by the fields, which the generated code validates
+     * {@linkplain ParallelValidation in parallel}. Other fields are validated
+     * by the calling thread.
+     *
+     * @param message
+     *         the message to validate
+     * @param executor
+     *         the executor to validate the elements of the fields
+     * @return violations of the validation rules or an empty list if the message is valid
+     */
+    public static List<ConstraintViolation> violationsOf(Message message, Executor executor) {
+        checkNotNull(message);
+        checkNotNull(executor);
+        return ParallelValidation.using(executor, () -> violationsOf(message));
+    }
+
+    /**
+     * Validates the fields of the given message listed in the given mask.
+     *
+     * <p>The generated messages check only the constraints depending on the listed fields.
+     * Please see {@link ValidatableMessage#validate(FieldMask)} for details.
+     *
+     * <p>The messages without the generated validation code are validated
+     * as a whole in the same way as {@link #violationsOf(Message)} does it.
+     *
+     * @return violations of the validation rules or an empty list if the listed
+     *         fields are valid
+     * @throws IllegalArgumentException
+     *         if a path of the mask does not denote a field of the message
+     */
+    public static List<ConstraintViolation> violationsOf(Message message, FieldMask mask) {
+        checkNotNull(message);
+        checkNotNull(mask);
+        if (message instanceof ValidatableMessage validatable) {
+            var error = validatable.validate(mask);
+            return error.map(ValidationError::getConstraintViolationList)
+                        .orElse(ImmutableList.of());
+        }
+        return violationsOf(message);
+    }
+
+    /**
+     * Validates the given messages one by one.
+     *
+     * <p>Each message is validated in the same way as {@link #violationsOf(Message)} does it.
+     * The lookups which are the same for messages of the same type, such as resolving
+     * the classes of packed {@link Any} messages and checking for registered validators,
+     * are done once per batch.
+     *
+     * @return the violations keyed by indexes of the invalid messages
+     */
+    public static BatchViolations violationsOfAll(Iterable<? extends Message> messages) {
+        return violationsOfAll(messages, NO_VIOLATION_LIMIT);
+    }
+
+    /**
+     * Validates the given messages one by one, collecting no more than
+     * the given number of violations.
+     *
+     * <p>Once the limit is reached, the remaining messages are not validated,
+     * and the result is {@linkplain BatchViolations#isTruncated() truncated}.
+     *
+     * @param messages
+     *         the messages to validate
+     * @param violationLimit
+     *         the maximum number of violations to collect
+     * @return the violations keyed by indexes of the invalid messages
+     * @see #violationsOfAll(Iterable)
+     */
+    public static BatchViolations violationsOfAll(Iterable<? extends Message> messages,
+                                                  int violationLimit) {
+        checkNotNull(messages);
+        checkLimit(violationLimit);
+        var validation = new BatchValidation(violationLimit);
+        var index = 0;
+        for (var iterator = messages.iterator(); iterator.hasNext() && !validation.isFull(); ) {
+            validation.validate(index, checkNotNull(iterator.next()));
+            index++;
+        }
+        return validation.result();
+    }
+
+    /**
+     * Validates the messages of the given stream one by one.
+     *
+     * <p>The messages are indexed in the encounter order of the stream.
+     *
+     * @return the violations keyed by indexes of the invalid messages
+     * @see #violationsOfAll(Iterable)
+     */
+    public static BatchViolations violationsOfAll(Stream<? extends Message> messages) {
+        return violationsOfAll(messages, NO_VIOLATION_LIMIT);
+    }
+
+    /**
+     * Validates the messages of the given stream one by one, collecting no more than
+     * the given number of violations.
+     *
+     * <p>Once the limit is reached, the rest of the stream is not consumed.
+     *
+     * @param messages
+     *         the messages to validate
+     * @param violationLimit
+     *         the maximum number of violations to collect
+     * @return the violations keyed by indexes of the invalid messages
+     * @see #violationsOfAll(Iterable, int)
+     */
+    public static BatchViolations violationsOfAll(Stream<? extends Message> messages,
+                                                  int violationLimit) {
+        checkNotNull(messages);
+        Iterable<? extends Message> iterable = messages::iterator;
+        return violationsOfAll(iterable, violationLimit);
+    }
+
+    /**
+     * Validates the given messages in parallel using the
+     * {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @return the violations keyed by indexes of the invalid messages
+     * @see #violationsOfAllInParallel(Iterable, Executor, int)
+     */
+    public static BatchViolations violationsOfAllInParallel(Iterable<? extends Message> messages) {
+        return violationsOfAllInParallel(messages, ForkJoinPool.commonPool(), NO_VIOLATION_LIMIT);
+    }
+
+    /**
+     * Validates the given messages in parallel using the given executor.
+     *
+     * <p>The messages are split into contiguous chunks, which are validated
+     * on the given executor. The result is the same as the one of
+     * {@link #violationsOfAll(Iterable, int)} for the same messages and limit.
+     *
+     * <p>Each chunk collects no more than {@code violationLimit} violations.
+     * So, the memory used for the violations while the chunks are validated is
+     * capped by the limit multiplied by the number of chunks.
+     *
+     * @param messages
+     *         the messages to validate
+     * @param executor
+     *         the executor to validate the chunks
+     * @param violationLimit
+     *         the maximum number of violations to collect
+     * @return the violations keyed by indexes of the invalid messages
+     */
+    public static BatchViolations violationsOfAllInParallel(Iterable<? extends Message> messages,
+                                                            Executor executor,
+                                                            int violationLimit) {
+        checkNotNull(messages);
+        checkNotNull(executor);
+        checkLimit(violationLimit);
+        var list = ImmutableList.<Message>copyOf(messages);
+        return BatchValidation.inParallel(list, executor, violationLimit);
+    }
+
+    private static void checkLimit(int violationLimit) {
+        checkArgument(violationLimit > 0,
+                      "The violation limit must be positive. Passed: %s.", violationLimit);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
+
+import java.util.List;
+
+/**
+ * A message read from a stream of records along with the result of its validation.
+ *
+ * @param <M>
+ *         the type of the message
+ * @see DelimitedStreamValidator
+ */
+public final class ValidatedRecord<M extends Message> {
+
+    private final long index;
+    private final M message;
+    private final ImmutableList<ConstraintViolation> violations;
+
+    ValidatedRecord(long index, M message, List<ConstraintViolation> violations) {
+        this.index = index;
+        this.message = message;
+        this.violations = ImmutableList.copyOf(violations);
+    }
+
+    /**
+     * Returns the zero-based index of the record in the stream.
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Returns the message parsed from the record.
+     */
+    public M message() {
+        return message;
+    }
+
+    /**
+     * Returns the violations of the message, or an empty list if the message is valid.
+     */
+    public List<ConstraintViolation> violations() {
+        return violations;
+    }
+
+    /**
+     * Tells if the message is valid.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("index", index)
+                .add("violations", violations.size())
+                .toString();
+    }
+}
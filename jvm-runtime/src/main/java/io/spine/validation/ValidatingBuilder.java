@@ -27,8 +27,11 @@
 package io.spine.validation;
 
 import com.google.common.collect.ImmutableList;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
 import com.google.protobuf.Message;
 import io.spine.annotation.GeneratedMixin;
+import io.spine.annotation.Internal;
 
 import java.util.List;
 
@@ -90,6 +93,12 @@ public interface ValidatingBuilder<M extends Message> extends Message.Builder {
      * <p>If the message under construction does not support validation, i.e., does not
      * implement {@link ValidatableMessage}, its content is considered valid.
      *
+     * <p>The generated builders override this method to check the constraints against
+     * their own fields, without building a message, and remember the violations of
+     * each constraint. On subsequent calls, only the constraints depending on the fields
+     * changed since the previous call are checked again. The validators registered in
+     * {@link ValidatorRegistry} are applied once per call.
+     *
      * @return the violations of the constraints declared in Protobuf,
      *         or an empty list if the current content is valid
      */
@@ -103,6 +112,28 @@ public interface ValidatingBuilder<M extends Message> extends Message.Builder {
         return ImmutableList.of();
     }
 
+    /**
+     * Makes this builder check the fields read by
+     * {@link #mergeFrom(CodedInputStream, ExtensionRegistryLite) mergeFrom()}
+     * right after each of them is read.
+     *
+     * <p>If a field violates a constraint, the merge throws {@link ValidationException}
+     * without reading the rest of the input.
+     *
+     * <p>Only the constraints of a single scalar field, which need no other fields
+     * to be checked, such as {@code (pattern)} or {@code (min)}, are checked this way.
+     * The rest of the constraints are to be checked once the message is built.
+     *
+     * <p>The default implementation does nothing. The generated builders override
+     * this method if their message has such constraints.
+     *
+     * @see ValidatingParser#failFast()
+     */
+    @Internal
+    default void checkFieldsOnParse() {
+        // No fields to check by default.
+    }
+
     /**
      * Constructs the message and {@linkplain Validate validates} it according to the constraints
      * declared in Protobuf.
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.AbstractParser;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * A {@link Parser} which validates messages before returning them.
+ *
+ * <p>The parser delegates reading of the message to the Protobuf-generated parser and
+ * validates the result right after the message is read. The message is validated
+ * {@linkplain Validate#violationsOf(Message) according} to its definition and
+ * the configured validators.
+ *
+ * <p>All parsing methods, including the {@code parsePartial...} ones, validate
+ * the parsed message. If the message is invalid, the parser throws
+ * {@link InvalidProtocolBufferException} caused by {@link ValidationException}.
+ * The exception carries the parsed message as
+ * {@linkplain InvalidProtocolBufferException#getUnfinishedMessage() unfinished}.
+ *
+ * <p>Generated messages expose their validating parser via
+ * the static {@code validatingParser()} method:
+ * <pre>{@code
+ * var task = Task.validatingParser().parseFrom(bytes);
+ * }</pre>
+ *
+ * <h2>Fail-fast parsing</h2>
+ *
+ * <p>The {@linkplain #failFast() fail-fast} parser reads the message with a builder,
+ * which {@linkplain ValidatingBuilder#checkFieldsOnParse() checks} the scalar fields
+ * right after each of them is read. Parsing stops at the first field violating
+ * a constraint, so the rest of the input is not read. The exception carries
+ * the fields read before the violation as the unfinished message.
+ *
+ * <p>The constraints, which cannot be checked for a single field as it is read,
+ * such as {@code (required)} or {@code (goes)}, are checked after the whole message
+ * is read. The constraints checked as the fields are read are not checked again.
+ *
+ * <p>The regular parser, in contrast, reads the whole message first and validates it
+ * afterwards. It goes over the message twice, the same way as parsing the message and
+ * validating it separately would, and saves only the extra call. Please use the fail-fast
+ * parser to reject invalid input without reading it to the end.
+ *
+ * @param <M>
+ *         the type of parsed messages
+ */
+public final class ValidatingParser<M extends Message> extends AbstractParser<M> {
+
+    private final Parser<M> delegate;
+    private final @Nullable Supplier<? extends ValidatingBuilder<M>> builders;
+    private final boolean failFast;
+
+    private ValidatingParser(Parser<M> delegate,
+                             @Nullable Supplier<? extends ValidatingBuilder<M>> builders,
+                             boolean failFast) {
+        this.delegate = delegate;
+        this.builders = builders;
+        this.failFast = failFast;
+    }
+
+    /**
+     * Creates a new validating parser on top of the given one.
+     *
+     * <p>The created parser cannot be made {@linkplain #failFast() fail-fast}.
+     *
+     * @param delegate
+     *         the parser reading the messages
+     */
+    public static <M extends Message> ValidatingParser<M> of(Parser<M> delegate) {
+        checkNotNull(delegate);
+        return new ValidatingParser<>(delegate, null, false);
+    }
+
+    /**
+     * Creates a new validating parser on top of the given one, which can be made
+     * {@linkplain #failFast() fail-fast}.
+     *
+     * @param delegate
+     *         the parser reading the messages
+     * @param builders
+     *         creates the builders used by the fail-fast parser to read the messages
+     */
+    public static <M extends Message> ValidatingParser<M>
+    of(Parser<M> delegate, Supplier<? extends ValidatingBuilder<M>> builders) {
+        checkNotNull(delegate);
+        checkNotNull(builders);
+        return new ValidatingParser<>(delegate, builders, false);
+    }
+
+    /**
+     * Returns a parser, which stops reading a message at the first field
+     * violating a constraint.
+     *
+     * @throws IllegalStateException
+     *         if this parser was created with no builders to read the messages
+     */
+    public ValidatingParser<M> failFast() {
+        checkState(builders != null,
+                   "A fail-fast parser requires the builders to read the messages.");
+        if (failFast) {
+            return this;
+        }
+        return new ValidatingParser<>(delegate, builders, true);
+    }
+
+    @Override
+    public M parsePartialFrom(CodedInputStream input, ExtensionRegistryLite extensionRegistry)
+            throws InvalidProtocolBufferException {
+        if (failFast) {
+            var message = parseCheckingFields(input, extensionRegistry);
+            var violations = violationsOfParsed(message);
+            return checkValid(message, violations);
+        }
+        var message = delegate.parsePartialFrom(input, extensionRegistry);
+        return checkValid(message, Validate.violationsOf(message));
+    }
+
+    private static <M extends Message> M checkValid(M message,
+                                                    List<ConstraintViolation> violations)
+            throws InvalidProtocolBufferException {
+        if (!violations.isEmpty()) {
+            var error = new InvalidProtocolBufferException(new ValidationException(violations));
+            throw error.setUnfinishedMessage(message);
+        }
+        return message;
+    }
+
+    /**
+     * Checks the message read with the {@linkplain #parseCheckingFields fields checked}
+     * against the constraints not checked on parse.
+     */
+    private static List<ConstraintViolation> violationsOfParsed(Message message) {
+        if (message instanceof ValidatableMessage validatable) {
+            return validatable.validateParsed()
+                    .map(ValidationError::getConstraintViolationList)
+                    .orElse(ImmutableList.of());
+        }
+        return Validate.violationsOf(message);
+    }
+
+    /**
+     * Reads the message with a builder checking the fields as they are read.
+     *
+     * <p>Follows the way the Protobuf-generated parsers read the messages with builders.
+     * The message is built once, the same way as the Protobuf-generated parser does.
+     */
+    private M parseCheckingFields(CodedInputStream input, ExtensionRegistryLite registry)
+            throws InvalidProtocolBufferException {
+        var builder = checkNotNull(builders).get();
+        builder.checkFieldsOnParse();
+        try {
+            builder.mergeFrom(input, registry);
+        } catch (ValidationException e) {
+            var error = new InvalidProtocolBufferException(e);
+            throw error.setUnfinishedMessage(builder.buildPartial());
+        } catch (InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (IOException e) {
+            var error = new InvalidProtocolBufferException(e);
+            throw error.setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation;
+
+import io.spine.annotation.Internal;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Activates named validation profiles for the current thread.
+ *
+ * <p>A validation profile skips the constraints of some validation options, e.g.,
+ * {@code (pattern)} and {@code (validate)}. The profiles are configured for the build
+ * in the {@code validation { java { validationProfiles } }} Gradle DSL block, so that
+ * the generated code could skip the constraints when the profile is active.
+ *
+ * <p>Use the profiles on trusted paths, where the messages were already validated
+ * as a whole. For example, an internal pipeline may build the messages received
+ * at the edge of the system as follows:
+ *
+ * <pre>{@code
+ * var event = ValidationProfile.using("structural", () -> builder.build());
+ * }</pre>
+ *
+ * <p>Alternatively, a profile may be activated for a scope:
+ *
+ * <pre>{@code
+ * try (var scope = ValidationProfile.activate("structural")) {
+ *     // Build and validate the messages.
+ * }
+ * }</pre>
+ *
+ * <p>A profile, which is not configured for the build, skips nothing. So, the name
+ * {@value #FULL} may be used to explicitly check all the constraints within the scope
+ * of another profile.
+ *
+ * <p>The messages built while a profile is active are not known to be valid.
+ * So, the messages derived from them are validated as a whole.
+ *
+ * <p>The profile is not passed to other threads, except for the tasks validating
+ * the fields in {@linkplain ParallelValidation parallel}. The elements of such fields
+ * are checked with the profile active in the thread, which started the validation.
+ */
+public final class ValidationProfile {
+
+    /**
+     * The name of the profile checking all the constraints.
+     */
+    public static final String FULL = "full";
+
+    private static final ThreadLocal<@Nullable String> ACTIVE = new ThreadLocal<>();
+
+    /** Prevents instantiation of this utility class. */
+    private ValidationProfile() {
+    }
+
+    /**
+     * Obtains the name of the profile active in the current thread.
+     *
+     * <p>This method is called by the generated code.
+     *
+     * @return the name of the profile, or {@code null} if no profile is active
+     */
+    @Internal
+    public static @Nullable String active() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Activates the profile with the given name in the current thread until
+     * the returned scope is closed.
+     *
+     * @param name
+     *         the name of the profile
+     * @return the scope to close for restoring the previously active profile
+     */
+    public static Scope activate(String name) {
+        checkNotNull(name);
+        checkArgument(!name.isEmpty(), "The name of a validation profile cannot be empty.");
+        var previous = ACTIVE.get();
+        ACTIVE.set(FULL.equals(name) ? null : name);
+        return new Scope(previous);
+    }
+
+    /**
+     * Performs the given action with the profile of the given name active
+     * in the current thread.
+     *
+     * @param name
+     *         the name of the profile
+     * @param action
+     *         the action to perform, such as building a message
+     * @return the result of the action
+     */
+    public static <T> T using(String name, Supplier<T> action) {
+        checkNotNull(action);
+        try (var scope = activate(name)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * The scope of an active profile.
+     *
+     * <p>Closing the scope restores the profile, which was active before.
+     * The scope must be closed in the same thread it was opened in.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final @Nullable String previous;
+        private boolean closed;
+
+        private Scope(@Nullable String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.base.FieldPath;
+import io.spine.option.MaxOption;
+import io.spine.option.MinOption;
+import io.spine.option.RangeOption;
+import io.spine.validation.ConstraintViolation;
+import org.jspecify.annotations.Nullable;
+
+import java.util.regex.Pattern;
+
+import static io.spine.validation.dynamic.Violations.FIELD_PATH;
+import static io.spine.validation.dynamic.Violations.FIELD_TYPE;
+import static io.spine.validation.dynamic.Violations.FIELD_VALUE;
+import static io.spine.validation.dynamic.Violations.PARENT_TYPE;
+import static io.spine.validation.dynamic.Violations.joined;
+
+/**
+ * Checks that a numeric value is within the bounds set by
+ * the {@code (min)}, {@code (max)} or {@code (range)} option.
+ *
+ * <p>The comparison follows the generated code: unsigned integers are compared as unsigned,
+ * and floating-point numbers are compared with the primitive operators.
+ *
+ * <p>Bounds referring to other fields are not supported. For such options,
+ * the factory methods return {@code null}.
+ */
+final class BoundCheck extends ValueCheck {
+
+    private static final Pattern RANGE =
+            Pattern.compile("^\\s*([\\[(])\\s*(.+?)\\s*\\.\\.\\s*(.+?)\\s*([])])\\s*$");
+
+    private final ConstraintKind kind;
+    private final NumberKind numberKind;
+    private final @Nullable Number lower;
+    private final boolean lowerExclusive;
+    private final @Nullable Number upper;
+    private final boolean upperExclusive;
+    private final String errorMessage;
+    private final ImmutableMap<String, String> optionPlaceholders;
+
+    @SuppressWarnings("ConstructorWithTooManyParameters") // Created via factory methods only.
+    private BoundCheck(ConstraintKind kind,
+                       NumberKind numberKind,
+                       @Nullable Number lower,
+                       boolean lowerExclusive,
+                       @Nullable Number upper,
+                       boolean upperExclusive,
+                       String errorMessage,
+                       ImmutableMap<String, String> optionPlaceholders) {
+        this.kind = kind;
+        this.numberKind = numberKind;
+        this.lower = lower;
+        this.lowerExclusive = lowerExclusive;
+        this.upper = upper;
+        this.upperExclusive = upperExclusive;
+        this.errorMessage = errorMessage;
+        this.optionPlaceholders = optionPlaceholders;
+    }
+
+    /**
+     * Creates a check for the {@code (min)} option applied to the given field.
+     */
+    static @Nullable BoundCheck min(FieldDescriptor field, MinOption option) {
+        var numberKind = NumberKind.of(field);
+        var bound = numberKind.parse(option.getValue());
+        if (bound == null) {
+            return null;
+        }
+        var exclusive = option.getExclusive();
+        var message = Options.errorMessage(option.getErrorMsg(), MinOption.getDescriptor());
+        var placeholders = ImmutableMap.of(
+                "min.value", option.getValue(),
+                "min.operator", exclusive ? ">" : ">="
+        );
+        return new BoundCheck(ConstraintKind.MIN, numberKind, bound, exclusive,
+                              null, false, message, placeholders);
+    }
+
+    /**
+     * Creates a check for the {@code (max)} option applied to the given field.
+     */
+    static @Nullable BoundCheck max(FieldDescriptor field, MaxOption option) {
+        var numberKind = NumberKind.of(field);
+        var bound = numberKind.parse(option.getValue());
+        if (bound == null) {
+            return null;
+        }
+        var exclusive = option.getExclusive();
+        var message = Options.errorMessage(option.getErrorMsg(), MaxOption.getDescriptor());
+        var placeholders = ImmutableMap.of(
+                "max.value", option.getValue(),
+                "max.operator", exclusive ? "<" : "<="
+        );
+        return new BoundCheck(ConstraintKind.MAX, numberKind, null, false,
+                              bound, exclusive, message, placeholders);
+    }
+
+    /**
+     * Creates a check for the {@code (range)} option applied to the given field.
+     */
+    static @Nullable BoundCheck range(FieldDescriptor field, RangeOption option) {
+        var matcher = RANGE.matcher(option.getValue());
+        if (!matcher.matches()) {
+            return null;
+        }
+        var numberKind = NumberKind.of(field);
+        var lower = numberKind.parse(matcher.group(2));
+        var upper = numberKind.parse(matcher.group(3));
+        if (lower == null || upper == null) {
+            return null;
+        }
+        var message = Options.errorMessage(option.getErrorMsg(), RangeOption.getDescriptor());
+        var placeholders = ImmutableMap.of("range.value", option.getValue());
+        return new BoundCheck(ConstraintKind.RANGE, numberKind,
+                              lower, "(".equals(matcher.group(1)),
+                              upper, ")".equals(matcher.group(4)),
+                              message, placeholders);
+    }
+
+    @Override
+    ConstraintKind kind() {
+        return kind;
+    }
+
+    @Override
+    @Nullable ConstraintViolation
+    check(Object value, FieldPlan field, FieldPath fieldPath, String typeName) {
+        var number = (Number) value;
+        if (!isOutOfBounds(number)) {
+            return null;
+        }
+        var placeholders = ImmutableMap.<String, String>builder()
+                .put(FIELD_PATH, joined(fieldPath))
+                .put(FIELD_VALUE, String.valueOf(number))
+                .put(FIELD_TYPE, field.typeName())
+                .put(PARENT_TYPE, typeName)
+                .putAll(optionPlaceholders)
+                .build();
+        return Violations.create(errorMessage, placeholders, typeName, fieldPath, number);
+    }
+
+    /**
+     * Tells if the given value is out of the bounds.
+     */
+    boolean isOutOfBounds(Number value) {
+        var belowLower = lower != null && numberKind.below(value, lower, lowerExclusive);
+        var aboveUpper = upper != null && numberKind.above(value, upper, upperExclusive);
+        return belowLower || aboveUpper;
+    }
+
+    /**
+     * Kinds of numbers as represented in Java.
+     */
+    private enum NumberKind {
+
+        INT {
+            @Override
+            @Nullable Number parseValue(String value) {
+                return Integer.parseInt(value);
+            }
+
+            @Override
+            int compare(Number value, Number bound) {
+                return Integer.compare(value.intValue(), bound.intValue());
+            }
+        },
+
+        UNSIGNED_INT {
+            @Override
+            @Nullable Number parseValue(String value) {
+                return Integer.parseUnsignedInt(value);
+            }
+
+            @Override
+            int compare(Number value, Number bound) {
+                return Integer.compareUnsigned(value.intValue(), bound.intValue());
+            }
+        },
+
+        LONG {
+            @Override
+            @Nullable Number parseValue(String value) {
+                return Long.parseLong(value);
+            }
+
+            @Override
+            int compare(Number value, Number bound) {
+                return Long.compare(value.longValue(), bound.longValue());
+            }
+        },
+
+        UNSIGNED_LONG {
+            @Override
+            @Nullable Number parseValue(String value) {
+                return Long.parseUnsignedLong(value);
+            }
+
+            @Override
+            int compare(Number value, Number bound) {
+                return Long.compareUnsigned(value.longValue(), bound.longValue());
+            }
+        },
+
+        FLOAT {
+            @Override
+            @Nullable Number parseValue(String value) {
+                return Float.parseFloat(value);
+            }
+
+            @Override
+            boolean below(Number value, Number bound, boolean exclusive) {
+                var v = value.floatValue();
+                var b = bound.floatValue();
+                return exclusive ? v <= b : v < b;
+            }
+
+            @Override
+            boolean above(Number value, Number bound, boolean exclusive) {
+                var v = value.floatValue();
+                var b = bound.floatValue();
+                return exclusive ? v >= b : v > b;
+            }
+        },
+
+        DOUBLE {
+            @Override
+            @Nullable Number parseValue(String value) {
+                return Double.parseDouble(value);
+            }
+
+            @Override
+            boolean below(Number value, Number bound, boolean exclusive) {
+                var v = value.doubleValue();
+                var b = bound.doubleValue();
+                return exclusive ? v <= b : v < b;
+            }
+
+            @Override
+            boolean above(Number value, Number bound, boolean exclusive) {
+                var v = value.doubleValue();
+                var b = bound.doubleValue();
+                return exclusive ? v >= b : v > b;
+            }
+        };
+
+        static NumberKind of(FieldDescriptor field) {
+            return switch (field.getType()) {
+                case INT32, SINT32, SFIXED32 -> INT;
+                case UINT32, FIXED32 -> UNSIGNED_INT;
+                case INT64, SINT64, SFIXED64 -> LONG;
+                case UINT64, FIXED64 -> UNSIGNED_LONG;
+                case FLOAT -> FLOAT;
+                case DOUBLE -> DOUBLE;
+                default -> throw new IllegalArgumentException(
+                        "The field `" + field.getFullName() + "` is not numeric.");
+            };
+        }
+
+        /**
+         * Parses the given bound value, or returns {@code null} if the value is not a number,
+         * e.g., a reference to another field.
+         */
+        @Nullable Number parse(String value) {
+            try {
+                return parseValue(value.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        abstract @Nullable Number parseValue(String value);
+
+        int compare(Number value, Number bound) {
+            throw new UnsupportedOperationException();
+        }
+
+        boolean below(Number value, Number bound, boolean exclusive) {
+            var comparison = compare(value, bound);
+            return exclusive ? comparison <= 0 : comparison < 0;
+        }
+
+        boolean above(Number value, Number bound, boolean exclusive) {
+            var comparison = compare(value, bound);
+            return exclusive ? comparison >= 0 : comparison > 0;
+        }
+    }
+}
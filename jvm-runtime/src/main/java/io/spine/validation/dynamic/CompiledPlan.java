@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import io.spine.validation.ConstraintViolation;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+import static io.spine.validation.dynamic.ConstraintKind.REQUIRED;
+import static io.spine.validation.dynamic.ConstraintKind.VALIDATE;
+
+/**
+ * A {@link MessagePlan} compiled into a chain of field validators.
+ *
+ * <p>Each constrained field gets a validator specialized for the kind of the field:
+ * singular, {@code repeated}, or {@code map}. The validators hold everything resolved
+ * when the plan is compiled: the field descriptors, the value checks, and the paths
+ * of the fields in a top-level message. The plans of the {@code (validate)} fields
+ * are resolved on their first use and then kept by the field validators.
+ *
+ * <p>Compiled plans are cached by the identity of their descriptors. The cache is the only
+ * one for the plans of message types, and {@link MessagePlan#of} takes the plans from it.
+ *
+ * <p>A plan references its descriptor, so holding the descriptors weakly is not enough
+ * for the plans to be released: a strongly held plan keeps its descriptor reachable.
+ * Therefore, the plans are held softly, and the garbage collector may release the plans
+ * of unused descriptors, along with the descriptors, when memory is needed. The cache is
+ * also bounded by the {@linkplain #MAX_CACHED_TYPES number of types}, so that applications
+ * which load descriptors at runtime do not accumulate the plans of the types they no longer
+ * use. A released plan is compiled again on its next use.
+ */
+final class CompiledPlan {
+
+    /**
+     * The maximum number of the compiled plans kept in the cache.
+     */
+    private static final int MAX_CACHED_TYPES = 4096;
+
+    private static final LoadingCache<Descriptor, CompiledPlan> plans =
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .softValues()
+                        .maximumSize(MAX_CACHED_TYPES)
+                        .build(CacheLoader.from(CompiledPlan::compile));
+
+    private final MessagePlan plan;
+    private final FieldValidator[] fields;
+
+    private CompiledPlan(MessagePlan plan) {
+        this.plan = plan;
+        this.fields = plan.fields()
+                          .stream()
+                          .map(CompiledPlan::validatorFor)
+                          .toArray(FieldValidator[]::new);
+    }
+
+    /**
+     * Returns the compiled plan for the given message type.
+     */
+    static CompiledPlan of(Descriptor type) {
+        return plans.getUnchecked(type);
+    }
+
+    private static CompiledPlan compile(Descriptor type) {
+        return new CompiledPlan(MessagePlan.compile(type));
+    }
+
+    private static FieldValidator validatorFor(FieldPlan field) {
+        var descriptor = field.field();
+        if (descriptor.isMapField()) {
+            return new MapField(field);
+        }
+        if (descriptor.isRepeated()) {
+            return new RepeatedField(field);
+        }
+        return new SingularField(field);
+    }
+
+    /**
+     * Returns the plan compiled by this instance.
+     */
+    MessagePlan plan() {
+        return plan;
+    }
+
+    /**
+     * Validates the given message of the type of this plan.
+     *
+     * @see DescriptorValidator#validate
+     */
+    List<ConstraintViolation> validate(Message message,
+                                       FieldPath parentPath,
+                                       @Nullable String parentName) {
+        return DescriptorValidator.validate(plan, message, parentPath, parentName,
+                                            this::evaluate);
+    }
+
+    private void evaluate(Message message,
+                          FieldPath parentPath,
+                          String typeName,
+                          ViolationCollector out) {
+        for (var field : fields) {
+            field.validate(message, parentPath, typeName, out);
+        }
+    }
+
+    /**
+     * Validates a single field of a message.
+     */
+    private abstract static class FieldValidator {
+
+        final FieldPlan plan;
+        final FieldDescriptor field;
+        final boolean required;
+        final ValueCheck[] checks;
+        final boolean validated;
+        private final FieldPath topLevelPath;
+        private volatile @Nullable CompiledPlan nested;
+
+        FieldValidator(FieldPlan plan) {
+            this.plan = plan;
+            this.field = plan.field();
+            this.required = plan.isRequired();
+            this.checks = plan.checks().toArray(new ValueCheck[0]);
+            this.validated = plan.isValidated()
+                    && plan.valueField().getJavaType() == JavaType.MESSAGE;
+            this.topLevelPath = Violations.resolve(FieldPath.getDefaultInstance(), field);
+        }
+
+        /**
+         * Validates the field of the given message.
+         */
+        abstract void validate(Message message, FieldPath parentPath, String typeName,
+                               ViolationCollector out);
+
+        /**
+         * Returns the path to the field in a message found by the given path.
+         */
+        final FieldPath pathFrom(FieldPath parentPath) {
+            return parentPath.getFieldNameCount() == 0
+                   ? topLevelPath
+                   : Violations.resolve(parentPath, field);
+        }
+
+        /**
+         * Checks a value of a singular field, or an element of a {@code repeated}
+         * or a {@code map} field.
+         */
+        final void check(Object value, FieldPath fieldPath, String typeName,
+                         ViolationCollector out) {
+            for (var check : checks) {
+                var violation = check.check(value, plan, fieldPath, typeName);
+                if (violation != null) {
+                    out.add(check.kind(), violation);
+                }
+            }
+        }
+
+        /**
+         * Validates the given value of a {@code (validate)} field.
+         */
+        final void validateNested(Message value, FieldPath fieldPath, String typeName,
+                                  ViolationCollector out) {
+            var message = value;
+            var type = message.getDescriptorForType();
+            if (DescriptorValidator.isAny(type)) {
+                var unpacked = DescriptorValidator.unpack(message);
+                if (unpacked == null) {
+                    return;
+                }
+                message = unpacked;
+                type = unpacked.getDescriptorForType();
+            }
+            var violations = planOf(type).validate(message, fieldPath, typeName);
+            out.addAll(VALIDATE, violations);
+        }
+
+        private CompiledPlan planOf(Descriptor type) {
+            var result = nested;
+            if (result == null || result.plan.type() != type) {
+                result = CompiledPlan.of(type);
+                nested = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Validates a singular field.
+     */
+    private static final class SingularField extends FieldValidator {
+
+        private final boolean isMessage;
+
+        private SingularField(FieldPlan plan) {
+            super(plan);
+            this.isMessage = field.getJavaType() == JavaType.MESSAGE;
+        }
+
+        @Override
+        void validate(Message message, FieldPath parentPath, String typeName,
+                      ViolationCollector out) {
+            if (isMessage && !message.hasField(field)) {
+                if (required) {
+                    out.add(REQUIRED, plan.missing(pathFrom(parentPath), typeName));
+                }
+                return;
+            }
+            var value = message.getField(field);
+            var fieldPath = pathFrom(parentPath);
+            if (required && FieldPlan.isMissing(value, field)) {
+                out.add(REQUIRED, plan.missing(fieldPath, typeName));
+            }
+            check(value, fieldPath, typeName, out);
+            if (validated) {
+                var nested = (Message) value;
+                if (!DescriptorValidator.isDefault(nested)) {
+                    validateNested(nested, fieldPath, typeName, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates a {@code repeated} field.
+     */
+    private static final class RepeatedField extends FieldValidator {
+
+        private RepeatedField(FieldPlan plan) {
+            super(plan);
+        }
+
+        @Override
+        void validate(Message message, FieldPath parentPath, String typeName,
+                      ViolationCollector out) {
+            var count = message.getRepeatedFieldCount(field);
+            var fieldPath = pathFrom(parentPath);
+            var missing = count == 0;
+            for (var i = 0; i < count; i++) {
+                var element = message.getRepeatedField(field, i);
+                missing = missing || (required && FieldPlan.isMissing(element, field));
+                check(element, fieldPath, typeName, out);
+                if (validated) {
+                    validateNested((Message) element, fieldPath, typeName, out);
+                }
+            }
+            if (required && missing) {
+                out.add(REQUIRED, plan.missing(fieldPath, typeName));
+            }
+        }
+    }
+
+    /**
+     * Validates a {@code map} field.
+     */
+    private static final class MapField extends FieldValidator {
+
+        private final FieldDescriptor valueField;
+
+        private MapField(FieldPlan plan) {
+            super(plan);
+            this.valueField = plan.valueField();
+        }
+
+        @Override
+        void validate(Message message, FieldPath parentPath, String typeName,
+                      ViolationCollector out) {
+            var count = message.getRepeatedFieldCount(field);
+            var fieldPath = pathFrom(parentPath);
+            var missing = count == 0;
+            for (var i = 0; i < count; i++) {
+                var entry = (Message) message.getRepeatedField(field, i);
+                var value = entry.getField(valueField);
+                missing = missing || (required && FieldPlan.isMissing(value, valueField));
+                check(value, fieldPath, typeName, out);
+                if (validated) {
+                    validateNested((Message) value, fieldPath, typeName, out);
+                }
+            }
+            if (required && missing) {
+                out.add(REQUIRED, plan.missing(fieldPath, typeName));
+            }
+        }
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import io.spine.protobuf.AnyPacker;
+import io.spine.type.TypeName;
+import io.spine.validation.ConstraintViolation;
+import io.spine.validation.ValidatableMessage;
+import io.spine.validation.ValidatorRegistry;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.validation.dynamic.ConstraintKind.REQUIRED;
+import static io.spine.validation.dynamic.ConstraintKind.VALIDATE;
+import static java.lang.String.format;
+
+/**
+ * Validates messages according to the validation options found in their descriptors.
+ *
+ * <p>The validator is intended for messages which do not carry generated validation code,
+ * such as {@link com.google.protobuf.DynamicMessage DynamicMessage}s created for
+ * the types known only by their descriptors, or messages of the classes generated
+ * without the Validation plugin.
+ *
+ * <p>The validator is not used by {@link io.spine.validation.Validate Validate}, which
+ * checks messages without the generated validation code only by the custom validators.
+ * The options of such messages are enforced only when the validator is called explicitly.
+ *
+ * <p>The options of a type are compiled into a plan once per descriptor. The plan is
+ * cached and shared by all the validators of the type, so that obtaining a validator
+ * and validating a message does not read the options again.
+ *
+ * <p>A validator {@linkplain #forType(Descriptor) interprets} the plan, or runs the plan
+ * {@linkplain #compiled(Descriptor) compiled} into a chain of field validators specialized
+ * for the kinds of the fields. The compiled form resolves the kind of each field and its
+ * checks once per type instead of once per message. Both forms report the same violations.
+ *
+ * <p>The validator evaluates the {@code (required)}, {@code (pattern)}, {@code (min)},
+ * {@code (max)}, {@code (range)} and {@code (validate)} options, and reports violations
+ * in the same way as the generated code does. {@linkplain ValidatorRegistry Custom
+ * validators} registered for the generated class of the type are applied after them.
+ * Messages of the types which use other validation options are validated by their
+ * generated classes. Messages of classes that carry generated validation code
+ * are always validated by it.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var type = registry.descriptorFor(typeUrl);
+ * var message = DynamicMessage.parseFrom(type, bytes);
+ * var violations = DescriptorValidator.forType(type).violationsOf(message);
+ * }</pre>
+ *
+ * @see WireValidator
+ */
+public final class DescriptorValidator {
+
+    private static final FieldPath noParentPath = FieldPath.getDefaultInstance();
+
+    private final MessagePlan plan;
+    private final @Nullable CompiledPlan compiled;
+
+    private DescriptorValidator(MessagePlan plan, @Nullable CompiledPlan compiled) {
+        this.plan = plan;
+        this.compiled = compiled;
+    }
+
+    /**
+     * Creates a validator for the messages of the given type which interprets
+     * the validation plan of the type.
+     */
+    public static DescriptorValidator forType(Descriptor type) {
+        checkNotNull(type);
+        return new DescriptorValidator(MessagePlan.of(type), null);
+    }
+
+    /**
+     * Creates a validator for the messages of the given type which runs
+     * the validation plan of the type compiled into field validators.
+     *
+     * <p>Compiled plans are cached per descriptor instance. The least recently used plans
+     * are evicted when the cache is full, and the plans may be released by the garbage
+     * collector when memory is needed.
+     */
+    public static DescriptorValidator compiled(Descriptor type) {
+        checkNotNull(type);
+        var compiled = CompiledPlan.of(type);
+        return new DescriptorValidator(compiled.plan(), compiled);
+    }
+
+    /**
+     * Tells if the messages of the given type can be validated by a {@code DescriptorValidator}.
+     *
+     * <p>It is the case when the type uses only the supported validation options, or
+     * its messages can be validated by their generated classes.
+     */
+    public static boolean canValidate(Descriptor type) {
+        checkNotNull(type);
+        var plan = MessagePlan.of(type);
+        return !plan.hasUnsupportedOptions() || plan.hasValidatableClass();
+    }
+
+    /**
+     * Returns the type of the messages validated by this validator.
+     */
+    public Descriptor type() {
+        return plan.type();
+    }
+
+    /**
+     * Validates the given message.
+     *
+     * @return violations of the validation rules or an empty list if the message is valid
+     * @throws IllegalArgumentException
+     *         if the message is not of the type of this validator
+     * @throws IllegalStateException
+     *         if the type of the message uses the options not supported by this validator,
+     *         and the generated class of the type is not available
+     */
+    public List<ConstraintViolation> violationsOf(Message message) {
+        checkNotNull(message);
+        var messageType = message.getDescriptorForType().getFullName();
+        checkArgument(messageType.equals(plan.typeName()),
+                      "Expected a message of the type `%s`, but got `%s`.",
+                      plan.typeName(), messageType);
+        if (compiled != null) {
+            return compiled.validate(message, noParentPath, null);
+        }
+        return interpret(plan, message, noParentPath, null);
+    }
+
+    private static List<ConstraintViolation> interpret(MessagePlan plan,
+                                                       Message message,
+                                                       FieldPath parentPath,
+                                                       @Nullable String parentName) {
+        return validate(plan, message, parentPath, parentName,
+                        (msg, path, typeName, out) -> evaluate(plan, msg, path, typeName, out));
+    }
+
+    /**
+     * Validates the given message of the type of the given plan.
+     *
+     * <p>Delegates the validation to the generated code when the plan cannot be used.
+     * Otherwise, evaluates the plan with the given evaluation, and applies
+     * the custom validators of the type.
+     *
+     * @param plan
+     *         the plan of the message type
+     * @param message
+     *         the message to validate
+     * @param parentPath
+     *         the path to the message; empty for the top-level message
+     * @param parentName
+     *         the name of the validated top-level type, or {@code null}
+     *         for the top-level message
+     * @param evaluation
+     *         the evaluation of the plan
+     */
+    static List<ConstraintViolation> validate(MessagePlan plan,
+                                              Message message,
+                                              FieldPath parentPath,
+                                              @Nullable String parentName,
+                                              Evaluation evaluation) {
+        if (message instanceof ValidatableMessage) {
+            return MessagePlan.validateGenerated(message, parentPath, parentName);
+        }
+        if (plan.hasUnsupportedOptions()) {
+            if (!plan.hasValidatableClass()) {
+                throw new IllegalStateException(format(
+                        "Unable to validate the message of the type `%s` by its descriptor." +
+                                " The type uses the options not supported by" +
+                                " the descriptor-driven validation," +
+                                " and its generated class is not available.",
+                        plan.typeName()));
+            }
+            var generated = plan.toGenerated(message);
+            return MessagePlan.validateGenerated(generated, parentPath, parentName);
+        }
+        var customValidators = plan.hasCustomValidators();
+        if (plan.isEmpty() && !customValidators) {
+            return ImmutableList.of();
+        }
+        var typeName = parentName == null ? plan.typeName() : parentName;
+        var out = new ViolationCollector();
+        evaluation.evaluate(message, parentPath, typeName, out);
+        var violations = out.toList();
+        if (!customValidators) {
+            return violations;
+        }
+        var result = new ArrayList<>(violations);
+        var name = parentName == null ? null : TypeName.of(parentName);
+        result.addAll(ValidatorRegistry.validate(plan.toGenerated(message), parentPath, name));
+        return result;
+    }
+
+    private static void evaluate(MessagePlan plan,
+                                 Message message,
+                                 FieldPath parentPath,
+                                 String typeName,
+                                 ViolationCollector out) {
+        for (var field : plan.fields()) {
+            var descriptor = field.field();
+            var fieldPath = Violations.resolve(parentPath, descriptor);
+            if (descriptor.isRepeated()) {
+                var elements = elements(message, field);
+                checkRequired(field, elements, fieldPath, typeName, out);
+                for (var element : elements) {
+                    checkElement(field, element, fieldPath, typeName, out);
+                }
+            } else {
+                var value = message.getField(descriptor);
+                if (field.isRequired() && FieldPlan.isMissing(value, descriptor)) {
+                    out.add(REQUIRED, field.missing(fieldPath, typeName));
+                }
+                if (descriptor.getJavaType() == JavaType.MESSAGE && !message.hasField(descriptor)) {
+                    continue;
+                }
+                checkElement(field, value, fieldPath, typeName, out);
+            }
+        }
+    }
+
+    /**
+     * Obtains the elements of a {@code repeated} field, or the values of a {@code map} field.
+     */
+    private static List<?> elements(Message message, FieldPlan field) {
+        var descriptor = field.field();
+        var count = message.getRepeatedFieldCount(descriptor);
+        if (count == 0) {
+            return ImmutableList.of();
+        }
+        if (!descriptor.isMapField()) {
+            return (List<?>) message.getField(descriptor);
+        }
+        var valueField = field.valueField();
+        var values = new ArrayList<>(count);
+        for (var i = 0; i < count; i++) {
+            var entry = (Message) message.getRepeatedField(descriptor, i);
+            values.add(entry.getField(valueField));
+        }
+        return values;
+    }
+
+    private static void checkRequired(FieldPlan field,
+                                      List<?> elements,
+                                      FieldPath fieldPath,
+                                      String typeName,
+                                      ViolationCollector out) {
+        if (!field.isRequired()) {
+            return;
+        }
+        var valueField = field.valueField();
+        var missing = elements.isEmpty()
+                || elements.stream().anyMatch(e -> FieldPlan.isMissing(e, valueField));
+        if (missing) {
+            out.add(REQUIRED, field.missing(fieldPath, typeName));
+        }
+    }
+
+    /**
+     * Checks a value of a singular field, or an element of a {@code repeated}
+     * or a {@code map} field.
+     */
+    private static void checkElement(FieldPlan field,
+                                     Object value,
+                                     FieldPath fieldPath,
+                                     String typeName,
+                                     ViolationCollector out) {
+        field.checkValue(value, fieldPath, typeName, out);
+        if (field.isValidated() && value instanceof Message nested) {
+            if (!field.field().isRepeated() && isDefault(nested)) {
+                return;
+            }
+            out.addAll(VALIDATE, validateNested(nested, fieldPath, typeName));
+        }
+    }
+
+    /**
+     * Tells if the given message is the default instance of its type.
+     */
+    static boolean isDefault(Message message) {
+        return message.equals(message.getDefaultInstanceForType());
+    }
+
+    private static List<ConstraintViolation> validateNested(Message message,
+                                                            FieldPath fieldPath,
+                                                            String typeName) {
+        var type = message.getDescriptorForType();
+        if (isAny(type)) {
+            var unpacked = unpack(message);
+            return unpacked == null
+                   ? ImmutableList.of()
+                   : validateNested(unpacked, fieldPath, typeName);
+        }
+        return interpret(MessagePlan.of(type), message, fieldPath, typeName);
+    }
+
+    /**
+     * Tells if the given type is {@code google.protobuf.Any}.
+     */
+    static boolean isAny(Descriptor type) {
+        return type.getFullName().equals(Any.getDescriptor().getFullName());
+    }
+
+    /**
+     * Unpacks the message packed into the given {@code Any}.
+     *
+     * <p>The {@code Any} may be either a generated message or a dynamic one.
+     * As in the generated code, an empty {@code Any} is treated as valid, and
+     * a message of a type unknown to the application cannot be validated.
+     *
+     * @return the unpacked message, or {@code null} if the {@code Any} is empty
+     * @throws io.spine.type.UnknownTypeException
+     *         if the type of the packed message is unknown
+     */
+    static @Nullable Message unpack(Message any) {
+        var packed = toAny(any);
+        if (packed.getTypeUrl().isEmpty()) {
+            return null;
+        }
+        return AnyPacker.unpack(packed);
+    }
+
+    private static Any toAny(Message message) {
+        if (message instanceof Any any) {
+            return any;
+        }
+        var type = message.getDescriptorForType();
+        return Any.newBuilder()
+                  .setTypeUrl((String) message.getField(fieldOf(type, Any.TYPE_URL_FIELD_NUMBER)))
+                  .setValue((ByteString) message.getField(fieldOf(type, Any.VALUE_FIELD_NUMBER)))
+                  .build();
+    }
+
+    private static FieldDescriptor fieldOf(Descriptor type, int number) {
+        return checkNotNull(type.findFieldByNumber(number));
+    }
+
+    /**
+     * Evaluates a validation plan for a message.
+     */
+    @FunctionalInterface
+    interface Evaluation {
+
+        /**
+         * Evaluates the plan for the given message.
+         *
+         * @param message
+         *         the validated message
+         * @param parentPath
+         *         the path to the message; empty for the top-level message
+         * @param typeName
+         *         the name of the validated top-level type
+         * @param out
+         *         the collector of the violations
+         */
+        void evaluate(Message message, FieldPath parentPath, String typeName,
+                      ViolationCollector out);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Message;
+import com.google.protobuf.ProtocolMessageEnum;
+import io.spine.base.FieldPath;
+import io.spine.option.IfMissingOption;
+import io.spine.option.OptionsProto;
+import io.spine.validation.ConstraintViolation;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+import static io.spine.validation.dynamic.Violations.FIELD_PATH;
+import static io.spine.validation.dynamic.Violations.FIELD_TYPE;
+import static io.spine.validation.dynamic.Violations.PARENT_TYPE;
+import static io.spine.validation.dynamic.Violations.joined;
+
+/**
+ * The compiled constraints of a single field.
+ */
+final class FieldPlan {
+
+    private final FieldDescriptor field;
+    private final int index;
+    private final String typeName;
+    private final @Nullable String requiredMessage;
+    private final ImmutableList<ValueCheck> checks;
+    private final boolean validate;
+
+    private FieldPlan(FieldDescriptor field,
+                      int index,
+                      @Nullable String requiredMessage,
+                      ImmutableList<ValueCheck> checks,
+                      boolean validate) {
+        this.field = field;
+        this.index = index;
+        this.typeName = Violations.typeNameOf(field);
+        this.requiredMessage = requiredMessage;
+        this.checks = checks;
+        this.validate = validate;
+    }
+
+    /**
+     * Compiles the constraints of the given field.
+     *
+     * @param field
+     *         the field to compile
+     * @param index
+     *         the index of the plan among the plans of the message fields
+     * @param unsupported
+     *         the list to which the names of the options not supported by
+     *         the descriptor-driven validation are added
+     * @return the plan, or {@code null} if the field has no supported constraints
+     */
+    static @Nullable FieldPlan compile(FieldDescriptor field, int index, List<String> unsupported) {
+        var options = Options.of(field);
+        if (options.hasExtension(OptionsProto.goes)) {
+            unsupported.add("goes");
+        }
+        if (options.getExtension(OptionsProto.distinct)) {
+            unsupported.add("distinct");
+        }
+        String requiredMessage = null;
+        if (options.getExtension(OptionsProto.required)) {
+            var ifMissing = options.getExtension(OptionsProto.ifMissing);
+            requiredMessage = Options.errorMessage(ifMissing.getErrorMsg(),
+                                                   IfMissingOption.getDescriptor());
+        }
+        var checks = ImmutableList.<ValueCheck>builder();
+        if (options.hasExtension(OptionsProto.pattern)) {
+            checks.add(PatternCheck.of(options.getExtension(OptionsProto.pattern)));
+        }
+        if (options.hasExtension(OptionsProto.range)) {
+            addBound(checks, BoundCheck.range(field, options.getExtension(OptionsProto.range)),
+                     "range", unsupported);
+        }
+        if (options.hasExtension(OptionsProto.max)) {
+            addBound(checks, BoundCheck.max(field, options.getExtension(OptionsProto.max)),
+                     "max", unsupported);
+        }
+        if (options.hasExtension(OptionsProto.min)) {
+            addBound(checks, BoundCheck.min(field, options.getExtension(OptionsProto.min)),
+                     "min", unsupported);
+        }
+        var validate = options.getExtension(OptionsProto.validate);
+        var builtChecks = checks.build();
+        if (requiredMessage == null && builtChecks.isEmpty() && !validate) {
+            return null;
+        }
+        return new FieldPlan(field, index, requiredMessage, builtChecks, validate);
+    }
+
+    private static void addBound(ImmutableList.Builder<ValueCheck> checks,
+                                 @Nullable BoundCheck check,
+                                 String option,
+                                 List<String> unsupported) {
+        if (check == null) {
+            unsupported.add(option);
+        } else {
+            checks.add(check);
+        }
+    }
+
+    /**
+     * Returns the descriptor of the field.
+     */
+    FieldDescriptor field() {
+        return field;
+    }
+
+    /**
+     * Returns the index of this plan among the plans of the message fields.
+     */
+    int index() {
+        return index;
+    }
+
+    /**
+     * Returns the name of the field type as used in error messages.
+     */
+    String typeName() {
+        return typeName;
+    }
+
+    /**
+     * Tells if the field is {@code (required)}.
+     */
+    boolean isRequired() {
+        return requiredMessage != null;
+    }
+
+    /**
+     * Returns the checks applied to each value of the field.
+     */
+    ImmutableList<ValueCheck> checks() {
+        return checks;
+    }
+
+    /**
+     * Tells if the field is marked with {@code (validate)}.
+     */
+    boolean isValidated() {
+        return validate;
+    }
+
+    /**
+     * Returns the descriptor of the values of this field.
+     *
+     * <p>For a map field, it is the descriptor of the map values.
+     * For other fields, it is the field itself.
+     */
+    FieldDescriptor valueField() {
+        return field.isMapField()
+               ? field.getMessageType().findFieldByNumber(2)
+               : field;
+    }
+
+    /**
+     * Checks the given value with the {@linkplain #checks() value checks}.
+     */
+    void checkValue(Object value, FieldPath fieldPath, String typeName, ViolationCollector out) {
+        for (var check : checks) {
+            var violation = check.check(value, this, fieldPath, typeName);
+            if (violation != null) {
+                out.add(check.kind(), violation);
+            }
+        }
+    }
+
+    /**
+     * Creates a violation of the {@code (required)} option.
+     */
+    ConstraintViolation missing(FieldPath fieldPath, String typeName) {
+        var placeholders = ImmutableMap.of(
+                FIELD_PATH, joined(fieldPath),
+                FIELD_TYPE, this.typeName,
+                PARENT_TYPE, typeName
+        );
+        return Violations.create(requireNonNullMessage(), placeholders,
+                                 typeName, fieldPath, null);
+    }
+
+    private String requireNonNullMessage() {
+        if (requiredMessage == null) {
+            throw new IllegalStateException(
+                    "The field `" + field.getFullName() + "` is not required.");
+        }
+        return requiredMessage;
+    }
+
+    /**
+     * Tells if the given value of an element of a {@code repeated} or {@code map} field,
+     * or the value of a singular field is treated as missing by the {@code (required)} option.
+     *
+     * <p>A value is missing if it is the default value of its type.
+     * Numbers and booleans are never missing, as they cannot be {@code (required)}.
+     *
+     * @param value
+     *         the value as {@code String}, {@code ByteString}, {@code Message},
+     *         enum value, or a number of an enum value
+     */
+    static boolean isMissing(@Nullable Object value, FieldDescriptor valueField) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof ByteString bytes) {
+            return bytes.isEmpty();
+        }
+        if (value instanceof String string) {
+            return string.isEmpty();
+        }
+        if (value instanceof Message message) {
+            return message.equals(message.getDefaultInstanceForType());
+        }
+        if (value instanceof EnumValueDescriptor enumValue) {
+            return enumValue.getNumber() == 0;
+        }
+        if (value instanceof ProtocolMessageEnum enumValue) {
+            return enumValue.getNumber() == 0;
+        }
+        if (value instanceof Integer number && valueField.getJavaType() == JavaType.ENUM) {
+            return number == 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.OneofOptions;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import io.spine.base.FieldPath;
+import io.spine.option.OptionsProto;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+import io.spine.validation.ConstraintViolation;
+import io.spine.validation.ValidatableMessage;
+import io.spine.validation.ValidationError;
+import io.spine.validation.ValidatorRegistry;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.protobuf.Descriptors.FieldDescriptor.Type.GROUP;
+import static java.lang.String.format;
+
+/**
+ * The compiled constraints of a message type.
+ *
+ * <p>A plan is compiled from the validation options of a message {@link Descriptor} once,
+ * and then cached for the descriptor as a part of its {@link CompiledPlan}.
+ *
+ * <p>The plan supports the {@code (required)}, {@code (pattern)}, {@code (min)},
+ * {@code (max)}, {@code (range)} and {@code (validate)} options. If the type declares
+ * other validation options, or there are {@linkplain ValidatorRegistry custom validators}
+ * for the type, the plan {@linkplain #needsGeneratedCode() requires} the generated class
+ * of the message to validate it.
+ */
+final class MessagePlan {
+
+    private final Descriptor type;
+    private final String typeName;
+    private final ImmutableList<FieldPlan> fields;
+    private final @Nullable FieldPlan[] byNumber;
+    private final ImmutableList<String> unsupportedOptions;
+    private final boolean hasRequired;
+    private final boolean hasGroups;
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType") // Lazily resolved class.
+    private volatile @Nullable Optional<Class<? extends Message>> javaClass;
+
+    private MessagePlan(Descriptor type,
+                        ImmutableList<FieldPlan> fields,
+                        ImmutableList<String> unsupportedOptions) {
+        this.type = type;
+        this.typeName = type.getFullName();
+        this.fields = fields;
+        this.unsupportedOptions = unsupportedOptions;
+        this.hasRequired = fields.stream().anyMatch(FieldPlan::isRequired);
+        this.hasGroups = fields.stream().anyMatch(f -> f.field().getType() == GROUP);
+        var maxNumber = fields.stream()
+                .mapToInt(f -> f.field().getNumber())
+                .max()
+                .orElse(0);
+        this.byNumber = new FieldPlan[maxNumber + 1];
+        fields.forEach(f -> byNumber[f.field().getNumber()] = f);
+    }
+
+    /**
+     * Returns the plan for the given message type.
+     *
+     * <p>The plan is taken from the {@linkplain CompiledPlan#of cache} of the compiled plans,
+     * so that the cache is the only one holding the descriptors.
+     */
+    static MessagePlan of(Descriptor type) {
+        return CompiledPlan.of(type).plan();
+    }
+
+    /**
+     * Compiles the plan for the given message type without caching it.
+     */
+    static MessagePlan compile(Descriptor type) {
+        var unsupported = new ArrayList<String>();
+        var messageOptions = Options.of(type);
+        if (messageOptions.hasExtension(OptionsProto.require)) {
+            unsupported.add("require");
+        }
+        for (var oneof : type.getOneofs()) {
+            var oneofOptions = Options.of(oneof);
+            var choice = oneofOptions.getExtension(OptionsProto.choice);
+            if (choice.getRequired() || isRequiredOneof(oneofOptions)) {
+                unsupported.add("choice");
+            }
+        }
+        var fields = ImmutableList.<FieldPlan>builder();
+        var index = 0;
+        for (var field : type.getFields()) {
+            var plan = FieldPlan.compile(field, index, unsupported);
+            if (plan != null) {
+                fields.add(plan);
+                index++;
+            }
+        }
+        return new MessagePlan(type, fields.build(), ImmutableList.copyOf(unsupported));
+    }
+
+    @SuppressWarnings("deprecation") // Still supported by the generated code.
+    private static boolean isRequiredOneof(OneofOptions options) {
+        return options.getExtension(OptionsProto.isRequired);
+    }
+
+    /**
+     * Returns the message type of this plan.
+     */
+    Descriptor type() {
+        return type;
+    }
+
+    /**
+     * Returns the full name of the message type.
+     */
+    String typeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns the plans of the constrained fields in the order of declaration.
+     */
+    ImmutableList<FieldPlan> fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the plan of the field with the given number, or {@code null}
+     * if the field has no constraints.
+     */
+    @Nullable FieldPlan field(int number) {
+        return number < byNumber.length ? byNumber[number] : null;
+    }
+
+    /**
+     * Tells if the type has at least one {@code (required)} field.
+     */
+    boolean hasRequired() {
+        return hasRequired;
+    }
+
+    /**
+     * Tells if the type has at least one constrained field of the group type.
+     */
+    boolean hasGroups() {
+        return hasGroups;
+    }
+
+    /**
+     * Tells if the type has no constraints evaluated by this plan.
+     */
+    boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Tells if messages of the type can only be validated by the generated code.
+     *
+     * <p>It is the case when the type declares the options not supported by the plan,
+     * or when there are custom validators registered for the type.
+     */
+    boolean needsGeneratedCode() {
+        return hasUnsupportedOptions() || hasCustomValidators();
+    }
+
+    /**
+     * Tells if the type declares the validation options not supported by the plan.
+     */
+    boolean hasUnsupportedOptions() {
+        return !unsupportedOptions.isEmpty();
+    }
+
+    /**
+     * Tells if there are custom validators registered for the type.
+     */
+    boolean hasCustomValidators() {
+        var cls = javaClass();
+        return cls.isPresent() && !ValidatorRegistry.get(cls.get()).isEmpty();
+    }
+
+    /**
+     * Validates the given serialized message using its generated class.
+     *
+     * @param bytes
+     *         the serialized message
+     * @param parentPath
+     *         the path to the field containing the message, or an empty path
+     *         for a top-level message
+     * @param parentName
+     *         the name of the root type for in-depth validation, or {@code null}
+     *         for a top-level message
+     * @throws IllegalStateException
+     *         if the generated class of the type is not available
+     */
+    List<ConstraintViolation> validateGenerated(ByteString bytes,
+                                                FieldPath parentPath,
+                                                @Nullable String parentName)
+            throws InvalidProtocolBufferException {
+        var cls = javaClass().orElseThrow(() -> new IllegalStateException(format(
+                "Unable to validate the message of the type `%s` by its descriptor." +
+                        " The type uses the options not supported by" +
+                        " the descriptor-driven validation: %s, has custom validators," +
+                        " or constrained group fields." +
+                        " The generated class of the type is not available.",
+                typeName, unsupportedOptions)));
+        var message = Internal.getDefaultInstance(cls)
+                              .getParserForType()
+                              .parseFrom(bytes);
+        return validateGenerated(message, parentPath, parentName);
+    }
+
+    /**
+     * Converts the given message into an instance of the generated class of the type.
+     *
+     * @throws IllegalStateException
+     *         if the generated class of the type is not available
+     */
+    Message toGenerated(Message message) {
+        var cls = javaClass().orElseThrow(() -> new IllegalStateException(format(
+                "The generated class of the type `%s` is not available.", typeName)));
+        if (cls.isInstance(message)) {
+            return message;
+        }
+        try {
+            return Internal.getDefaultInstance(cls)
+                           .getParserForType()
+                           .parseFrom(message.toByteString());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tells if the generated class of the type validates its messages.
+     */
+    boolean hasValidatableClass() {
+        var cls = javaClass();
+        return cls.isPresent() && ValidatableMessage.class.isAssignableFrom(cls.get());
+    }
+
+    /**
+     * Validates the given message of a generated class in the same way
+     * as the generated code does.
+     *
+     * <p>A message of a {@link ValidatableMessage} class is validated by its generated
+     * code, which also applies the validators registered in {@link ValidatorRegistry}
+     * for the type. Other messages are validated by the registered validators only,
+     * as the generated code of the {@code (validate)} option does.
+     */
+    static List<ConstraintViolation> validateGenerated(Message message,
+                                                       FieldPath parentPath,
+                                                       @Nullable String parentName) {
+        var name = parentName == null ? null : TypeName.of(parentName);
+        if (!(message instanceof ValidatableMessage validatable)) {
+            return ValidatorRegistry.validate(message, parentPath, name);
+        }
+        return validatable.validate(parentPath, name)
+                          .map(ValidationError::getConstraintViolationList)
+                          .orElse(ImmutableList.of());
+    }
+
+    /**
+     * Returns the generated class of the type, if it is known.
+     */
+    @SuppressWarnings("OptionalAssignedToNull") // Lazy initialization.
+    Optional<Class<? extends Message>> javaClass() {
+        var result = javaClass;
+        if (result == null) {
+            result = findJavaClass(type);
+            javaClass = result;
+        }
+        return result;
+    }
+
+    private static Optional<Class<? extends Message>> findJavaClass(Descriptor type) {
+        try {
+            Class<? extends Message> cls = TypeUrl.from(type).toJavaClass();
+            return Optional.of(cls);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.DescriptorProtos.OneofOptions;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.OneofDescriptor;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import io.spine.option.OptionsProto;
+
+/**
+ * Reads the validation options of descriptors.
+ *
+ * <p>Descriptors of generated classes have the options resolved, because the generated code
+ * registers the options used in a file. Descriptors built at runtime, e.g., from
+ * a {@code FileDescriptorProto} received from a schema registry, keep the options
+ * as unknown fields unless the options were parsed with an extension registry.
+ * In the latter case, the options are re-parsed with the registry
+ * of the validation options.
+ */
+final class Options {
+
+    private static final ExtensionRegistry registry = createRegistry();
+
+    /** Prevents instantiation of this utility class. */
+    private Options() {
+    }
+
+    private static ExtensionRegistry createRegistry() {
+        var registry = ExtensionRegistry.newInstance();
+        OptionsProto.registerAllExtensions(registry);
+        return registry.getUnmodifiable();
+    }
+
+    /**
+     * Returns the options of the given field.
+     */
+    static FieldOptions of(FieldDescriptor field) {
+        var options = field.getOptions();
+        if (!hasUnknown(options)) {
+            return options;
+        }
+        try {
+            return FieldOptions.parseFrom(options.toByteString(), registry);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the options of the given message type.
+     */
+    static MessageOptions of(Descriptor type) {
+        var options = type.getOptions();
+        if (!hasUnknown(options)) {
+            return options;
+        }
+        try {
+            return MessageOptions.parseFrom(options.toByteString(), registry);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the options of the given {@code oneof} group.
+     */
+    static OneofOptions of(OneofDescriptor oneof) {
+        var options = oneof.getOptions();
+        if (!hasUnknown(options)) {
+            return options;
+        }
+        try {
+            return OneofOptions.parseFrom(options.toByteString(), registry);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the default error message of the given option type.
+     *
+     * <p>The default message is declared with the {@code (default_message)} option.
+     */
+    static String defaultMessage(Descriptor optionType) {
+        return optionType.getOptions()
+                         .getExtension(OptionsProto.defaultMessage);
+    }
+
+    /**
+     * Returns the given error message, or the default message of the given option type
+     * if the message is empty.
+     */
+    static String errorMessage(String errorMsg, Descriptor optionType) {
+        return errorMsg.isEmpty() ? defaultMessage(optionType) : errorMsg;
+    }
+
+    private static boolean hasUnknown(Message options) {
+        return !options.getUnknownFields()
+                       .asMap()
+                       .isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.ByteString;
+import io.spine.base.FieldPath;
+import io.spine.option.PatternOption;
+import io.spine.validation.ConstraintViolation;
+import io.spine.validation.Utf8Patterns;
+import org.jspecify.annotations.Nullable;
+
+import java.util.regex.Pattern;
+
+import static io.spine.validation.dynamic.Violations.FIELD_PATH;
+import static io.spine.validation.dynamic.Violations.FIELD_TYPE;
+import static io.spine.validation.dynamic.Violations.FIELD_VALUE;
+import static io.spine.validation.dynamic.Violations.PARENT_TYPE;
+import static io.spine.validation.dynamic.Violations.joined;
+
+/**
+ * Checks that a string value matches the {@code (pattern)} option.
+ *
+ * <p>Empty strings are not checked, as in the generated code.
+ */
+final class PatternCheck extends ValueCheck {
+
+    private final Pattern pattern;
+    private final boolean partialMatch;
+    private final String errorMessage;
+    private final String regex;
+    private final String modifiers;
+
+    private PatternCheck(PatternOption option) {
+        var modifier = option.getModifier();
+        this.pattern = Pattern.compile(option.getRegex(), flagsOf(modifier));
+        this.partialMatch = modifier.getPartialMatch();
+        this.errorMessage = Options.errorMessage(option.getErrorMsg(),
+                                                 PatternOption.getDescriptor());
+        this.regex = option.getRegex();
+        this.modifiers = String.valueOf(modifier);
+    }
+
+    static PatternCheck of(PatternOption option) {
+        return new PatternCheck(option);
+    }
+
+    @Override
+    ConstraintKind kind() {
+        return ConstraintKind.PATTERN;
+    }
+
+    @Override
+    @Nullable ConstraintViolation
+    check(Object value, FieldPlan field, FieldPath fieldPath, String typeName) {
+        if (Utf8Patterns.isEmpty(value) || Utf8Patterns.matches(pattern, value, partialMatch)) {
+            return null;
+        }
+        var text = value instanceof ByteString bytes
+                   ? bytes.toStringUtf8()
+                   : (String) value;
+        var placeholders = ImmutableMap.of(
+                FIELD_PATH, joined(fieldPath),
+                FIELD_VALUE, text,
+                FIELD_TYPE, field.typeName(),
+                PARENT_TYPE, typeName,
+                "regex.pattern", regex,
+                "regex.modifiers", modifiers
+        );
+        return Violations.create(errorMessage, placeholders, typeName, fieldPath, text);
+    }
+
+    private static int flagsOf(PatternOption.Modifier modifier) {
+        var flags = 0;
+        if (modifier.getDotAll()) {
+            flags |= Pattern.DOTALL;
+        }
+        if (modifier.getCaseInsensitive()) {
+            flags |= Pattern.CASE_INSENSITIVE;
+        }
+        if (modifier.getMultiline()) {
+            flags |= Pattern.MULTILINE;
+        }
+        if (modifier.getUnicode()) {
+            flags |= Pattern.UNICODE_CASE;
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import io.spine.base.FieldPath;
+import io.spine.validation.ConstraintViolation;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A constraint checked upon a single value of a field.
+ *
+ * <p>For {@code repeated} fields, the constraint is checked for each element.
+ */
+abstract class ValueCheck {
+
+    /**
+     * Returns the kind of the checked constraint.
+     */
+    abstract ConstraintKind kind();
+
+    /**
+     * Checks the given value of the field.
+     *
+     * @param value
+     *         the field value; {@code String} and {@code bytes} values are passed
+     *         either as {@code String} or {@code ByteString}, numbers are passed boxed
+     * @param field
+     *         the plan of the checked field
+     * @param fieldPath
+     *         the path to the field
+     * @param typeName
+     *         the name of the validated type
+     * @return the violation, or {@code null} if the value is valid
+     */
+    abstract @Nullable ConstraintViolation
+    check(Object value, FieldPlan field, FieldPath fieldPath, String typeName);
+}
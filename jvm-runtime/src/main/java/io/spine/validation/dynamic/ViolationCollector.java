@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.validation.ConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Collects constraint violations grouping them by the {@linkplain ConstraintKind kind}
+ * of the violated constraint.
+ *
+ * <p>The collected violations are returned in the order of kinds, so that
+ * the result follows the order of violations reported by the generated code.
+ */
+final class ViolationCollector {
+
+    private final EnumMap<ConstraintKind, List<ConstraintViolation>> byKind =
+            new EnumMap<>(ConstraintKind.class);
+
+    void add(ConstraintKind kind, ConstraintViolation violation) {
+        byKind.computeIfAbsent(kind, k -> new ArrayList<>())
+              .add(violation);
+    }
+
+    void addAll(ConstraintKind kind, Collection<ConstraintViolation> violations) {
+        if (!violations.isEmpty()) {
+            byKind.computeIfAbsent(kind, k -> new ArrayList<>())
+                  .addAll(violations);
+        }
+    }
+
+    /**
+     * Returns the collected violations ordered by their kinds.
+     */
+    ImmutableList<ConstraintViolation> toList() {
+        var result = ImmutableList.<ConstraintViolation>builder();
+        byKind.values()
+              .forEach(result::addAll);
+        return result.build();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.base.FieldPath;
+import io.spine.protobuf.TypeConverter;
+import io.spine.string.TemplateString;
+import io.spine.validation.ConstraintViolation;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Utilities for creating {@link ConstraintViolation}s in the same format
+ * as the generated validation code does.
+ */
+final class Violations {
+
+    static final String FIELD_PATH = "field.path";
+    static final String FIELD_VALUE = "field.value";
+    static final String FIELD_TYPE = "field.type";
+    static final String PARENT_TYPE = "parent.type";
+
+    /** Prevents instantiation of this utility class. */
+    private Violations() {
+    }
+
+    /**
+     * Creates a new violation.
+     *
+     * @param template
+     *         the error message template
+     * @param placeholders
+     *         the values of the placeholders supported by the violated option
+     * @param typeName
+     *         the name of the validated type; the root type for in-depth validation
+     * @param fieldPath
+     *         the path to the invalid field
+     * @param fieldValue
+     *         the invalid value, or {@code null} if the violation does not have one
+     */
+    static ConstraintViolation create(String template,
+                                      ImmutableMap<String, String> placeholders,
+                                      String typeName,
+                                      FieldPath fieldPath,
+                                      @Nullable Object fieldValue) {
+        var message = TemplateString.newBuilder()
+                .setWithPlaceholders(template)
+                .putAllPlaceholderValue(placeholders)
+                .build();
+        var violation = ConstraintViolation.newBuilder()
+                .setMessage(message)
+                .setTypeName(typeName)
+                .setFieldPath(fieldPath);
+        if (fieldValue != null) {
+            violation.setFieldValue(TypeConverter.toAny(fieldValue));
+        }
+        return violation.build();
+    }
+
+    /**
+     * Creates a new path to the given field nested into the given parent path.
+     */
+    static FieldPath resolve(FieldPath parent, FieldDescriptor field) {
+        return parent.toBuilder()
+                     .addFieldName(field.getName())
+                     .build();
+    }
+
+    /**
+     * Joins the names of the fields in the given path with dots.
+     */
+    static String joined(FieldPath path) {
+        return String.join(".", path.getFieldNameList());
+    }
+
+    /**
+     * Returns the name of the field type as used in error messages.
+     *
+     * <p>Examples: {@code string}, {@code repeated int32}, {@code map<string, acme.Task>}.
+     */
+    static String typeNameOf(FieldDescriptor field) {
+        if (field.isMapField()) {
+            var entry = field.getMessageType();
+            var key = elementTypeName(entry.findFieldByNumber(1));
+            var value = elementTypeName(entry.findFieldByNumber(2));
+            return "map<" + key + ", " + value + '>';
+        }
+        var element = elementTypeName(field);
+        return field.isRepeated() ? "repeated " + element : element;
+    }
+
+    private static String elementTypeName(FieldDescriptor field) {
+        return switch (field.getJavaType()) {
+            case MESSAGE -> field.getMessageType().getFullName();
+            case ENUM -> field.getEnumType().getFullName();
+            default -> field.getType().name().toLowerCase(Locale.ROOT);
+        };
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+import io.spine.base.FieldPath;
+import io.spine.type.TypeUrl;
+import io.spine.validation.ConstraintViolation;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.validation.dynamic.ConstraintKind.REQUIRED;
+import static io.spine.validation.dynamic.ConstraintKind.VALIDATE;
+
+/**
+ * Validates serialized messages without parsing them into message objects.
+ *
+ * <p>The validator walks the tag stream of the serialized message and evaluates
+ * the constraints declared in the message {@linkplain Descriptor descriptor} over
+ * the encoded values. Fields without constraints are skipped without decoding,
+ * and {@code string} and {@code bytes} values are read as slices of the input.
+ * This allows rejecting invalid messages, e.g., at a service boundary, without
+ * paying for the construction of the message graph.
+ *
+ * <p>The validator evaluates the {@code (required)}, {@code (pattern)}, {@code (min)},
+ * {@code (max)}, {@code (range)} and {@code (validate)} options, and reports violations
+ * in the same way as the generated code does. Messages of the types which use other
+ * validation options, or have {@linkplain io.spine.validation.ValidatorRegistry custom
+ * validators}, are parsed into their generated classes and validated by them. So are
+ * the messages of the types having constrained group fields, the values of which are
+ * delimited by the group tags, and cannot be read as slices of the input.
+ *
+ * <p>A validator is thread-safe. The compiled constraints of a message type are
+ * cached and shared by all the validators of the type.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var validator = WireValidator.forType(Order.getDescriptor());
+ * var violations = validator.violationsOf(requestBytes);
+ * if (!violations.isEmpty()) {
+ *     // Reject the request.
+ * }
+ * }</pre>
+ */
+public final class WireValidator {
+
+    private static final FieldPath noParentPath = FieldPath.getDefaultInstance();
+
+    private final MessagePlan plan;
+
+    private WireValidator(MessagePlan plan) {
+        this.plan = plan;
+    }
+
+    /**
+     * Creates a validator for the serialized messages of the given type.
+     */
+    public static WireValidator forType(Descriptor type) {
+        checkNotNull(type);
+        return new WireValidator(MessagePlan.of(type));
+    }
+
+    /**
+     * Tells if the serialized messages of the given type can be validated
+     * by a {@code WireValidator}.
+     *
+     * <p>It is the case when the type uses only the supported validation options and has
+     * no constrained group fields, or its messages can be parsed into their generated class.
+     * Nested messages are checked in the same way when they are validated.
+     */
+    public static boolean canValidate(Descriptor type) {
+        checkNotNull(type);
+        var plan = MessagePlan.of(type);
+        return !needsParsing(plan) || plan.javaClass().isPresent();
+    }
+
+    /**
+     * Returns the type of the messages validated by this validator.
+     */
+    public Descriptor type() {
+        return plan.type();
+    }
+
+    /**
+     * Validates the given serialized message.
+     *
+     * @return violations of the validation rules or an empty list if the message is valid
+     * @throws InvalidProtocolBufferException
+     *         if the given bytes are not a valid serialized message
+     */
+    public List<ConstraintViolation> violationsOf(byte[] message)
+            throws InvalidProtocolBufferException {
+        checkNotNull(message);
+        return violationsOf(UnsafeByteOperations.unsafeWrap(message));
+    }
+
+    /**
+     * Validates the serialized message contained in the remaining bytes of the given buffer.
+     *
+     * <p>The position of the buffer is not changed.
+     *
+     * @return violations of the validation rules or an empty list if the message is valid
+     * @throws InvalidProtocolBufferException
+     *         if the given bytes are not a valid serialized message
+     */
+    public List<ConstraintViolation> violationsOf(ByteBuffer message)
+            throws InvalidProtocolBufferException {
+        checkNotNull(message);
+        return violationsOf(UnsafeByteOperations.unsafeWrap(message.duplicate()));
+    }
+
+    /**
+     * Validates the given serialized message.
+     *
+     * @return violations of the validation rules or an empty list if the message is valid
+     * @throws InvalidProtocolBufferException
+     *         if the given bytes are not a valid serialized message
+     */
+    public List<ConstraintViolation> violationsOf(ByteString message)
+            throws InvalidProtocolBufferException {
+        checkNotNull(message);
+        if (needsParsing(plan)) {
+            return plan.validateGenerated(message, noParentPath, null);
+        }
+        var out = new ViolationCollector();
+        validate(plan, message, noParentPath, plan.typeName(), out);
+        return out.toList();
+    }
+
+    /**
+     * Tells if the messages of the type of the given plan can only be validated
+     * by parsing them into the generated class.
+     */
+    private static boolean needsParsing(MessagePlan plan) {
+        return plan.needsGeneratedCode() || plan.hasGroups();
+    }
+
+    /**
+     * Validates the serialized message of the type of the given plan.
+     *
+     * @param plan
+     *         the plan of the message type
+     * @param message
+     *         the serialized message
+     * @param parentPath
+     *         the path to the message; empty for the top-level message
+     * @param typeName
+     *         the name of the validated top-level type
+     * @param out
+     *         the collector of the violations
+     */
+    private static void validate(MessagePlan plan,
+                                 ByteString message,
+                                 FieldPath parentPath,
+                                 String typeName,
+                                 ViolationCollector out) throws InvalidProtocolBufferException {
+        if (plan.isEmpty()) {
+            return;
+        }
+        var values = read(plan, message);
+        for (var field : plan.fields()) {
+            var value = values[field.index()];
+            var fieldPath = Violations.resolve(parentPath, field.field());
+            var descriptor = field.field();
+            if (descriptor.isRepeated()) {
+                var elements = elements(value);
+                checkRequired(field, elements, fieldPath, typeName, out);
+                for (var element : elements) {
+                    checkElement(field, element, fieldPath, typeName, out);
+                }
+            } else {
+                if (field.isRequired() && FieldPlan.isMissing(value, descriptor)) {
+                    out.add(REQUIRED, field.missing(fieldPath, typeName));
+                }
+                if (value == null && descriptor.getJavaType() != FieldDescriptor.JavaType.MESSAGE) {
+                    value = descriptor.getDefaultValue();
+                }
+                if (value != null) {
+                    checkElement(field, value, fieldPath, typeName, out);
+                }
+            }
+        }
+    }
+
+    private static Collection<?> elements(@Nullable Object value) {
+        if (value == null) {
+            return ImmutableList.of();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.values();
+        }
+        return (Collection<?>) value;
+    }
+
+    private static void checkRequired(FieldPlan field,
+                                      Collection<?> elements,
+                                      FieldPath fieldPath,
+                                      String typeName,
+                                      ViolationCollector out) {
+        if (!field.isRequired()) {
+            return;
+        }
+        var valueField = field.valueField();
+        var missing = elements.isEmpty()
+                || elements.stream().anyMatch(e -> FieldPlan.isMissing(e, valueField));
+        if (missing) {
+            out.add(REQUIRED, field.missing(fieldPath, typeName));
+        }
+    }
+
+    /**
+     * Checks a value of a singular field, or an element of a {@code repeated}
+     * or a {@code map} field.
+     */
+    private static void checkElement(FieldPlan field,
+                                     Object value,
+                                     FieldPath fieldPath,
+                                     String typeName,
+                                     ViolationCollector out) throws InvalidProtocolBufferException {
+        field.checkValue(value, fieldPath, typeName, out);
+        if (!field.isValidated() || !(value instanceof ByteString bytes)) {
+            return;
+        }
+        var valueField = field.valueField();
+        if (valueField.getJavaType() != FieldDescriptor.JavaType.MESSAGE) {
+            return;
+        }
+        if (!field.field().isRepeated() && bytes.isEmpty()) {
+            return;
+        }
+        validateNested(valueField.getMessageType(), bytes, fieldPath, typeName, out);
+    }
+
+    private static void validateNested(Descriptor type,
+                                       ByteString message,
+                                       FieldPath fieldPath,
+                                       String typeName,
+                                       ViolationCollector out)
+            throws InvalidProtocolBufferException {
+        if (type.equals(Any.getDescriptor())) {
+            validatePacked(message, fieldPath, typeName, out);
+            return;
+        }
+        var nested = MessagePlan.of(type);
+        if (needsParsing(nested)) {
+            out.addAll(VALIDATE, nested.validateGenerated(message, fieldPath, typeName));
+        } else {
+            var nestedOut = new ViolationCollector();
+            validate(nested, message, fieldPath, typeName, nestedOut);
+            out.addAll(VALIDATE, nestedOut.toList());
+        }
+    }
+
+    /**
+     * Validates the message packed into the serialized {@code Any}.
+     *
+     * <p>The type URL and the packed value are read on the wire. The type of the packed
+     * message is resolved by its URL, and the value is validated as a serialized message
+     * of the type, with no parsing.
+     *
+     * <p>As in the generated code, an empty {@code Any} is treated as valid, and
+     * a message of a type unknown to the application cannot be validated.
+     *
+     * @throws io.spine.type.UnknownTypeException
+     *         if the type of the packed message is unknown
+     */
+    private static void validatePacked(ByteString any,
+                                       FieldPath fieldPath,
+                                       String typeName,
+                                       ViolationCollector out)
+            throws InvalidProtocolBufferException {
+        var typeUrl = "";
+        var value = ByteString.EMPTY;
+        var input = any.newCodedInput();
+        input.enableAliasing(true);
+        try {
+            while (true) {
+                var tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+                var wireType = WireFormat.getTagWireType(tag);
+                var number = WireFormat.getTagFieldNumber(tag);
+                var delimited = wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+                if (number == Any.TYPE_URL_FIELD_NUMBER && delimited) {
+                    typeUrl = input.readStringRequireUtf8();
+                } else if (number == Any.VALUE_FIELD_NUMBER && delimited) {
+                    value = input.readBytes();
+                } else {
+                    input.skipField(tag);
+                }
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+        if (typeUrl.isEmpty()) {
+            return;
+        }
+        validateNested(packedType(typeUrl), value, fieldPath, typeName, out);
+    }
+
+    /**
+     * Returns the descriptor of the message type with the given URL.
+     *
+     * @throws io.spine.type.UnknownTypeException
+     *         if the type is unknown
+     */
+    private static Descriptor packedType(String typeUrl) {
+        Class<? extends Message> cls = TypeUrl.parse(typeUrl).toJavaClass();
+        return Internal.getDefaultInstance(cls).getDescriptorForType();
+    }
+
+    /**
+     * Reads the values of the constrained fields of the given message.
+     *
+     * <p>Singular fields are represented by their values, {@code repeated} fields by
+     * lists of values, and {@code map} fields by maps. Values of {@code string},
+     * {@code bytes} and message fields are read as {@code ByteString}s, and values of
+     * enum fields as numbers. Absent singular fields have {@code null} values.
+     *
+     * @return the values indexed by the {@linkplain FieldPlan#index() indexes} of field plans
+     */
+    private static @Nullable Object[] read(MessagePlan plan, ByteString message)
+            throws InvalidProtocolBufferException {
+        var values = new Object[plan.fields().size()];
+        var input = message.newCodedInput();
+        input.enableAliasing(true);
+        try {
+            while (true) {
+                var tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+                var number = WireFormat.getTagFieldNumber(tag);
+                var field = plan.field(number);
+                if (field == null) {
+                    input.skipField(tag);
+                    clearOtherCases(plan.type().findFieldByNumber(number), values, plan);
+                } else {
+                    readField(field, tag, input, values, plan);
+                }
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked") // The types of the values are ensured by `read(..)`.
+    private static void readField(FieldPlan field,
+                                  int tag,
+                                  CodedInputStream input,
+                                  @Nullable Object[] values,
+                                  MessagePlan plan) throws IOException {
+        var descriptor = field.field();
+        var wireType = WireFormat.getTagWireType(tag);
+        var index = field.index();
+        if (descriptor.isMapField()) {
+            if (wireType != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                input.skipField(tag);
+                return;
+            }
+            var map = (Map<Object, Object>) values[index];
+            if (map == null) {
+                map = new LinkedHashMap<>();
+                values[index] = map;
+            }
+            readEntry(descriptor.getMessageType(), input.readBytes(), map);
+            return;
+        }
+        if (descriptor.isRepeated()) {
+            var list = (List<Object>) values[index];
+            if (list == null) {
+                list = new ArrayList<>();
+                values[index] = list;
+            }
+            if (descriptor.isPackable() && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                var limit = input.pushLimit(input.readRawVarint32());
+                while (input.getBytesUntilLimit() > 0) {
+                    list.add(readValue(descriptor, input));
+                }
+                input.popLimit(limit);
+            } else if (wireType == wireTypeOf(descriptor)) {
+                list.add(readValue(descriptor, input));
+            } else {
+                input.skipField(tag);
+            }
+            return;
+        }
+        if (wireType != wireTypeOf(descriptor)) {
+            input.skipField(tag);
+            return;
+        }
+        var value = readValue(descriptor, input);
+        var previous = values[index];
+        if (previous instanceof ByteString bytes
+                && descriptor.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+            // Repeated occurrences of a message field are merged.
+            value = bytes.concat((ByteString) value);
+        }
+        values[index] = value;
+        clearOtherCases(descriptor, values, plan);
+    }
+
+    /**
+     * Clears the values of other fields of the {@code oneof} group of the given field.
+     *
+     * <p>The method is called for each read field of the message, constrained or not.
+     * This way, the values of constrained fields are cleared when a value of another
+     * field of the group follows them, as the last value of a group wins when parsed.
+     *
+     * @param field
+     *         the read field, or {@code null} if the field is unknown to the message type
+     */
+    private static void clearOtherCases(@Nullable FieldDescriptor field,
+                                        @Nullable Object[] values,
+                                        MessagePlan plan) {
+        var oneof = field == null ? null : field.getRealContainingOneof();
+        if (oneof == null) {
+            return;
+        }
+        for (var other : plan.fields()) {
+            var otherField = other.field();
+            if (!otherField.equals(field) && oneof.equals(otherField.getRealContainingOneof())) {
+                values[other.index()] = null;
+            }
+        }
+    }
+
+    private static void readEntry(Descriptor entryType, ByteString entry, Map<Object, Object> map)
+            throws IOException {
+        var keyField = entryType.findFieldByNumber(1);
+        var valueField = entryType.findFieldByNumber(2);
+        Object key = null;
+        Object value = null;
+        var input = entry.newCodedInput();
+        input.enableAliasing(true);
+        while (true) {
+            var tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+            var number = WireFormat.getTagFieldNumber(tag);
+            if (number == 1 && WireFormat.getTagWireType(tag) == wireTypeOf(keyField)) {
+                key = readValue(keyField, input);
+            } else if (number == 2 && WireFormat.getTagWireType(tag) == wireTypeOf(valueField)) {
+                value = readValue(valueField, input);
+            } else {
+                input.skipField(tag);
+            }
+        }
+        if (key == null) {
+            key = keyField.getDefaultValue();
+        }
+        if (value == null) {
+            value = valueField.getJavaType() == FieldDescriptor.JavaType.MESSAGE
+                    ? ByteString.EMPTY
+                    : valueField.getDefaultValue();
+        }
+        map.put(key, value);
+    }
+
+    private static int wireTypeOf(FieldDescriptor field) {
+        return field.getLiteType().getWireType();
+    }
+
+    private static Object readValue(FieldDescriptor field, CodedInputStream input)
+            throws IOException {
+        return switch (field.getType()) {
+            case DOUBLE -> input.readDouble();
+            case FLOAT -> input.readFloat();
+            case INT64 -> input.readInt64();
+            case UINT64 -> input.readUInt64();
+            case INT32 -> input.readInt32();
+            case FIXED64 -> input.readFixed64();
+            case FIXED32 -> input.readFixed32();
+            case BOOL -> input.readBool();
+            case STRING, BYTES, MESSAGE -> input.readBytes();
+            case UINT32 -> input.readUInt32();
+            case ENUM -> input.readEnum();
+            case SFIXED32 -> input.readSFixed32();
+            case SFIXED64 -> input.readSFixed64();
+            case SINT32 -> input.readSInt32();
+            case SINT64 -> input.readSInt64();
+            case GROUP -> throw new IllegalStateException(
+                    "Constrained groups are validated by the generated code." +
+                            " Field: `" + field.getFullName() + "`.");
+        };
+    }
+}
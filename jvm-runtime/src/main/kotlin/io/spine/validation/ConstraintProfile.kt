@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import java.nio.file.Path
+import kotlin.io.path.exists
+import kotlin.io.path.readLines
+
+/**
+ * The observed statistics of checking the constraints of the generated validation code.
+ *
+ * A profile is recorded by [ConstraintProfiler] and stored in a text file,
+ * one constraint per line:
+ *
+ * ```
+ * <constraint> <evaluations> <violations>
+ * ```
+ *
+ * Here, `<constraint>` is the identifier of a constraint assigned by the generated code,
+ * `<evaluations>` is the number of times the constraint was checked, and `<violations>` is
+ * the number of times it was violated. The text after `#` is a comment.
+ *
+ * The Java renderer of the Validation Compiler reads the profile to order the checks
+ * of each message type looking for the first violation by the observed likelihood
+ * of their violation. When all the violations are collected, the checks keep the order
+ * of declaration, so that the violations are always reported in the same order.
+ *
+ * @property stats The statistics of the constraints mapped by their identifiers.
+ */
+public class ConstraintProfile(
+    public val stats: Map<String, ConstraintStats>
+) {
+
+    /**
+     * Returns the share of the checks of the given [constraint], which detected
+     * a violation, or `0.0` if the constraint was never checked.
+     */
+    public fun violationRate(constraint: String): Double =
+        stats[constraint]?.violationRate ?: 0.0
+
+    /**
+     * Returns a profile containing the statistics of both this and the [other] profile.
+     */
+    public operator fun plus(other: ConstraintProfile): ConstraintProfile {
+        val merged = stats.toMutableMap()
+        other.stats.forEach { (constraint, observed) ->
+            merged.merge(constraint, observed, ConstraintStats::plus)
+        }
+        return ConstraintProfile(merged)
+    }
+
+    /**
+     * Returns the lines of the profile file.
+     */
+    public fun toLines(): List<String> =
+        listOf(HEADER) + stats.entries
+            .sortedBy { it.key }
+            .map { (constraint, observed) ->
+                "$constraint ${observed.evaluations} ${observed.violations}"
+            }
+
+    public companion object {
+
+        private const val HEADER = "# <constraint> <evaluations> <violations>"
+
+        /**
+         * An empty profile.
+         */
+        @JvmField
+        public val EMPTY: ConstraintProfile = ConstraintProfile(emptyMap())
+
+        /**
+         * Reads the profile from the given [file].
+         *
+         * If the file does not exist, returns the [EMPTY] profile.
+         *
+         * @throws IllegalStateException If the file contains malformed lines.
+         */
+        @JvmStatic
+        public fun read(file: Path): ConstraintProfile =
+            if (file.exists()) parse(file.readLines()) else EMPTY
+
+        /**
+         * Parses the profile from the lines of a profile file.
+         *
+         * @throws IllegalStateException If one of the lines is malformed.
+         */
+        @JvmStatic
+        public fun parse(lines: List<String>): ConstraintProfile {
+            val stats = mutableMapOf<String, ConstraintStats>()
+            lines.map { it.substringBefore('#').trim() }
+                .filter { it.isNotEmpty() }
+                .forEach { line ->
+                    val (constraint, observed) = parseLine(line)
+                    stats.merge(constraint, observed, ConstraintStats::plus)
+                }
+            return ConstraintProfile(stats)
+        }
+
+        private fun parseLine(line: String): Pair<String, ConstraintStats> {
+            val parts = line.split(WHITESPACE)
+            val evaluations = parts.getOrNull(1)?.toLongOrNull()
+            val violations = parts.getOrNull(2)?.toLongOrNull()
+            check(parts.size == 3 && evaluations != null && violations != null) {
+                "Malformed line in the constraint profile: `$line`." +
+                        " Expected `<constraint> <evaluations> <violations>`."
+            }
+            return parts[0] to ConstraintStats(evaluations, violations)
+        }
+
+        private val WHITESPACE = Regex("\\s+")
+    }
+}
+
+/**
+ * The observed statistics of checking a single constraint.
+ *
+ * @property evaluations The number of times the constraint was checked.
+ * @property violations The number of times the constraint was violated.
+ */
+public data class ConstraintStats(
+    val evaluations: Long,
+    val violations: Long
+) {
+
+    /**
+     * The share of the checks, which detected a violation.
+     */
+    public val violationRate: Double
+        get() = if (evaluations == 0L) 0.0 else violations.toDouble() / evaluations
+
+    /**
+     * Sums up the statistics.
+     */
+    public operator fun plus(other: ConstraintStats): ConstraintStats =
+        ConstraintStats(evaluations + other.evaluations, violations + other.violations)
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.errorprone.annotations.ThreadSafe
+import io.spine.annotation.Internal
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption.CREATE
+import java.nio.file.StandardOpenOption.READ
+import java.nio.file.StandardOpenOption.WRITE
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+import kotlin.io.path.Path
+
+/**
+ * Records how often the constraints of the generated validation code are checked,
+ * and how often they are violated.
+ *
+ * The generated code calls the profiler only if recording is enabled
+ * in the Validation Gradle plugin:
+ *
+ * ```kotlin
+ * spine {
+ *     validation {
+ *         java {
+ *             profiling {
+ *                 record.set(true)
+ *             }
+ *         }
+ *     }
+ * }
+ * ```
+ *
+ * If the `io.spine.validation.profile` system property is set, the recorded
+ * [profile][ConstraintProfile] is [written][write] to the file at the path specified by
+ * the property when the JVM shuts down. Otherwise, call [write] explicitly.
+ *
+ * The written profile can then be passed back to the Validation Gradle plugin to order
+ * the generated checks looking for the [first violation][ValidatableMessage.firstViolation]
+ * by the observed likelihood of their violation.
+ */
+@ThreadSafe
+public object ConstraintProfiler {
+
+    /**
+     * The name of the system property specifying the path to the profile file
+     * written on JVM shutdown.
+     */
+    public const val PROFILE_PROPERTY: String = "io.spine.validation.profile"
+
+    private val counters = ConcurrentHashMap<String, Counters>()
+
+    init {
+        val file = System.getProperty(PROFILE_PROPERTY)
+        if (!file.isNullOrBlank()) {
+            Runtime.getRuntime().addShutdownHook(Thread { write(Path(file)) })
+        }
+    }
+
+    /**
+     * Records a single check of the given [constraint].
+     *
+     * This method is called by the generated code, and is not intended to be called directly.
+     *
+     * @param constraint The identifier of the constraint.
+     * @param violated Whether the check detected a violation.
+     */
+    @Internal
+    @JvmStatic
+    public fun record(constraint: String, violated: Boolean) {
+        val observed = counters.computeIfAbsent(constraint) { Counters() }
+        observed.evaluations.increment()
+        if (violated) {
+            observed.violations.increment()
+        }
+    }
+
+    /**
+     * Returns the profile recorded so far.
+     */
+    @JvmStatic
+    public fun profile(): ConstraintProfile {
+        val stats = counters.mapValues { (_, observed) ->
+            ConstraintStats(observed.evaluations.sum(), observed.violations.sum())
+        }
+        return ConstraintProfile(stats)
+    }
+
+    /**
+     * Adds the recorded profile to the profile stored in the given [file].
+     *
+     * If the file does not exist, it is created. The file is locked while being
+     * updated, so that several JVMs, such as forked test processes, could write
+     * their profiles to the same file.
+     */
+    @JvmStatic
+    public fun write(file: Path) {
+        file.toAbsolutePath().parent?.toFile()?.mkdirs()
+        FileChannel.open(file, READ, WRITE, CREATE).use { channel ->
+            channel.lock().use {
+                val merged = ConstraintProfile.parse(channel.readLines()) + profile()
+                channel.truncate(0)
+                channel.position(0)
+                val text = merged.toLines().joinToString(separator = "\n", postfix = "\n")
+                channel.write(Charsets.UTF_8.encode(text))
+            }
+        }
+    }
+
+    /**
+     * Discards the recorded statistics.
+     */
+    @JvmStatic
+    public fun reset() {
+        counters.clear()
+    }
+
+    private fun FileChannel.readLines(): List<String> {
+        val buffer = ByteBuffer.allocate(size().toInt())
+        while (buffer.hasRemaining() && read(buffer) >= 0) {
+            // Read until the buffer is full or the end of the file is reached.
+        }
+        return String(buffer.array(), 0, buffer.position(), Charsets.UTF_8).lines()
+    }
+
+    private class Counters {
+        val evaluations = LongAdder()
+        val violations = LongAdder()
+    }
+}
@@ -31,6 +31,9 @@ import com.google.protobuf.Message
 /**
  * Creates a copy of this message by copies of its properties and then applying
  * values of properties defined in the given block.
+ *
+ * If this message was built with validation, the copy is checked only against
+ * the constraints affected by the properties changed in the block.
  */
 public fun <M: ValidatableMessage, B: ValidatingBuilder<M>> M.copy(block: B.() -> Unit): M {
     @Suppress("UNCHECKED_CAST") // ensured by the generated code
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.validation
+
+import java.net.URL
+import org.checkerframework.checker.signature.qual.FullyQualifiedName
+
+/**
+ * The index of [MessageValidator]s available on the classpath.
+ *
+ * The index is read from the `spine/validation/message-validators` resources
+ * produced during the build. Each line of the resource has the following format:
+ *
+ * ```
+ * <message class>:<validator class>
+ * ```
+ *
+ * For example, `com.google.protobuf.Timestamp:io.spine.validation.TimestampValidator`.
+ *
+ * Reading the index does not load the classes of validators. They are loaded and
+ * instantiated by [ValidatorRegistry] when the message type is validated for the first time.
+ *
+ * Validators declared in `META-INF/services` but missing in the index are reported
+ * via [unindexed]. Such validators are loaded using [java.util.ServiceLoader] conventions.
+ *
+ * @property classLoader The class loader used to find the resources and to load the classes.
+ */
+internal class ValidatorIndex(
+    private val classLoader: ClassLoader
+) {
+
+    /**
+     * Maps a fully qualified name of a message class to the names of its validators.
+     */
+    val validators: Map<@FullyQualifiedName String, List<String>> by lazy {
+        val result = mutableMapOf<String, MutableList<String>>()
+        lines(INDEX_RESOURCE).forEach { line ->
+            val (message, validator) = parse(line)
+            val forMessage = result.getOrPut(message) { mutableListOf() }
+            if (validator !in forMessage) {
+                forMessage.add(validator)
+            }
+        }
+        result
+    }
+
+    /**
+     * Names of the validator classes registered as services, but not listed in the index.
+     */
+    val unindexed: List<String> by lazy {
+        val indexed = validators.values.flatten().toSet()
+        lines(SERVICES_RESOURCE)
+            .distinct()
+            .filter { it !in indexed }
+    }
+
+    /**
+     * Loads the class with the given name using the [classLoader] of the index.
+     *
+     * If the class is not found by the given name, the name is treated as a canonical
+     * name of a nested class, and the binary name of the class is tried.
+     *
+     * @param name The name of the class.
+     * @param initialize Whether the class should be initialized.
+     * @throws IllegalStateException If the class cannot be found.
+     */
+    fun loadClass(name: String, initialize: Boolean = true): Class<*> {
+        var binaryName = name
+        while (true) {
+            try {
+                return Class.forName(binaryName, initialize, classLoader)
+            } catch (_: ClassNotFoundException) {
+                val lastDot = binaryName.lastIndexOf('.')
+                check(lastDot > 0) {
+                    "Unable to find the class `$name` listed in `$INDEX_RESOURCE`."
+                }
+                binaryName = binaryName.replaceRange(lastDot, lastDot + 1, "$")
+            }
+        }
+    }
+
+    private fun lines(resource: String): List<String> =
+        classLoader.getResources(resource)
+            .toList()
+            .flatMap(::readLines)
+
+    private companion object {
+
+        /**
+         * The path to the index resource.
+         */
+        const val INDEX_RESOURCE = "spine/validation/message-validators"
+
+        /**
+         * The path to the services resource listing the implementations of [MessageValidator].
+         */
+        val SERVICES_RESOURCE = "META-INF/services/${MessageValidator::class.java.name}"
+
+        /**
+         * Reads non-empty lines of the given resource, dropping `#` comments.
+         */
+        fun readLines(url: URL): List<String> =
+            url.openStream().bufferedReader().useLines { lines ->
+                lines.map { it.substringBefore('#').trim() }
+                    .filter { it.isNotEmpty() }
+                    .toList()
+            }
+
+        fun parse(line: String): Pair<String, String> {
+            val separator = line.indexOf(':')
+            check(separator > 0 && separator < line.length - 1) {
+                "Malformed line in `$INDEX_RESOURCE`: `$line`." +
+                        " Expected `<message class>:<validator class>`."
+            }
+            val message = line.substring(0, separator).trim()
+            val validator = line.substring(separator + 1).trim()
+            return message to validator
+        }
+    }
+}
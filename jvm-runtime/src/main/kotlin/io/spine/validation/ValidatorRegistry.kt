@@ -51,8 +51,16 @@ import com.google.protobuf.Any as ProtoAny
  * It supports several validators per message type and provides an API for validating
  * messages by applying all associated validators.
  *
- * The registry also automatically loads validators from the classpath using
- * the [ServiceLoader] mechanism.
+ * The registry also automatically discovers validators on the classpath.
+ * The validators are listed in the `spine/validation/message-validators` index
+ * produced during the build. The validators of a message type are loaded and
+ * instantiated only when the type is validated or queried for the first time.
+ * Validators registered via [ServiceLoader] but missing in the index are loaded
+ * when the registry is initialized.
+ *
+ * In a GraalVM native image, the discovered validators are registered for reflection
+ * by [ValidationFeature][io.spine.validation.nativeimage.ValidationFeature].
+ * Validators [added][add] explicitly need no reflection at all.
  *
  * @see MessageValidator
  */
@@ -70,26 +78,75 @@ public object ValidatorRegistry {
     public const val VALIDATOR_PLACEHOLDER: String = "validator"
 
     /**
-     * Maps a fully qualified Kotlin class name of a message to a list of validators.
+     * Maps a canonical name of a message class to a list of validators.
      */
     private val validators: MutableMap<@FullyQualifiedName String,
             MutableSet<MessageValidator<*>>> = ConcurrentHashMap()
 
+    /**
+     * Maps a canonical name of a message class to the names of
+     * the validator classes discovered on the classpath, but not loaded yet.
+     */
+    private val pending: MutableMap<@FullyQualifiedName String, List<String>> =
+        ConcurrentHashMap()
+
+    /**
+     * The index used to load the [pending] validators.
+     */
+    @Volatile
+    private var index: ValidatorIndex? = null
+
     init {
-        loadFromServiceLoader()
+        loadFromClasspath()
     }
 
     /**
-     * Loads validators from the classpath using [ServiceLoader].
+     * Discovers validators on the classpath.
+     *
+     * The validators listed in the `spine/validation/message-validators` index are
+     * only remembered by their class names, and are loaded [lazily][loadPending].
+     * The validators registered via [ServiceLoader] without being indexed are
+     * instantiated right away.
      */
     @VisibleForTesting
-    internal fun loadFromServiceLoader() {
-        val loader = ServiceLoader.load(MessageValidator::class.java)
-        loader.forEach { validator ->
-            @Suppress("UNCHECKED_CAST")
-            val casted = validator as MessageValidator<Message>
-            val messageType = casted.messageClass()
-            add(messageType, casted)
+    internal fun loadFromClasspath() {
+        val classLoader = Thread.currentThread().contextClassLoader
+            ?: ValidatorRegistry::class.java.classLoader
+        val index = ValidatorIndex(classLoader)
+        synchronized(this) {
+            index.validators.forEach { (message, validatorNames) ->
+                pending.merge(message, validatorNames) { current, added ->
+                    (current + added).distinct()
+                }
+            }
+            this.index = index
+        }
+        index.unindexed.forEach { name ->
+            val validator = instantiate(index.loadClass(name))
+            add(validator.messageClass().java, validator)
+        }
+    }
+
+    /**
+     * Loads and registers the [pending] validators for the message class
+     * with the given name, if any.
+     */
+    private fun loadPending(cls: @FullyQualifiedName String) {
+        if (!pending.containsKey(cls)) {
+            return
+        }
+        synchronized(this) {
+            val names = pending[cls] ?: return
+            val index = index!!
+            val loaded = names.map { instantiate(index.loadClass(it)) }
+            validators.compute(cls) { _, currentSet ->
+                val set = currentSet ?: newConcurrentHashSet()
+                set.addAll(loaded)
+                set
+            }
+            // Removed only after the validators are registered, so that concurrent
+            // readers either wait for the loading or see the complete set.
+            pending.remove(cls)
         }
     }
 
@@ -101,13 +158,7 @@ public object ValidatorRegistry {
      */
     @JvmStatic
     public fun <M : Message> add(cls: KClass<out M>, validator: MessageValidator<M>) {
-        synchronized(this) {
-            validators.compute(cls.qualifiedName!!) { _, currentSet ->
-                val set = currentSet ?: newConcurrentHashSet()
-                set.add(validator)
-                set
-            }
-        }
+        add(cls.java, validator)
     }
 
     /**
@@ -118,7 +169,15 @@ public object ValidatorRegistry {
      */
     @JvmStatic
     public fun <M : Message> add(cls: Class<out M>, validator: MessageValidator<M>) {
-        add(cls.kotlin, validator)
+        val key = cls.key
+        loadPending(key)
+        synchronized(this) {
+            validators.compute(key) { _, currentSet ->
+                val set = currentSet ?: newConcurrentHashSet()
+                set.add(validator)
+                set
+            }
+        }
     }
 
     /**
@@ -128,9 +187,7 @@ public object ValidatorRegistry {
      */
     @JvmStatic
     public fun remove(cls: KClass<out Message>) {
-        synchronized(this) {
-            validators.remove(cls.qualifiedName)
-        }
+        remove(cls.java)
     }
 
     /**
@@ -140,7 +197,11 @@ public object ValidatorRegistry {
      */
     @JvmStatic
     public fun remove(cls: Class<out Message>) {
-        remove(cls.kotlin)
+        val key = cls.key
+        synchronized(this) {
+            pending.remove(key)
+            validators.remove(key)
+        }
     }
 
     /**
@@ -151,11 +212,8 @@ public object ValidatorRegistry {
      *   or an empty set if no validators are registered.
      */
     @JvmStatic
-    public fun <M : Message> get(cls: KClass<out M>): Set<MessageValidator<M>> {
-        val registered = validators[cls.qualifiedName!!] ?: return emptySet()
-        @Suppress("UNCHECKED_CAST")
-        return Collections.unmodifiableSet(registered as Set<MessageValidator<M>>)
-    }
+    public fun <M : Message> get(cls: KClass<out M>): Set<MessageValidator<M>> =
+        get(cls.java)
 
     /**
      * Obtains the validators for the given message type.
@@ -166,7 +224,26 @@ public object ValidatorRegistry {
      */
     @JvmStatic
     public fun <M : Message> get(cls: Class<out M>): Set<MessageValidator<M>> {
-        return get(cls.kotlin)
+        val key = cls.key
+        loadPending(key)
+        val registered = validators[key] ?: return emptySet()
+        @Suppress("UNCHECKED_CAST")
+        return Collections.unmodifiableSet(registered as Set<MessageValidator<M>>)
+    }
+
+    /**
+     * Tells if there are validators for the given message type.
+     *
+     * Unlike [get], this method does not load the discovered validators, so it is
+     * cheap enough to be called by the generated code before validating
+     * each nested message.
+     *
+     * @param cls The class of the message to check.
+     */
+    @JvmStatic
+    public fun hasValidators(cls: Class<out Message>): Boolean {
+        val key = cls.key
+        return pending.containsKey(key) || validators[key]?.isNotEmpty() == true
     }
 
     /**
@@ -175,6 +252,7 @@ public object ValidatorRegistry {
     @JvmStatic
     public fun clear() {
         synchronized(this) {
+            pending.clear()
             validators.clear()
         }
     }
@@ -196,12 +274,13 @@ public object ValidatorRegistry {
         parentPath: FieldPath,
         parentName: TypeName?
     ): List<ConstraintViolation> {
-        val cls = message::class.qualifiedName!!
+        val cls = message.javaClass.key
+        loadPending(cls)
         val associatedValidators = validators[cls]?.toSet() ?: return emptyList()
         val violations = mutableListOf<Pair<@FullyQualifiedName String, DetectedViolation>>()
 
         associatedValidators.forEach { validator ->
-            val validatorClass = validator::class.qualifiedName ?: "UnknownValidator"
+            val validatorClass = validator.javaClass.canonicalName ?: "UnknownValidator"
             @Suppress("UNCHECKED_CAST")
             val casted = validator as MessageValidator<Message>
             for (violation in casted.validate(message)) {
@@ -238,6 +317,27 @@ public object ValidatorRegistry {
         validate(message, parentPath = FieldPath.getDefaultInstance(), parentName = null)
 }
 
+/**
+ * The key of this message class in the registry.
+ *
+ * The key is the canonical name of the class, the same as used in
+ * the validator index. The name is obtained via the Java API to avoid
+ * Kotlin reflection, which needs additional metadata in native images.
+ */
+private val Class<*>.key: @FullyQualifiedName String
+    get() = canonicalName ?: name
+
+/**
+ * Creates an instance of the given validator class using its no-argument constructor.
+ */
+private fun instantiate(cls: Class<*>): MessageValidator<Message> {
+    check(MessageValidator::class.java.isAssignableFrom(cls)) {
+        "The class `${cls.name}` does not implement `${MessageValidator::class.java.name}`."
+    }
+    @Suppress("UNCHECKED_CAST") // Checked above.
+    return cls.getDeclaredConstructor().newInstance() as MessageValidator<Message>
+}
+
 /**
  * Obtains the type of the message validated by this [MessageValidator].
  */
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.validation.nativeimage
+
+import com.google.protobuf.GeneratedMessage
+import io.spine.validation.MessageValidator
+import io.spine.validation.ValidatorIndex
+import org.graalvm.nativeimage.hosted.Feature
+import org.graalvm.nativeimage.hosted.Feature.BeforeAnalysisAccess
+import org.graalvm.nativeimage.hosted.RuntimeReflection
+
+/**
+ * Registers the reachability metadata needed by the validation runtime
+ * in a GraalVM native image.
+ *
+ * The feature is enabled by the `native-image.properties` file shipped with
+ * the validation runtime, so no additional configuration is needed on the user side.
+ *
+ * When the image is built, the feature reads the `spine/validation/message-validators`
+ * index and the `META-INF/services` entries of [MessageValidator]s available on
+ * the classpath of the image, and registers the validator classes for reflective
+ * instantiation. This way, the metadata is generated for the validators of the application
+ * rather than maintained by hand.
+ *
+ * The feature also registers each reachable Protobuf message class and its builder
+ * for reflective access to their public methods. The reflective API of Protobuf
+ * messages, as well as lookups of message classes by type URLs performed by
+ * [io.spine.validation.Validate] and [io.spine.type.KnownTypes], rely on these methods.
+ *
+ * The resources read by the runtime are included by the `resource-config.json` file
+ * located next to `native-image.properties`.
+ */
+public class ValidationFeature : Feature {
+
+    override fun getDescription(): String =
+        "Registers Spine Validation validators and message types for reflection."
+
+    override fun beforeAnalysis(access: BeforeAnalysisAccess) {
+        val index = ValidatorIndex(access.applicationClassLoader)
+        index.validators.forEach { (message, validators) ->
+            registerMessage(index.loadClass(message, initialize = false))
+            validators.forEach { registerValidator(index.loadClass(it, initialize = false)) }
+        }
+        index.unindexed.forEach {
+            registerValidator(index.loadClass(it, initialize = false))
+        }
+        access.registerSubtypeReachabilityHandler(
+            { _, cls -> registerMessage(cls) },
+            GeneratedMessage::class.java
+        )
+    }
+}
+
+/**
+ * Registers the given validator class for instantiation via its no-argument constructor.
+ *
+ * Validators declared in `META-INF/services` without being indexed have their message
+ * types resolved from the generic signature, so the class is also registered for
+ * reflective queries.
+ */
+private fun registerValidator(cls: Class<*>) {
+    RuntimeReflection.register(cls)
+    RuntimeReflection.registerForReflectiveInstantiation(cls)
+    RuntimeReflection.register(*cls.declaredConstructors)
+}
+
+/**
+ * Registers the given message class along with its builder for access
+ * to their public methods.
+ */
+private fun registerMessage(cls: Class<*>) {
+    if (!GeneratedMessage::class.java.isAssignableFrom(cls)) {
+        return
+    }
+    RuntimeReflection.register(cls)
+    RuntimeReflection.register(*cls.methods)
+    cls.declaredClasses
+        .filter { it.simpleName == "Builder" }
+        .forEach {
+            RuntimeReflection.register(it)
+            RuntimeReflection.register(*it.methods)
+        }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import kotlin.io.path.createTempDirectory
+import kotlin.io.path.readLines
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ConstraintProfiler` should")
+internal class ConstraintProfilerSpec {
+
+    @BeforeEach
+    @AfterEach
+    fun reset() {
+        ConstraintProfiler.reset()
+    }
+
+    @Test
+    fun `count checks and violations of constraints`() {
+        ConstraintProfiler.record("acme.Order/RequiredGenerator/0", violated = false)
+        ConstraintProfiler.record("acme.Order/RequiredGenerator/0", violated = true)
+        ConstraintProfiler.record("acme.Order/PatternGenerator/0", violated = false)
+
+        val profile = ConstraintProfiler.profile()
+
+        profile.stats shouldBe mapOf(
+            "acme.Order/RequiredGenerator/0" to ConstraintStats(2, 1),
+            "acme.Order/PatternGenerator/0" to ConstraintStats(1, 0),
+        )
+        profile.violationRate("acme.Order/RequiredGenerator/0") shouldBe 0.5
+        profile.violationRate("acme.Order/MaxGenerator/0") shouldBe 0.0
+    }
+
+    @Test
+    fun `add the recorded profile to the profile file`() {
+        val file = createTempDirectory("profile").resolve("validation.profile")
+        file.writeText("acme.Order/RequiredGenerator/0 10 5\n")
+        ConstraintProfiler.record("acme.Order/RequiredGenerator/0", violated = true)
+
+        ConstraintProfiler.write(file)
+
+        ConstraintProfile.read(file).stats shouldBe mapOf(
+            "acme.Order/RequiredGenerator/0" to ConstraintStats(11, 6)
+        )
+        file.readLines()[0] shouldContain "#"
+    }
+
+    @Nested internal inner class
+    `read profile files` {
+
+        @Test
+        fun `skipping comments and blank lines`() {
+            val profile = ConstraintProfile.parse(
+                listOf(
+                    "# The profile of the test types.",
+                    "",
+                    "acme.Order/RequiredGenerator/0   4 1 # Rarely violated.",
+                )
+            )
+
+            profile.stats shouldBe mapOf(
+                "acme.Order/RequiredGenerator/0" to ConstraintStats(4, 1)
+            )
+        }
+
+        @Test
+        fun `returning an empty profile for a missing file`() {
+            val file = createTempDirectory("profile").resolve("missing.profile")
+
+            ConstraintProfile.read(file) shouldBe ConstraintProfile.EMPTY
+        }
+
+        @Test
+        fun `rejecting malformed lines`() {
+            val thrown = assertThrows<IllegalStateException> {
+                ConstraintProfile.parse(listOf("acme.Order/RequiredGenerator/0 many"))
+            }
+
+            thrown.message shouldContain "acme.Order/RequiredGenerator/0 many"
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.protobuf.InvalidProtocolBufferException
+import com.google.protobuf.Timestamp
+import com.google.protobuf.timestamp
+import io.kotest.matchers.shouldBe
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.nio.channels.Channels
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`DelimitedStreamValidator` should")
+internal class DelimitedStreamValidatorSpec {
+
+    private val messages = (0 until 500).map { index ->
+        timestamp {
+            seconds = index.toLong()
+            nanos = if (index % 5 == 0) -1 else 0
+        }
+    }
+
+    @BeforeEach
+    fun setUp() {
+        ValidatorRegistry.clear()
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+    }
+
+    @AfterEach
+    fun tearDown() {
+        ValidatorRegistry.clear()
+    }
+
+    @Test
+    fun `emit records in the order of the stream`() {
+        val validator = DelimitedStreamValidator.newBuilder(Timestamp.parser())
+            .setMaxInFlight(8)
+            .build()
+        val records = mutableListOf<ValidatedRecord<Timestamp>>()
+
+        val count = validator.validate(delimited(messages), records::add)
+
+        count shouldBe messages.size
+        records.map { it.index() } shouldBe messages.indices.map { it.toLong() }
+        records.map { it.message() } shouldBe messages
+        records.map { it.isValid() } shouldBe messages.indices.map { it % 5 != 0 }
+    }
+
+    @Test
+    fun `report the same violations as 'Validate'`() {
+        val validator = DelimitedStreamValidator.newBuilder(Timestamp.parser()).build()
+        val records = mutableListOf<ValidatedRecord<Timestamp>>()
+
+        validator.validate(delimited(messages), records::add)
+
+        records.map { it.violations() } shouldBe messages.map { Validate.violationsOf(it) }
+    }
+
+    @Test
+    fun `read records from a channel`() {
+        val validator = DelimitedStreamValidator.newBuilder(Timestamp.parser()).build()
+        val channel = Channels.newChannel(delimited(messages))
+        val records = mutableListOf<ValidatedRecord<Timestamp>>()
+
+        validator.validate(channel, records::add)
+
+        records.map { it.message() } shouldBe messages
+    }
+
+    @Test
+    fun `validate on the given executor`() {
+        val tasks = AtomicInteger()
+        val executor = Executor { task ->
+            tasks.incrementAndGet()
+            task.run()
+        }
+        val validator = DelimitedStreamValidator.newBuilder(Timestamp.parser())
+            .setExecutor(executor)
+            .build()
+
+        validator.validate(delimited(messages)) { }
+
+        tasks.get() shouldBe messages.size
+    }
+
+    @Test
+    fun `handle an empty stream`() {
+        val validator = DelimitedStreamValidator.newBuilder(Timestamp.parser()).build()
+
+        val count = validator.validate(delimited(emptyList())) { }
+
+        count shouldBe 0
+    }
+
+    @Test
+    fun `fail on a truncated record`() {
+        val bytes = delimited(messages).readAllBytes()
+        val truncated = ByteArrayInputStream(bytes, 0, bytes.size - 1)
+        val validator = DelimitedStreamValidator.newBuilder(Timestamp.parser()).build()
+
+        assertThrows<InvalidProtocolBufferException> {
+            validator.validate(truncated) { }
+        }
+    }
+
+    @Test
+    fun `reject non-positive max in-flight value`() {
+        assertThrows<IllegalArgumentException> {
+            DelimitedStreamValidator.newBuilder(Timestamp.parser()).setMaxInFlight(0)
+        }
+    }
+
+    private fun delimited(messages: List<Timestamp>): ByteArrayInputStream {
+        val output = ByteArrayOutputStream()
+        messages.forEach { it.writeDelimitedTo(output) }
+        return ByteArrayInputStream(output.toByteArray())
+    }
+}
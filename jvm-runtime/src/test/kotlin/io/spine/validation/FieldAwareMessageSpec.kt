@@ -51,6 +51,36 @@ internal class FieldAwareMessageSpec {
         message.readValue(field) shouldBe "stored"
     }
 
+    @Test
+    fun `read field values by numbers through the default protobuf API`() {
+        val message = DefaultFieldAwareMessage("stored")
+
+        message.readValue(field.number) shouldBe "stored"
+    }
+
+    @Test
+    fun `reject reading a field with an unknown number`() {
+        val message = DefaultFieldAwareMessage("stored")
+
+        val thrown = assertThrows<IllegalArgumentException> {
+            message.readValue(42)
+        }
+
+        thrown.message shouldContain "no field with the number 42"
+    }
+
+    @Test
+    fun `reject primitive reads of fields of other types`() {
+        val message = DefaultFieldAwareMessage("stored")
+
+        assertThrows<IllegalArgumentException> {
+            message.readInt(field.number)
+        }
+        assertThrows<IllegalArgumentException> {
+            message.readBoolean(field.number)
+        }
+    }
+
     @Test
     fun `confirm that all field values are reachable`() {
         val message = StubFieldAwareMessage("stored")
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.protobuf.SourceContext
+import com.google.protobuf.Type
+import com.google.protobuf.fieldMask
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.string.shouldContain
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`FieldSelection` should")
+internal class FieldSelectionSpec {
+
+    @Nested internal inner class
+    `select the fields listed in a field mask` {
+
+        @Test
+        fun `by their numbers`() {
+            val selection = selectionOf("name", "syntax")
+
+            selection.includes(NAME).shouldBeTrue()
+            selection.includes(SYNTAX).shouldBeTrue()
+            selection.includes(SOURCE_CONTEXT).shouldBeFalse()
+        }
+
+        @Test
+        fun `selecting the nested fields for the paths going through a message field`() {
+            val selection = selectionOf("source_context.file_name")
+
+            selection.includes(SOURCE_CONTEXT).shouldBeTrue()
+            val nested = selection.nested(SOURCE_CONTEXT)
+            nested.shouldNotBeNull()
+            nested.includes(FILE_NAME).shouldBeTrue()
+        }
+
+        @Test
+        fun `selecting a message field as a whole if it is listed itself`() {
+            val selection = selectionOf("source_context.file_name", "source_context")
+
+            selection.includes(SOURCE_CONTEXT).shouldBeTrue()
+            selection.nested(SOURCE_CONTEXT).shouldBeNull()
+        }
+    }
+
+    @Nested internal inner class
+    `reject a field mask with` {
+
+        @Test
+        fun `an unknown field`() {
+            val exception = assertThrows<IllegalArgumentException> {
+                selectionOf("source_context.title")
+            }
+            exception.message shouldContain "source_context.title"
+        }
+
+        @Test
+        fun `a path going through a repeated field`() {
+            val exception = assertThrows<IllegalArgumentException> {
+                selectionOf("fields.name")
+            }
+            exception.message shouldContain "google.protobuf.Type.fields"
+        }
+    }
+}
+
+private fun selectionOf(vararg paths: String): FieldSelection =
+    FieldSelection.of(Type.getDescriptor(), fieldMask { this.paths.addAll(paths.toList()) })
+
+private const val NAME = Type.NAME_FIELD_NUMBER
+private const val SYNTAX = Type.SYNTAX_FIELD_NUMBER
+private const val SOURCE_CONTEXT = Type.SOURCE_CONTEXT_FIELD_NUMBER
+private const val FILE_NAME = SourceContext.FILE_NAME_FIELD_NUMBER
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.protobuf.Duration
+import com.google.protobuf.Timestamp
+import com.google.protobuf.timestamp
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.shouldBe
+import io.spine.base.FieldPath
+import io.spine.base.fieldPath
+import io.spine.type.TypeName
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertTimeoutPreemptively
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ParallelValidation` should")
+internal class ParallelValidationSpec {
+
+    private val fieldPath = fieldPath { fieldName.add("moments") }
+    private val typeName = TypeName.of("given.Timeline")
+
+    @BeforeEach
+    fun setUp() {
+        ValidatorRegistry.clear()
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+    }
+
+    @AfterEach
+    fun tearDown() {
+        ValidatorRegistry.clear()
+    }
+
+    @Test
+    fun `report violations in the order of elements`() {
+        val elements = (1..5000).map { index ->
+            timestamp {
+                seconds = index.toLong()
+                nanos = if (index % 7 == 0) -index else 0
+            }
+        }
+        val expected = elements.flatMap { ValidatorRegistry.validate(it, fieldPath, typeName) }
+        val violations = mutableListOf<ConstraintViolation>()
+
+        ParallelValidation.validate(elements, fieldPath, typeName, violations)
+
+        violations.size shouldBe elements.size / 7
+        violations shouldBe expected
+    }
+
+    @Test
+    fun `validate values of a map`() {
+        val values = (1..1000).associateWith { index ->
+            timestamp { nanos = if (index == 500) -1 else 0 }
+        }.values
+        val violations = mutableListOf<ConstraintViolation>()
+
+        ParallelValidation.validate(values, fieldPath, typeName, violations)
+
+        violations.size shouldBe 1
+        violations.single().fieldPath shouldBe fieldPath.toBuilder()
+            .addFieldName("nanos")
+            .build()
+    }
+
+    @Test
+    fun `append nothing for valid elements`() {
+        val elements = List(1000) { Timestamp.getDefaultInstance() }
+        val violations = mutableListOf<ConstraintViolation>()
+
+        ParallelValidation.validate(elements, FieldPath.getDefaultInstance(), typeName, violations)
+
+        violations.shouldBeEmpty()
+    }
+
+    @Test
+    fun `use the executor passed to the validating call`() {
+        val tasks = AtomicInteger()
+        val executor = Executor { task ->
+            tasks.incrementAndGet()
+            task.run()
+        }
+        val elements = List(1000) { Timestamp.getDefaultInstance() }
+
+        ParallelValidation.using(executor) {
+            ParallelValidation.validate(elements, fieldPath, typeName, mutableListOf())
+        }
+        val afterCall = tasks.get()
+        ParallelValidation.validate(elements, fieldPath, typeName, mutableListOf())
+
+        (afterCall > 0) shouldBe true
+        tasks.get() shouldBe afterCall
+    }
+
+    @Test
+    fun `validate elements with the profile active in the calling thread`() {
+        val profiles = ConcurrentHashMap.newKeySet<String>()
+        ValidatorRegistry.add(Duration::class, object : MessageValidator<Duration> {
+            override fun validate(message: Duration): List<DetectedViolation> {
+                profiles.add(ValidationProfile.active() ?: ValidationProfile.FULL)
+                return emptyList()
+            }
+        })
+        val elements = List(1000) { Duration.getDefaultInstance() }
+
+        ValidationProfile.using("trusted") {
+            ParallelValidation.validate(elements, fieldPath, typeName, mutableListOf())
+        }
+
+        profiles shouldBe setOf("trusted")
+    }
+
+    @Test
+    fun `validate nested fields within a chunk sequentially`() {
+        val pool = Executors.newFixedThreadPool(1)
+        val nested = List(1000) { Timestamp.getDefaultInstance() }
+        ValidatorRegistry.add(Duration::class, object : MessageValidator<Duration> {
+            override fun validate(message: Duration): List<DetectedViolation> {
+                ParallelValidation.validate(nested, fieldPath, typeName, mutableListOf())
+                return emptyList()
+            }
+        })
+        val elements = List(1000) { Duration.getDefaultInstance() }
+
+        try {
+            // A single thread of the executor would wait for its own tasks forever
+            // if the nested fields were split into tasks too.
+            assertTimeoutPreemptively(java.time.Duration.ofSeconds(30)) {
+                ParallelValidation.using(pool) {
+                    ParallelValidation.validate(elements, fieldPath, typeName, mutableListOf())
+                }
+            }
+        } finally {
+            pool.shutdownNow()
+        }
+    }
+}
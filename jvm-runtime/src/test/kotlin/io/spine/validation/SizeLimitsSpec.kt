@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.protobuf.ByteString
+import com.google.protobuf.CodedInputStream
+import com.google.protobuf.CodedOutputStream
+import com.google.protobuf.InvalidProtocolBufferException
+import io.kotest.matchers.shouldBe
+import io.spine.string.format
+import java.io.ByteArrayOutputStream
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertDoesNotThrow
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`SizeLimits` should")
+internal class SizeLimitsSpec {
+
+    private val typeName = "given.Upload"
+    private val fieldName = "content"
+
+    @Nested
+    inner class `check element count` {
+
+        @Test
+        fun `allowing to add an element below the limit`() {
+            assertDoesNotThrow {
+                SizeLimits.checkCount(2, 3, typeName, fieldName)
+            }
+        }
+
+        @Test
+        fun `rejecting an element over the limit`() {
+            val exception = assertThrows<ValidationException> {
+                SizeLimits.checkCount(3, 3, typeName, fieldName)
+            }
+            val violation = exception.constraintViolations.single()
+            violation.typeName shouldBe typeName
+            violation.fieldPath.fieldNameList shouldBe listOf(fieldName)
+            violation.message.format() shouldBe
+                    "The field `given.Upload.content` must not have more than 3 elements."
+        }
+    }
+
+    @Nested
+    inner class `read a value` {
+
+        @Test
+        fun `within the limit`() {
+            SizeLimits.readStringRequireUtf8(input("Привіт"), 12, typeName, fieldName) shouldBe
+                    "Привіт"
+            SizeLimits.readString(input("abc"), 3, typeName, fieldName) shouldBe "abc"
+            SizeLimits.readBytes(input("abc"), 3, typeName, fieldName) shouldBe
+                    ByteString.copyFromUtf8("abc")
+        }
+
+        @Test
+        fun `rejecting a value over the limit before reading it`() {
+            val stream = input("abcd")
+            val exception = assertThrows<ValidationException> {
+                SizeLimits.readBytes(stream, 3, typeName, fieldName)
+            }
+            exception.constraintViolations.single().message.format() shouldBe
+                    "The value of the field `given.Upload.content` must not be longer than 3 bytes."
+            stream.totalBytesRead shouldBe 1
+        }
+
+        @Test
+        fun `rejecting invalid UTF-8`() {
+            val invalid = ByteString.copyFrom(byteArrayOf(0xC3.toByte()))
+            assertThrows<InvalidProtocolBufferException> {
+                SizeLimits.readStringRequireUtf8(input(invalid), 10, typeName, fieldName)
+            }
+        }
+    }
+
+    private fun input(value: String): CodedInputStream =
+        input(ByteString.copyFromUtf8(value))
+
+    private fun input(value: ByteString): CodedInputStream {
+        val bytes = ByteArrayOutputStream()
+        val output = CodedOutputStream.newInstance(bytes)
+        output.writeBytesNoTag(value)
+        output.flush()
+        return CodedInputStream.newInstance(bytes.toByteArray())
+    }
+}
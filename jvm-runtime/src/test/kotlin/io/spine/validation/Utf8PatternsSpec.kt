@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.protobuf.ByteString
+import com.google.protobuf.ByteString.copyFromUtf8
+import io.kotest.matchers.shouldBe
+import java.util.regex.Pattern
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`Utf8Patterns` should")
+internal class Utf8PatternsSpec {
+
+    private val hex = Pattern.compile("[0-9a-f]+")
+
+    @Test
+    fun `match ASCII bytes`() {
+        Utf8Patterns.matches(hex, copyFromUtf8("cafe01"), false) shouldBe true
+        Utf8Patterns.matches(hex, copyFromUtf8("coffee"), false) shouldBe false
+    }
+
+    @Test
+    fun `match a part of ASCII bytes`() {
+        Utf8Patterns.matches(hex, copyFromUtf8("xx-cafe-yy"), true) shouldBe true
+        Utf8Patterns.matches(hex, copyFromUtf8("xx-yy"), true) shouldBe false
+    }
+
+    @Test
+    fun `match non-ASCII bytes as a decoded string`() {
+        val anyTwo = Pattern.compile("^..$")
+        val twoChars = copyFromUtf8("né")
+
+        // The encoded value has three bytes, but only two characters.
+        twoChars.size() shouldBe 3
+        Utf8Patterns.matches(anyTwo, twoChars, false) shouldBe true
+    }
+
+    @Test
+    fun `match both raw value representations`() {
+        Utf8Patterns.matches(hex, "cafe" as Any, false) shouldBe true
+        Utf8Patterns.matches(hex, copyFromUtf8("cafe") as Any, false) shouldBe true
+        Utf8Patterns.matches(hex, "tea" as Any, false) shouldBe false
+    }
+
+    @Test
+    fun `match groups and regions of ASCII bytes`() {
+        val pair = Pattern.compile("(\\w+)=(\\w+)")
+        Utf8Patterns.matches(pair, copyFromUtf8("key=value"), false) shouldBe true
+        Utf8Patterns.matches(pair, copyFromUtf8("key="), false) shouldBe false
+    }
+
+    @Test
+    fun `tell if a raw value is empty`() {
+        Utf8Patterns.isEmpty("") shouldBe true
+        Utf8Patterns.isEmpty(ByteString.EMPTY) shouldBe true
+        Utf8Patterns.isEmpty("a") shouldBe false
+        Utf8Patterns.isEmpty(copyFromUtf8("a")) shouldBe false
+    }
+}
@@ -43,6 +43,8 @@ import io.spine.protobuf.AnyPacker
 import io.spine.string.templateString
 import io.spine.type.TypeName
 import java.util.*
+import java.util.concurrent.ForkJoinPool
+import java.util.stream.Stream
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -110,6 +112,61 @@ internal class ValidateSpec {
 
         Validate.violationsOf(message) shouldBe listOf(violation)
     }
+
+    @Test
+    fun `key violations of a batch by message indexes`() {
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+        val messages = listOf(
+            timestamp { seconds = 1 },
+            timestamp { nanos = -1 },
+            AnyPacker.pack(timestamp { nanos = -2 }),
+            timestamp { seconds = 2 },
+        )
+
+        val result = Validate.violationsOfAll(messages)
+
+        result.byIndex().keys shouldBe setOf(1, 2)
+        result.of(1) shouldBe Validate.violationsOf(messages[1])
+        result.of(2) shouldBe Validate.violationsOf(messages[2])
+        result.of(0).shouldBeEmpty()
+        result.isTruncated shouldBe false
+    }
+
+    @Test
+    fun `validate a stream of messages`() {
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+        val messages = Stream.of(timestamp { nanos = -1 }, timestamp { seconds = 1 })
+
+        val result = Validate.violationsOfAll(messages)
+
+        result.byIndex().keys shouldBe setOf(0)
+    }
+
+    @Test
+    fun `stop collecting violations of a batch at the limit`() {
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+        val messages = List(10) { timestamp { nanos = -1 } }
+
+        val result = Validate.violationsOfAll(messages, 3)
+
+        result.byIndex().keys shouldBe setOf(0, 1, 2)
+        result.isTruncated shouldBe true
+    }
+
+    @Test
+    fun `validate a batch in parallel with the same result`() {
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+        val messages = (1..3000).map { index ->
+            timestamp { nanos = if (index % 10 == 0) -index else index }
+        }
+
+        val sequential = Validate.violationsOfAll(messages, 100)
+        val parallel = Validate.violationsOfAllInParallel(messages, ForkJoinPool.commonPool(), 100)
+
+        parallel.byIndex() shouldBe sequential.byIndex()
+        parallel.isTruncated shouldBe sequential.isTruncated
+        Validate.violationsOfAllInParallel(messages).byIndex().size shouldBe 300
+    }
 }
 
 private class StubValidateMessage(
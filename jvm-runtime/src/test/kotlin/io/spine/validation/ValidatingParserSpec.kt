@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import com.google.protobuf.InvalidProtocolBufferException
+import com.google.protobuf.Timestamp
+import com.google.protobuf.timestamp
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeInstanceOf
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ValidatingParser` should")
+internal class ValidatingParserSpec {
+
+    private val parser = ValidatingParser.of(Timestamp.parser())
+
+    private val valid = timestamp { seconds = 42 }
+    private val invalid = timestamp { nanos = -1 }
+
+    @BeforeEach
+    fun setUp() {
+        ValidatorRegistry.clear()
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+    }
+
+    @AfterEach
+    fun tearDown() {
+        ValidatorRegistry.clear()
+    }
+
+    @Test
+    fun `return a valid message`() {
+        parser.parseFrom(valid.toByteArray()) shouldBe valid
+        parser.parseFrom(valid.toByteString()) shouldBe valid
+    }
+
+    @Test
+    fun `reject an invalid message`() {
+        val exception = assertThrows<InvalidProtocolBufferException> {
+            parser.parseFrom(invalid.toByteArray())
+        }
+        val cause = exception.cause.shouldBeInstanceOf<ValidationException>()
+        cause.constraintViolations shouldBe Validate.violationsOf(invalid)
+        exception.unfinishedMessage shouldBe invalid
+    }
+
+    @Test
+    fun `validate partially parsed messages`() {
+        assertThrows<InvalidProtocolBufferException> {
+            parser.parsePartialFrom(invalid.toByteArray())
+        }
+    }
+
+    @Test
+    fun `validate delimited messages`() {
+        val output = ByteArrayOutputStream()
+        valid.writeDelimitedTo(output)
+        invalid.writeDelimitedTo(output)
+        val input = ByteArrayInputStream(output.toByteArray())
+
+        parser.parseDelimitedFrom(input) shouldBe valid
+        assertThrows<InvalidProtocolBufferException> {
+            parser.parseDelimitedFrom(input)
+        }
+    }
+
+    @Test
+    fun `not become fail-fast without builders`() {
+        assertThrows<IllegalStateException> {
+            parser.failFast()
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation
+
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ValidationProfile` should")
+internal class ValidationProfileSpec {
+
+    @AfterEach
+    fun checkNoProfileActive() {
+        ValidationProfile.active().shouldBeNull()
+    }
+
+    @Test
+    fun `have no active profile by default`() {
+        ValidationProfile.active().shouldBeNull()
+    }
+
+    @Test
+    fun `activate a profile until the scope is closed`() {
+        ValidationProfile.activate("structural").use {
+            ValidationProfile.active() shouldBe "structural"
+        }
+    }
+
+    @Test
+    fun `restore the previously active profile`() {
+        ValidationProfile.activate("structural").use {
+            ValidationProfile.activate("trusted").use {
+                ValidationProfile.active() shouldBe "trusted"
+            }
+            ValidationProfile.active() shouldBe "structural"
+        }
+    }
+
+    @Test
+    fun `deactivate profiles within the scope of the full profile`() {
+        ValidationProfile.activate("structural").use {
+            ValidationProfile.activate(ValidationProfile.FULL).use {
+                ValidationProfile.active().shouldBeNull()
+            }
+            ValidationProfile.active() shouldBe "structural"
+        }
+    }
+
+    @Test
+    fun `perform an action with an active profile`() {
+        val result = ValidationProfile.using("structural") { ValidationProfile.active() }
+
+        result shouldBe "structural"
+    }
+
+    @Test
+    fun `reject an empty profile name`() {
+        assertThrows<IllegalArgumentException> {
+            ValidationProfile.activate("")
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.validation
+
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.net.URLClassLoader
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createTempDirectory
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ValidatorIndex` should")
+internal class ValidatorIndexSpec {
+
+    @Test
+    fun `read the validators listed in the index resources`() {
+        val index = ValidatorIndex(javaClass.classLoader)
+
+        index.validators["com.google.protobuf.Timestamp"]!! shouldContain
+                TimestampValidator::class.java.name
+    }
+
+    @Test
+    fun `not report indexed validators as unindexed`() {
+        val index = ValidatorIndex(javaClass.classLoader)
+
+        index.unindexed.contains(TimestampValidator::class.java.name) shouldBe false
+    }
+
+    @Test
+    fun `skip comments and blank lines`() {
+        val index = indexOf(
+            """
+            # Validators of the test types.
+
+            com.example.Type:com.example.TypeValidator # The only one.
+            """.trimIndent()
+        )
+
+        index.validators["com.example.Type"] shouldBe listOf("com.example.TypeValidator")
+    }
+
+    @Test
+    fun `reject malformed lines`() {
+        val index = indexOf("com.example.TypeValidator")
+
+        val thrown = assertThrows<IllegalStateException> {
+            index.validators
+        }
+
+        thrown.message shouldContain "com.example.TypeValidator"
+    }
+
+    @Test
+    fun `load nested classes by their canonical names`() {
+        val index = ValidatorIndex(javaClass.classLoader)
+
+        index.loadClass("java.util.Map.Entry") shouldBe Map.Entry::class.java
+    }
+}
+
+private fun indexOf(content: String): ValidatorIndex {
+    val root = createTempDirectory("validator-index")
+    val resource = root.resolve("spine/validation/message-validators")
+    resource.parent.createDirectories()
+    resource.writeText(content)
+    // No parent class loader, so that only the resource above is visible.
+    val loader = URLClassLoader(arrayOf(root.toUri().toURL()), null)
+    return ValidatorIndex(loader)
+}
@@ -36,9 +36,14 @@ import io.kotest.matchers.shouldBe
 import io.spine.base.FieldPath
 import io.spine.string.templateString
 import io.spine.type.TypeName
+import java.net.URLClassLoader
 import java.util.*
 import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createTempDirectory
+import kotlin.io.path.writeText
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -149,6 +154,30 @@ internal class ValidatorRegistrySpec {
         violation.typeName shouldBe "google.protobuf.Timestamp"
     }
 
+    @Test
+    fun `tell if there are validators for a type`() {
+        ValidatorRegistry.hasValidators(Timestamp::class.java) shouldBe false
+
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+        ValidatorRegistry.hasValidators(Timestamp::class.java) shouldBe true
+
+        ValidatorRegistry.remove(Timestamp::class)
+        ValidatorRegistry.hasValidators(Timestamp::class.java) shouldBe false
+    }
+
+    @Test
+    fun `tell if there are indexed validators without loading them`() {
+        val index = "com.google.protobuf.Timestamp:${CountingTimestampValidator::class.java.name}"
+        withIndex(index) {
+            ValidatorRegistry.clear()
+            ValidatorRegistry.loadFromClasspath()
+        }
+        val createdBefore = CountingTimestampValidator.created.get()
+
+        ValidatorRegistry.hasValidators(Timestamp::class.java) shouldBe true
+        CountingTimestampValidator.created.get() shouldBe createdBefore
+    }
+
     @Test
     fun `clear the whole registry`() {
         ValidatorRegistry.add(Timestamp::class, TimestampValidator())
@@ -158,6 +187,23 @@ internal class ValidatorRegistrySpec {
         ValidatorRegistry.validate(invalidTimestamp).shouldBeEmpty()
     }
 
+    @Test
+    fun `instantiate indexed validators only when the message type is validated`() {
+        val index = "com.google.protobuf.Timestamp:${CountingTimestampValidator::class.java.name}"
+        withIndex(index) {
+            ValidatorRegistry.clear()
+            ValidatorRegistry.loadFromClasspath()
+        }
+        val createdBefore = CountingTimestampValidator.created.get()
+
+        ValidatorRegistry.validate(timestamp { seconds = 100 })
+        ValidatorRegistry.validate(timestamp { seconds = 200 })
+
+        CountingTimestampValidator.created.get() shouldBe createdBefore + 1
+        ValidatorRegistry.get(Timestamp::class)
+            .any { it is CountingTimestampValidator } shouldBe true
+    }
+
     @Test
     fun `load validators from the classpath using 'ServiceLoader'`() {
         // We need to trigger the init block of the object if it hasn't been triggered yet.
@@ -172,7 +218,7 @@ internal class ValidatorRegistrySpec {
             // If AutoService worked during this test run (it might not if it's not a full build),
             // we can re-load or just check if it's there after manual trigger.
             ValidatorRegistry.clear()
-            ValidatorRegistry.loadFromServiceLoader()
+            ValidatorRegistry.loadFromClasspath()
 
             val invalidTimestamp = timestamp { nanos = -1 }
             ValidatorRegistry.validate(invalidTimestamp) shouldHaveSize 1
@@ -257,3 +303,41 @@ private class AlwaysInvalidTimestampValidator : MessageValidator<Timestamp> {
         return listOf(MessageViolation(templateString { withPlaceholders = "Always invalid" }))
     }
 }
+
+/**
+ * Counts its instances to check that indexed validators are created lazily.
+ */
+internal class CountingTimestampValidator : MessageValidator<Timestamp> {
+
+    init {
+        created.incrementAndGet()
+    }
+
+    override fun validate(message: Timestamp): List<DetectedViolation> = emptyList()
+
+    companion object {
+        val created = AtomicInteger()
+    }
+}
+
+/**
+ * Runs the given [block] with the context class loader exposing
+ * the validator index resource with the given [content].
+ */
+private fun withIndex(content: String, block: () -> Unit) {
+    val root = createTempDirectory("validator-index")
+    val resource = root.resolve("spine/validation/message-validators")
+    resource.parent.createDirectories()
+    resource.writeText(content)
+    val thread = Thread.currentThread()
+    val original = thread.contextClassLoader
+    thread.contextClassLoader = URLClassLoader(
+        arrayOf(root.toUri().toURL()),
+        ValidatorRegistrySpec::class.java.classLoader
+    )
+    try {
+        block()
+    } finally {
+        thread.contextClassLoader = original
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic
+
+import com.google.protobuf.Any
+import com.google.protobuf.DynamicMessage
+import com.google.protobuf.Timestamp
+import com.google.protobuf.timestamp
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.spine.validation.ConstraintViolation
+import io.spine.validation.TimestampValidator
+import io.spine.validation.Validate
+import io.spine.validation.ValidatorRegistry
+import io.spine.validation.dynamic.given.DynamicTypes
+import io.spine.validation.dynamic.given.item
+import io.spine.validation.dynamic.given.order
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`DescriptorValidator` should")
+internal class DescriptorValidatorSpec {
+
+    private val validator = DescriptorValidator.forType(DynamicTypes.order)
+
+    private val invalidOrder = order(
+        items = listOf(item("abc", 0), item("", 200)),
+        extras = mapOf("gift" to item("XYZ", 1)),
+        discount = -0.5,
+        placedAt = timestamp { nanos = -1 }
+    )
+
+    @BeforeEach
+    fun setUp() {
+        ValidatorRegistry.clear()
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+    }
+
+    @AfterEach
+    fun tearDown() {
+        ValidatorRegistry.clear()
+    }
+
+    @Test
+    fun `accept a valid message`() {
+        val order = order(id = "42", items = listOf(item("ABC-1", 3)))
+
+        validator.violationsOf(order).shouldBeEmpty()
+    }
+
+    @Nested
+    inner class `report` {
+
+        @Test
+        fun `missing required fields`() {
+            val violations = validator.violationsOf(order())
+
+            violations.paths() shouldBe listOf("id", "item")
+            violations.forEach { it.typeName shouldBe DynamicTypes.order.fullName }
+        }
+
+        @Test
+        fun `violations of nested messages with paths from the root`() {
+            val order = order(id = "42", items = listOf(item("abc", 0)))
+
+            val violations = validator.violationsOf(order)
+
+            violations.paths() shouldBe listOf("item.sku", "item.quantity")
+            violations.forEach { it.typeName shouldBe DynamicTypes.order.fullName }
+        }
+
+        @Test
+        fun `violations of map values`() {
+            val order = order(
+                id = "42",
+                items = listOf(item("ABC-1", 1)),
+                extras = mapOf("gift" to item("XYZ-2", 101))
+            )
+
+            validator.violationsOf(order).paths() shouldBe listOf("extra.quantity")
+        }
+
+        @Test
+        fun `violations of custom validators`() {
+            val order = order(
+                id = "42",
+                items = listOf(item("ABC-1", 1)),
+                placedAt = timestamp { nanos = -1 }
+            )
+
+            validator.violationsOf(order).paths() shouldBe listOf("placed_at.nanos")
+        }
+    }
+
+    @Test
+    fun `report the same violations as 'WireValidator'`() {
+        val wire = WireValidator.forType(DynamicTypes.order)
+
+        validator.violationsOf(invalidOrder) shouldBe wire.violationsOf(invalidOrder.toByteString())
+    }
+
+    @Nested
+    inner class `when compiled` {
+
+        private val compiled = DescriptorValidator.compiled(DynamicTypes.order)
+
+        @Test
+        fun `report the same violations as the interpreted plan`() {
+            compiled.violationsOf(invalidOrder) shouldBe validator.violationsOf(invalidOrder)
+        }
+
+        @Test
+        fun `accept a valid message`() {
+            val order = order(id = "42", items = listOf(item("ABC-1", 3)))
+
+            compiled.violationsOf(order).shouldBeEmpty()
+        }
+
+        @Test
+        fun `reuse the plan compiled for the same descriptor`() {
+            CompiledPlan.of(DynamicTypes.order) shouldBeSameInstanceAs
+                    CompiledPlan.of(DynamicTypes.order)
+        }
+
+        @Test
+        fun `share the cached plan with the interpreting validators`() {
+            MessagePlan.of(DynamicTypes.order) shouldBeSameInstanceAs
+                    CompiledPlan.of(DynamicTypes.order).plan()
+        }
+    }
+
+    @Test
+    fun `not be used by 'Validate' for dynamic messages`() {
+        val order = order(id = "42")
+
+        Validate.violationsOf(order).shouldBeEmpty()
+        validator.violationsOf(order).paths() shouldBe listOf("item")
+    }
+
+    @Test
+    fun `reject messages of other types`() {
+        assertThrows<IllegalArgumentException> {
+            validator.violationsOf(Any.getDefaultInstance())
+        }
+    }
+
+    @Test
+    fun `require a generated class for unsupported options`() {
+        val note = DescriptorValidator.forType(DynamicTypes.note)
+
+        DescriptorValidator.canValidate(DynamicTypes.note) shouldBe false
+        assertThrows<IllegalStateException> {
+            note.violationsOf(DynamicMessage.getDefaultInstance(DynamicTypes.note))
+        }
+    }
+}
+
+private fun List<ConstraintViolation>.paths(): List<String> =
+    map { it.fieldPath.fieldNameList.joinToString(".") }
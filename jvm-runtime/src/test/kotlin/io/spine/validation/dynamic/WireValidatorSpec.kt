@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic
+
+import com.google.protobuf.ByteString
+import com.google.protobuf.DynamicMessage
+import com.google.protobuf.InvalidProtocolBufferException
+import com.google.protobuf.Timestamp
+import com.google.protobuf.timestamp
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.spine.validation.ConstraintViolation
+import io.spine.validation.TimestampValidator
+import io.spine.validation.ValidatorRegistry
+import io.spine.validation.dynamic.given.DynamicTypes
+import io.spine.validation.dynamic.given.item
+import io.spine.validation.dynamic.given.order
+import java.nio.ByteBuffer
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`WireValidator` should")
+internal class WireValidatorSpec {
+
+    private val validator = WireValidator.forType(DynamicTypes.order)
+
+    @BeforeEach
+    fun setUp() {
+        ValidatorRegistry.clear()
+        ValidatorRegistry.add(Timestamp::class, TimestampValidator())
+    }
+
+    @AfterEach
+    fun tearDown() {
+        ValidatorRegistry.clear()
+    }
+
+    @Test
+    fun `accept a valid message`() {
+        val order = order(id = "42", items = listOf(item("ABC-1", 3)))
+
+        validator.violationsOf(order.toByteArray()).shouldBeEmpty()
+    }
+
+    @Nested
+    inner class `report` {
+
+        @Test
+        fun `missing required fields`() {
+            val violations = validator.violationsOf(order().toByteString())
+
+            violations.paths() shouldBe listOf("id", "item")
+            violations.forEach { it.typeName shouldBe DynamicTypes.order.fullName }
+        }
+
+        @Test
+        fun `violations of nested messages with paths from the root`() {
+            val order = order(id = "42", items = listOf(item("abc", 0)))
+
+            val violations = validator.violationsOf(order.toByteArray())
+
+            violations.paths() shouldBe listOf("item.sku", "item.quantity")
+            violations.forEach { it.typeName shouldBe DynamicTypes.order.fullName }
+        }
+
+        @Test
+        fun `violations in the order of the generated code`() {
+            val order = order(items = listOf(item("abc", 1)))
+
+            val violations = validator.violationsOf(order.toByteArray())
+
+            violations.paths() shouldBe listOf("id", "item.sku")
+        }
+
+        @Test
+        fun `violations of map values`() {
+            val order = order(
+                id = "42",
+                items = listOf(item("ABC-1", 1)),
+                extras = mapOf("gift" to item("XYZ-2", 101))
+            )
+
+            val violations = validator.violationsOf(order.toByteArray())
+
+            violations.paths() shouldBe listOf("extra.quantity")
+        }
+
+        @Test
+        fun `values out of range`() {
+            val order = order(id = "42", items = listOf(item("ABC-1", 1)), discount = 1.5)
+
+            val violations = validator.violationsOf(order.toByteArray())
+
+            violations shouldHaveSize 1
+            val violation = violations.single()
+            violation.fieldPath.fieldNameList shouldBe listOf("discount")
+            violation.message.placeholderValueMap["range.value"] shouldBe "[0..1]"
+        }
+
+        @Test
+        fun `violations of custom validators`() {
+            val order = order(
+                id = "42",
+                items = listOf(item("ABC-1", 1)),
+                placedAt = timestamp { nanos = -1 }
+            )
+
+            val violations = validator.violationsOf(order.toByteArray())
+
+            violations.paths() shouldBe listOf("placed_at.nanos")
+        }
+    }
+
+    @Test
+    fun `validate a buffer without changing its position`() {
+        val bytes = order(id = "42").toByteArray()
+        val buffer = ByteBuffer.wrap(bytes)
+
+        val violations = validator.violationsOf(buffer)
+
+        violations.paths() shouldBe listOf("item")
+        buffer.position() shouldBe 0
+    }
+
+    @Test
+    fun `reject malformed input`() {
+        assertThrows<InvalidProtocolBufferException> {
+            validator.violationsOf(byteArrayOf(0x0A, 0x05, 0x01))
+        }
+    }
+
+    @Test
+    fun `require a generated class for unsupported options`() {
+        val note = WireValidator.forType(DynamicTypes.note)
+
+        WireValidator.canValidate(DynamicTypes.note) shouldBe false
+        assertThrows<IllegalStateException> {
+            note.violationsOf(ByteArray(0))
+        }
+    }
+
+    @Test
+    fun `require a generated class for constrained groups`() {
+        val parcel = WireValidator.forType(DynamicTypes.parcel)
+
+        WireValidator.canValidate(DynamicTypes.parcel) shouldBe false
+        assertThrows<IllegalStateException> {
+            parcel.violationsOf(ByteArray(0))
+        }
+    }
+
+    @Test
+    fun `tell that the supported types can be validated`() {
+        WireValidator.canValidate(DynamicTypes.order) shouldBe true
+    }
+
+    @Nested
+    inner class `check the last set alternative of a oneof group when it is` {
+
+        private val shipment = WireValidator.forType(DynamicTypes.shipment)
+        private val invalidAddress = shipment("address", "nowhere")
+        private val pickupPoint = shipment("pickup_point", "P-1")
+
+        @Test
+        fun `an unconstrained field`() {
+            val bytes = invalidAddress.concat(pickupPoint)
+
+            shipment.violationsOf(bytes).shouldBeEmpty()
+        }
+
+        @Test
+        fun `a constrained field`() {
+            val bytes = pickupPoint.concat(invalidAddress)
+
+            shipment.violationsOf(bytes).paths() shouldBe listOf("address")
+        }
+    }
+}
+
+private fun shipment(field: String, value: String): ByteString {
+    val type = DynamicTypes.shipment
+    return DynamicMessage.newBuilder(type)
+        .setField(type.findFieldByName(field), value)
+        .build()
+        .toByteString()
+}
+
+private fun List<ConstraintViolation>.paths(): List<String> =
+    map { it.fieldPath.fieldNameList.joinToString(".") }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic.given
+
+import com.google.protobuf.DynamicMessage
+import com.google.protobuf.Message
+import com.google.protobuf.Timestamp
+
+/**
+ * Creates a dynamic message of the [DynamicTypes.item] type.
+ */
+internal fun item(sku: String, quantity: Int): DynamicMessage {
+    val type = DynamicTypes.item
+    return DynamicMessage.newBuilder(type)
+        .setField(type.findFieldByName("sku"), sku)
+        .setField(type.findFieldByName("quantity"), quantity)
+        .build()
+}
+
+/**
+ * Creates a dynamic message of the [DynamicTypes.order] type.
+ */
+internal fun order(
+    id: String = "",
+    items: List<Message> = emptyList(),
+    extras: Map<String, Message> = emptyMap(),
+    discount: Double = 0.0,
+    placedAt: Timestamp? = null
+): DynamicMessage {
+    val type = DynamicTypes.order
+    val builder = DynamicMessage.newBuilder(type)
+        .setField(type.findFieldByName("id"), id)
+        .setField(type.findFieldByName("discount"), discount)
+    items.forEach { builder.addRepeatedField(type.findFieldByName("item"), it) }
+    val extra = type.findFieldByName("extra")
+    extras.forEach { (key, value) ->
+        val entryType = extra.messageType
+        val entry = DynamicMessage.newBuilder(entryType)
+            .setField(entryType.findFieldByName("key"), key)
+            .setField(entryType.findFieldByName("value"), value)
+            .build()
+        builder.addRepeatedField(extra, entry)
+    }
+    placedAt?.let { builder.setField(type.findFieldByName("placed_at"), it) }
+    return builder.build()
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.validation.dynamic.given
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type
+import com.google.protobuf.DescriptorProtos.FieldOptions
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.DescriptorProtos.MessageOptions
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto
+import com.google.protobuf.Descriptors.Descriptor
+import com.google.protobuf.Descriptors.FileDescriptor
+import com.google.protobuf.TimestampProto
+import io.spine.option.GoesOption
+import io.spine.option.MaxOption
+import io.spine.option.MinOption
+import io.spine.option.OptionsProto
+import io.spine.option.PatternOption
+import io.spine.option.RangeOption
+
+/**
+ * Message types with validation options built at runtime.
+ *
+ * The types are declared as follows:
+ * ```proto
+ * message Item {
+ *     string sku = 1 [(required) = true, (pattern).regex = "[A-Z]{3}-\\d+"];
+ *     int32 quantity = 2 [(min).value = "1", (max).value = "100"];
+ * }
+ *
+ * message Order {
+ *     string id = 1 [(required) = true];
+ *     repeated Item item = 2 [(required) = true, (validate) = true];
+ *     map<string, Item> extra = 3 [(validate) = true];
+ *     double discount = 4 [(range).value = "[0..1]"];
+ *     google.protobuf.Timestamp placed_at = 5 [(validate) = true];
+ * }
+ *
+ * message Note {
+ *     string text = 1 [(goes).with = "author"];
+ *     string author = 2;
+ * }
+ *
+ * message Shipment {
+ *     oneof destination {
+ *         string address = 1 [(pattern).regex = "[A-Z].*"];
+ *         string pickup_point = 2;
+ *     }
+ * }
+ * ```
+ *
+ * Also, the following type is declared in a `proto2` file:
+ * ```proto
+ * message Parcel {
+ *     optional group Label = 1 [(required) = true] {
+ *         optional string text = 2;
+ *     }
+ * }
+ * ```
+ */
+internal object DynamicTypes {
+
+    private const val PACKAGE = "given.dynamic"
+
+    private val file: FileDescriptor by lazy {
+        val proto = FileDescriptorProto.newBuilder()
+            .setName("given/dynamic/order.proto")
+            .setPackage(PACKAGE)
+            .setSyntax("proto3")
+            .addDependency(TimestampProto.getDescriptor().name)
+            .addMessageType(item())
+            .addMessageType(order())
+            .addMessageType(note())
+            .addMessageType(shipment())
+            .build()
+        FileDescriptor.buildFrom(proto, arrayOf(TimestampProto.getDescriptor()))
+    }
+
+    private val legacyFile: FileDescriptor by lazy {
+        val proto = FileDescriptorProto.newBuilder()
+            .setName("given/dynamic/parcel.proto")
+            .setPackage(PACKAGE)
+            .setSyntax("proto2")
+            .addMessageType(parcel())
+            .build()
+        FileDescriptor.buildFrom(proto, arrayOf())
+    }
+
+    val item: Descriptor
+        get() = file.findMessageTypeByName("Item")
+
+    val order: Descriptor
+        get() = file.findMessageTypeByName("Order")
+
+    val note: Descriptor
+        get() = file.findMessageTypeByName("Note")
+
+    val shipment: Descriptor
+        get() = file.findMessageTypeByName("Shipment")
+
+    val parcel: Descriptor
+        get() = legacyFile.findMessageTypeByName("Parcel")
+
+    private fun item() = DescriptorProto.newBuilder()
+        .setName("Item")
+        .addField(
+            field("sku", 1, Type.TYPE_STRING, options {
+                setExtension(OptionsProto.required, true)
+                setExtension(
+                    OptionsProto.pattern,
+                    PatternOption.newBuilder().setRegex("[A-Z]{3}-\\d+").build()
+                )
+            })
+        )
+        .addField(
+            field("quantity", 2, Type.TYPE_INT32, options {
+                setExtension(OptionsProto.min, MinOption.newBuilder().setValue("1").build())
+                setExtension(OptionsProto.max, MaxOption.newBuilder().setValue("100").build())
+            })
+        )
+        .build()
+
+    private fun order() = DescriptorProto.newBuilder()
+        .setName("Order")
+        .addField(
+            field("id", 1, Type.TYPE_STRING, options {
+                setExtension(OptionsProto.required, true)
+            })
+        )
+        .addField(
+            field("item", 2, Type.TYPE_MESSAGE, options {
+                setExtension(OptionsProto.required, true)
+                setExtension(OptionsProto.validate, true)
+            }).setLabel(LABEL_REPEATED)
+                .setTypeName(".$PACKAGE.Item")
+        )
+        .addField(
+            field("extra", 3, Type.TYPE_MESSAGE, options {
+                setExtension(OptionsProto.validate, true)
+            }).setLabel(LABEL_REPEATED)
+                .setTypeName(".$PACKAGE.Order.ExtraEntry")
+        )
+        .addField(
+            field("discount", 4, Type.TYPE_DOUBLE, options {
+                setExtension(OptionsProto.range, RangeOption.newBuilder().setValue("[0..1]").build())
+            })
+        )
+        .addField(
+            field("placed_at", 5, Type.TYPE_MESSAGE, options {
+                setExtension(OptionsProto.validate, true)
+            }).setTypeName(".google.protobuf.Timestamp")
+        )
+        .addNestedType(
+            DescriptorProto.newBuilder()
+                .setName("ExtraEntry")
+                .addField(field("key", 1, Type.TYPE_STRING))
+                .addField(field("value", 2, Type.TYPE_MESSAGE).setTypeName(".$PACKAGE.Item"))
+                .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+        )
+        .build()
+
+    private fun note() = DescriptorProto.newBuilder()
+        .setName("Note")
+        .addField(
+            field("text", 1, Type.TYPE_STRING, options {
+                setExtension(OptionsProto.goes, GoesOption.newBuilder().setWith("author").build())
+            })
+        )
+        .addField(field("author", 2, Type.TYPE_STRING))
+        .build()
+
+    private fun shipment() = DescriptorProto.newBuilder()
+        .setName("Shipment")
+        .addOneofDecl(OneofDescriptorProto.newBuilder().setName("destination"))
+        .addField(
+            field("address", 1, Type.TYPE_STRING, options {
+                setExtension(
+                    OptionsProto.pattern,
+                    PatternOption.newBuilder().setRegex("[A-Z].*").build()
+                )
+            }).setOneofIndex(0)
+        )
+        .addField(field("pickup_point", 2, Type.TYPE_STRING).setOneofIndex(0))
+        .build()
+
+    private fun parcel() = DescriptorProto.newBuilder()
+        .setName("Parcel")
+        .addField(
+            field("label", 1, Type.TYPE_GROUP, options {
+                setExtension(OptionsProto.required, true)
+            }).setTypeName(".$PACKAGE.Parcel.Label")
+        )
+        .addNestedType(
+            DescriptorProto.newBuilder()
+                .setName("Label")
+                .addField(field("text", 2, Type.TYPE_STRING))
+        )
+        .build()
+
+    private fun field(
+        name: String,
+        number: Int,
+        type: Type,
+        options: FieldOptions = FieldOptions.getDefaultInstance()
+    ): FieldDescriptorProto.Builder = FieldDescriptorProto.newBuilder()
+        .setName(name)
+        .setJsonName(name)
+        .setNumber(number)
+        .setType(type)
+        .setLabel(LABEL_OPTIONAL)
+        .setOptions(options)
+
+    private fun options(block: FieldOptions.Builder.() -> Unit): FieldOptions =
+        FieldOptions.newBuilder().apply(block).build()
+}
@@ -45,6 +45,7 @@ include(
     ":tests:extensions",
     ":tests:consumer",
     ":tests:consumer-dependency",
+    ":tests:native-image",
     ":tests:runtime",
     ":tests:time",
     ":tests:vanilla",
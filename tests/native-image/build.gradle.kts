@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import io.spine.dependency.boms.BomsPlugin
+import io.spine.dependency.local.TestLib
+import io.spine.gradle.report.license.LicenseReporter
+
+plugins {
+    java
+    kotlin("jvm")
+    id("module-testing")
+    id("org.graalvm.buildtools.native")
+}
+apply<BomsPlugin>()
+LicenseReporter.generateReportIn(project)
+
+spine {
+    compiler {
+        plugins(
+            // Suppress warnings in the generated code.
+            "io.spine.tools.compiler.jvm.annotation.SuppressWarningsAnnotation\$Plugin",
+            "io.spine.validation.java.JavaValidationPlugin",
+        )
+    }
+}
+
+dependencies {
+    spineCompiler(project(":java"))
+    testImplementation(TestLib.lib)
+}
+
+/*
+ * The tests of this module run on the JVM as a part of the regular build.
+ *
+ * To run them as a native image, execute the `nativeTest` task on a Linux machine
+ * with GraalVM installed and the `GRAALVM_HOME` environment variable set.
+ * No additional reachability metadata is configured here: everything needed is
+ * provided by the validation runtime itself.
+ */
+graalvmNative {
+    toolchainDetection.set(false)
+    binaries {
+        named("test") {
+            buildArgs.add("--no-fallback")
+        }
+    }
+}
+
+configureTaskDependencies()
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.test.nativeimage
+
+import com.google.protobuf.Timestamp
+import com.google.protobuf.timestamp
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.spine.protobuf.AnyPacker
+import io.spine.validation.TimestampValidator
+import io.spine.validation.Validate
+import io.spine.validation.ValidationException
+import io.spine.validation.ValidatorRegistry
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+/**
+ * Checks the validation runtime in a native image.
+ *
+ * The tests also pass on the JVM. The `nativeTest` task runs them as a native image
+ * built with the metadata provided by the validation runtime only.
+ */
+@DisplayName("Validation runtime in a native image should")
+internal class NativeImageSmokeTest {
+
+    private val valid = Parcel.newBuilder()
+        .setTrackingNumber("RR123456789CN")
+        .setSentAt(timestamp { seconds = 1_700_000_000 })
+        .setWeightGrams(250)
+
+    @Test
+    fun `build a valid message`() {
+        val parcel = valid.build()
+
+        Validate.violationsOf(parcel).shouldBeEmpty()
+    }
+
+    @Test
+    fun `reject a message violating the generated constraints`() {
+        val exception = assertThrows<ValidationException> {
+            valid.clone()
+                .setTrackingNumber("unknown")
+                .setWeightGrams(0)
+                .build()
+        }
+
+        exception.constraintViolations shouldHaveSize 2
+    }
+
+    @Test
+    fun `load an indexed validator for a nested message`() {
+        val parcel = valid.clone()
+            .setSentAt(timestamp { nanos = -1 })
+            .buildPartial()
+
+        Validate.violationsOf(parcel) shouldHaveSize 1
+        ValidatorRegistry.get(Timestamp::class.java)
+            .any { it is TimestampValidator } shouldBe true
+    }
+
+    @Test
+    fun `validate a message unpacked by its type URL`() {
+        val packed = AnyPacker.pack(valid.build())
+
+        val unpacked = AnyPacker.unpack(packed)
+
+        unpacked shouldBe valid.build()
+        Validate.violationsOf(unpacked).shouldBeEmpty()
+    }
+}
@@ -126,6 +126,19 @@ internal class PatternSpec : ValidationOfConstraintTest() {
         assertValid(message)
     }
 
+    @Test
+    fun `validate the values of a parsed message`() {
+        val valid = AllThePatterns.newBuilder()
+            .setLetters("AbC")
+            .buildPartial()
+        assertValid(AllThePatterns.parseFrom(valid.toByteString()))
+
+        val invalid = AllThePatterns.newBuilder()
+            .setLetters("12345")
+            .buildPartial()
+        assertNotValid(AllThePatterns.parseFrom(invalid.toByteString()))
+    }
+
     @Test
     fun `validate with forward and backward slashes`() {
         assertValid(
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test
+
+import com.google.protobuf.InvalidProtocolBufferException
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeInstanceOf
+import io.spine.test.tools.validate.Shipment
+import io.spine.validation.ValidationException
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("Fail-fast `validatingParser()` should")
+internal class FailFastParsingITest {
+
+    private val parser = Shipment.validatingParser().failFast()
+
+    @Test
+    fun `stop reading the message at the first invalid field`() {
+        val shipment = Shipment.newBuilder()
+            .setId("S-1")
+            .setCode("abc")
+            .setWeight(5)
+            .buildPartial()
+
+        val exception = assertThrows<InvalidProtocolBufferException> {
+            parser.parseFrom(shipment.toByteArray())
+        }
+
+        val cause = exception.cause.shouldBeInstanceOf<ValidationException>()
+        cause.constraintViolations.map { it.fieldPath.getFieldName(0) } shouldBe listOf("code")
+        val unfinished = exception.unfinishedMessage as Shipment
+        unfinished.code shouldBe "abc"
+        unfinished.weight shouldBe 0
+    }
+
+    @Test
+    fun `check the rest of the constraints once the message is read`() {
+        val shipment = Shipment.newBuilder()
+            .setCode("ABC")
+            .setWeight(5)
+            .buildPartial()
+
+        val exception = assertThrows<InvalidProtocolBufferException> {
+            parser.parseFrom(shipment.toByteArray())
+        }
+
+        val cause = exception.cause.shouldBeInstanceOf<ValidationException>()
+        cause.constraintViolations.map { it.fieldPath.getFieldName(0) } shouldBe listOf("id")
+        exception.unfinishedMessage shouldBe shipment
+    }
+
+    @Test
+    fun `report the fields missing on the wire, the default values of which are invalid`() {
+        val shipment = Shipment.newBuilder()
+            .setId("S-1")
+            .setCode("ABC")
+            .buildPartial()
+
+        val exception = assertThrows<InvalidProtocolBufferException> {
+            parser.parseFrom(shipment.toByteArray())
+        }
+
+        val cause = exception.cause.shouldBeInstanceOf<ValidationException>()
+        cause.constraintViolations.map { it.fieldPath.getFieldName(0) } shouldBe listOf("weight")
+    }
+
+    @Test
+    fun `return a valid message`() {
+        val shipment = Shipment.newBuilder()
+            .setId("S-1")
+            .setCode("ABC")
+            .setWeight(5)
+            .build()
+
+        parser.parseFrom(shipment.toByteArray()) shouldBe shipment
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.test
+
+import com.google.protobuf.ByteString
+import com.google.protobuf.Timestamp
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.shouldBe
+import io.spine.test.protobuf.ExtensionReadersTestProto
+import io.spine.test.protobuf.Parcel
+import io.spine.test.protobuf.Shipment
+import io.spine.test.protobuf.ShipmentPriority.SP_EXPRESS
+import io.spine.validation.FieldAwareMessage
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("Generated `FieldAwareMessage` implementation should")
+internal class FieldAwareMessageITest {
+
+    private val shipment = Shipment.newBuilder()
+        .setId("S-1")
+        .setBoxCount(3)
+        .setWeightGrams(1_500L)
+        .setVolume(0.25f)
+        .setDeclaredValue(99.9)
+        .setFragile(true)
+        .setLabel(ByteString.copyFromUtf8("label"))
+        .setShippedAt(Timestamp.newBuilder().setSeconds(42))
+        .addTags("gift")
+        .addAllDimensions(listOf(10, 20, 30))
+        .setPriority(SP_EXPRESS)
+        .putAttributes("color", "red")
+        .setLockerId(7L)
+        .build()
+
+    private val descriptor = Shipment.getDescriptor()
+
+    @Test
+    fun `be implemented by the message class`() {
+        Shipment::class.java.interfaces shouldContain FieldAwareMessage::class.java
+    }
+
+    @Test
+    fun `read the same values as the reflective API`() {
+        shipment.checkFieldsReachable() shouldBe true
+        Shipment.getDefaultInstance().checkFieldsReachable() shouldBe true
+    }
+
+    @Test
+    fun `read values by field numbers`() {
+        descriptor.fields.forEach {
+            shipment.readValue(it.number) shouldBe shipment.getField(it)
+        }
+    }
+
+    @Nested
+    inner class `read primitive values without boxing` {
+
+        @Test
+        fun `of integer fields`() {
+            shipment.readInt(Shipment.BOX_COUNT_FIELD_NUMBER) shouldBe 3
+            shipment.readLong(Shipment.WEIGHT_GRAMS_FIELD_NUMBER) shouldBe 1_500L
+            shipment.readLong(Shipment.LOCKER_ID_FIELD_NUMBER) shouldBe 7L
+        }
+
+        @Test
+        fun `of floating-point fields`() {
+            shipment.readFloat(Shipment.VOLUME_FIELD_NUMBER) shouldBe 0.25f
+            shipment.readDouble(Shipment.DECLARED_VALUE_FIELD_NUMBER) shouldBe 99.9
+        }
+
+        @Test
+        fun `of boolean fields`() {
+            shipment.readBoolean(Shipment.FRAGILE_FIELD_NUMBER) shouldBe true
+        }
+    }
+
+    @Test
+    fun `reject reading a field of a different type`() {
+        assertThrows<IllegalArgumentException> {
+            shipment.readInt(Shipment.ID_FIELD_NUMBER)
+        }
+        assertThrows<IllegalArgumentException> {
+            shipment.readInt(Shipment.DIMENSIONS_FIELD_NUMBER)
+        }
+    }
+
+    @Test
+    fun `read extensions via reflection`() {
+        val parcel = Parcel.newBuilder()
+            .setId("P-1")
+            .setExtension(ExtensionReadersTestProto.parcelWeight, 5)
+            .build()
+        val extension = ExtensionReadersTestProto.parcelWeight.descriptor
+
+        parcel.readValue(extension) shouldBe 5
+    }
+
+    @Test
+    fun `reject reading an unknown field`() {
+        assertThrows<IllegalArgumentException> {
+            shipment.readValue(100)
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test
+
+import com.google.protobuf.fieldMask
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.spine.test.tools.validate.Shipment
+import io.spine.validation.ConstraintViolation
+import io.spine.validation.Validate
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Validation by a field mask should")
+internal class FieldMaskValidationITest {
+
+    /**
+     * The shipment violating the constraints of `code`, `weight`, `tracking`,
+     * and `recipient.value` fields.
+     */
+    private val shipment = Shipment.newBuilder()
+        .setId("S-1")
+        .setCode("abc")
+        .setWeight(0)
+        .setTracking("T-42")
+        .apply { recipientBuilder.setValue("42") }
+        .buildPartial()
+
+    @Test
+    fun `check only the constraints of the listed fields`() {
+        violationsOf("id", "code").fieldPaths() shouldContainExactlyInAnyOrder listOf("code")
+    }
+
+    @Test
+    fun `check cross-field constraints if any of their fields is listed`() {
+        violationsOf("carrier").fieldPaths() shouldContainExactlyInAnyOrder listOf("tracking")
+    }
+
+    @Test
+    fun `check only the listed fields of a nested message`() {
+        violationsOf("recipient.value").fieldPaths() shouldContainExactlyInAnyOrder
+                listOf("recipient.value")
+    }
+
+    @Test
+    fun `check no fields if the mask is empty`() {
+        violationsOf().shouldBeEmpty()
+    }
+
+    private fun violationsOf(vararg paths: String): List<ConstraintViolation> {
+        val mask = fieldMask { this.paths.addAll(paths.toList()) }
+        return Validate.violationsOf(shipment, mask)
+    }
+}
+
+private fun List<ConstraintViolation>.fieldPaths(): List<String> =
+    map { it.fieldPath.fieldNameList.joinToString(".") }
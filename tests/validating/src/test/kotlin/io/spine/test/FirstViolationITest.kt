@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test
+
+import io.kotest.matchers.optional.shouldBeEmpty
+import io.kotest.matchers.optional.shouldBePresent
+import io.kotest.matchers.shouldBe
+import io.spine.test.tools.validate.PersonName
+import io.spine.test.tools.validate.Shipment
+import io.spine.validation.Validate
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`firstViolation()` should")
+internal class FirstViolationITest {
+
+    @Test
+    fun `check the cheaper constraints first`() {
+        val shipment = Shipment.newBuilder()
+            .setId("S-1")
+            .setRecipient(PersonName.newBuilder().setValue("R2-D2"))
+            .buildPartial()
+
+        Validate.violationsOf(shipment).map { it.fieldPath.getFieldName(0) } shouldBe listOf(
+            "recipient",
+            "weight"
+        )
+        shipment.firstViolation().shouldBePresent {
+            it.fieldPath.fieldNameList shouldBe listOf("weight")
+        }
+    }
+
+    @Test
+    fun `find no violation in a valid message`() {
+        val shipment = Shipment.newBuilder()
+            .setId("S-1")
+            .setWeight(5)
+            .build()
+
+        shipment.firstViolation().shouldBeEmpty()
+        Validate.firstViolationOf(shipment).shouldBeEmpty()
+    }
+}
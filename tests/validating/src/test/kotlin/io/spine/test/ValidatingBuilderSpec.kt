@@ -27,12 +27,23 @@
 package io.spine.test
 
 import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
 import io.kotest.matchers.collections.shouldNotBeEmpty
 import io.kotest.matchers.shouldBe
 import io.spine.test.tools.validate.InterestRate
+import io.spine.test.tools.validate.Shipment
+import io.spine.validation.ConstraintViolation
+import io.spine.validation.DetectedViolation
+import io.spine.validation.MessageValidator
+import io.spine.validation.ValidationException
+import io.spine.validation.ValidatorRegistry
+import io.spine.validation.copy
+import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
+import org.junit.jupiter.api.assertThrows
 
 /**
  * Tests the [validate][io.spine.validation.ValidatingBuilder.validate] probe
@@ -74,4 +85,185 @@ internal class ValidatingBuilderSpec {
 
         builder.buildPartial() shouldBe before
     }
+
+    @Nested internal inner class
+    `validate incrementally, reporting the same violations as full validation` {
+
+        private val builder = Shipment.newBuilder()
+            .setId("S-1")
+            .setCode("abc")
+            .setWeight(0)
+
+        @Test
+        fun `when called repeatedly with no changes`() {
+            val first = builder.validate()
+            val second = builder.validate()
+
+            first.fieldPaths() shouldContainExactlyInAnyOrder listOf("code", "weight")
+            second shouldContainExactlyInAnyOrder first
+        }
+
+        @Test
+        fun `when a field is fixed`() {
+            builder.validate()
+
+            builder.setCode("ABC")
+
+            builder.validate().fieldPaths() shouldContainExactlyInAnyOrder listOf("weight")
+        }
+
+        @Test
+        fun `when a field is broken`() {
+            builder.setCode("ABC").setWeight(5)
+            builder.validate().shouldBeEmpty()
+
+            builder.clearId()
+
+            builder.validate().fieldPaths() shouldContainExactlyInAnyOrder listOf("id")
+        }
+
+        @Test
+        fun `when a companion field of a cross-field constraint changes`() {
+            builder.setCode("ABC").setWeight(5)
+                .setTracking("T-42")
+                .setCarrier("ACME")
+            builder.validate().shouldBeEmpty()
+
+            builder.clearCarrier()
+
+            builder.validate().fieldPaths() shouldContainExactlyInAnyOrder listOf("tracking")
+        }
+
+        @Test
+        fun `when a nested message is changed via its builder`() {
+            builder.setCode("ABC").setWeight(5)
+                .recipientBuilder.setValue("John Smith")
+            builder.validate().shouldBeEmpty()
+
+            builder.recipientBuilder.setValue("42")
+
+            builder.validate().fieldPaths() shouldContainExactlyInAnyOrder
+                    listOf("recipient.value")
+        }
+
+        @Test
+        fun `when a field is changed via reflection`() {
+            builder.validate()
+
+            val code = Shipment.getDescriptor().findFieldByName("code")
+            builder.setField(code, "ABC")
+
+            builder.validate().fieldPaths() shouldContainExactlyInAnyOrder listOf("weight")
+        }
+
+        @Test
+        fun `when the builder is cleared`() {
+            builder.setCode("ABC").setWeight(5)
+            builder.validate().shouldBeEmpty()
+
+            builder.clear()
+
+            builder.validate().fieldPaths() shouldContainExactlyInAnyOrder listOf("id", "weight")
+        }
+
+        @Test
+        fun `when registered validators are applied`() {
+            val validator = CountingValidator()
+            ValidatorRegistry.add(Shipment::class.java, validator)
+            try {
+                builder.validate()
+                builder.setCode("ABC")
+                builder.validate()
+
+                validator.calls shouldBe 2
+            } finally {
+                ValidatorRegistry.remove(Shipment::class.java)
+            }
+        }
+
+        @AfterEach
+        fun checkSameAsFullValidation() {
+            val full = builder.buildPartial().validate()
+                .map { it.constraintViolationList }
+                .orElse(emptyList())
+            builder.validate() shouldContainExactlyInAnyOrder full
+        }
+    }
+
+    @Nested internal inner class
+    `build a copy of a valid message checking the changed fields` {
+
+        private val valid = Shipment.newBuilder()
+            .setId("S-1")
+            .setCode("ABC")
+            .setWeight(5)
+            .setTracking("T-42")
+            .setCarrier("ACME")
+            .build()
+
+        @Test
+        fun `accepting a valid change`() {
+            val copy = valid.copy<Shipment, Shipment.Builder> { weight = 7 }
+
+            copy.weight shouldBe 7
+        }
+
+        @Test
+        fun `rejecting an invalid change`() {
+            val exception = assertThrows<ValidationException> {
+                valid.copy<Shipment, Shipment.Builder> { code = "abc" }
+            }
+
+            exception.constraintViolations.fieldPaths() shouldBe listOf("code")
+        }
+
+        @Test
+        fun `rejecting a change breaking a cross-field constraint`() {
+            val exception = assertThrows<ValidationException> {
+                valid.copy<Shipment, Shipment.Builder> { clearCarrier() }
+            }
+
+            exception.constraintViolations.fieldPaths() shouldBe listOf("tracking")
+        }
+
+        @Test
+        fun `rejecting an invalid change of a copy`() {
+            val copy = valid.copy<Shipment, Shipment.Builder> { weight = 7 }
+
+            val exception = assertThrows<ValidationException> {
+                copy.copy<Shipment, Shipment.Builder> { clearId() }
+            }
+
+            exception.constraintViolations.fieldPaths() shouldBe listOf("id")
+        }
+
+        @Test
+        fun `checking all the fields of a message built without validation`() {
+            val partial = valid.toBuilder()
+                .setCode("abc")
+                .buildPartial()
+
+            val exception = assertThrows<ValidationException> {
+                partial.copy<Shipment, Shipment.Builder> { weight = 7 }
+            }
+
+            exception.constraintViolations.fieldPaths() shouldBe listOf("code")
+        }
+    }
+}
+
+private fun List<ConstraintViolation>.fieldPaths(): List<String> =
+    map { it.fieldPath.fieldNameList.joinToString(".") }
+
+/**
+ * Counts the validated messages, reporting no violations.
+ */
+private class CountingValidator : MessageValidator<Shipment> {
+
+    var calls = 0
+
+    override fun validate(message: Shipment): List<DetectedViolation> {
+        calls++
+        return emptyList()
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test.dynamic
+
+import com.google.protobuf.DynamicMessage
+import com.google.protobuf.Message
+import io.spine.test.tools.validate.InDepthValidatedRepeated
+import io.spine.test.tools.validate.PersonName
+import io.spine.validation.Validate
+import io.spine.validation.dynamic.DescriptorValidator
+import io.spine.validation.dynamic.WireValidator
+import java.util.concurrent.TimeUnit.NANOSECONDS
+
+/**
+ * Compares the throughput of the generated validation code with the descriptor-driven one.
+ *
+ * The benchmark is not a part of the test suite. Run it manually from the IDE, or
+ * with the `java` command having the test runtime classpath of this module.
+ *
+ * Each variant validates the same message with 100 in-depth validated elements:
+ *
+ * 1. `generated` — [Validate.violationsOf] for the message of the generated class.
+ * 2. `descriptor` — [DescriptorValidator] interpreting the plan for
+ *    the [DynamicMessage] of the same type.
+ * 3. `compiled` — [DescriptorValidator] running the compiled plan for the same message.
+ * 4. `wire` — [WireValidator] for the serialized message.
+ */
+internal object DescriptorValidatorBenchmark {
+
+    private const val WARMUP_ROUNDS = 20_000
+    private const val MEASURED_ROUNDS = 100_000
+
+    @JvmStatic
+    fun main(args: Array<String>) {
+        val message = message()
+        val type = message.descriptorForType
+        val dynamic = DynamicMessage.parseFrom(type, message.toByteString())
+        val bytes = message.toByteArray()
+        val descriptorValidator = DescriptorValidator.forType(type)
+        val compiledValidator = DescriptorValidator.compiled(type)
+        val wireValidator = WireValidator.forType(type)
+
+        measure("generated") { Validate.violationsOf(message) }
+        measure("descriptor") { descriptorValidator.violationsOf(dynamic) }
+        measure("compiled") { compiledValidator.violationsOf(dynamic) }
+        measure("wire") { wireValidator.violationsOf(bytes) }
+    }
+
+    private fun message(): Message {
+        val builder = InDepthValidatedRepeated.newBuilder()
+        repeat(100) {
+            val name = PersonName.newBuilder()
+                .setValue(if (it % 10 == 0) "R2-D2 #$it" else "Person $it")
+                .buildPartial()
+            builder.addValidatable(name)
+        }
+        return builder.buildPartial()
+    }
+
+    @Suppress("UseOfSystemOutOrSystemErr") // Reporting the benchmark results.
+    private fun measure(name: String, validation: () -> List<*>) {
+        var sink = 0
+        repeat(WARMUP_ROUNDS) { sink += validation().size }
+        val start = System.nanoTime()
+        repeat(MEASURED_ROUNDS) { sink += validation().size }
+        val elapsed = System.nanoTime() - start
+        val perOperation = elapsed / MEASURED_ROUNDS
+        println(
+            "$name: $perOperation ns/op" +
+                    " (${NANOSECONDS.toMillis(elapsed)} ms total, $sink violations)"
+        )
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test.dynamic
+
+import com.google.protobuf.DynamicMessage
+import com.google.protobuf.Message
+import com.google.protobuf.util.Timestamps
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.shouldBe
+import io.spine.protobuf.AnyPacker
+import io.spine.test.tools.validate.InDepthValidatedMaps
+import io.spine.test.tools.validate.InDepthValidatedMessage
+import io.spine.test.tools.validate.InDepthValidatedRepeated
+import io.spine.test.tools.validate.InterestRate
+import io.spine.test.tools.validate.PersonName
+import io.spine.test.tools.validate.Probability
+import io.spine.test.tools.validate.Year
+import io.spine.test.validate.AllThePatterns
+import io.spine.string.templateString
+import io.spine.validation.DetectedViolation
+import io.spine.validation.MessageValidator
+import io.spine.validation.MessageViolation
+import io.spine.validation.Validate
+import io.spine.validation.ValidatorRegistry
+import io.spine.validation.dynamic.DescriptorValidator
+import io.spine.validation.dynamic.WireValidator
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Descriptor-driven validation should report the same violations as generated code for")
+internal class DescriptorValidatorITest {
+
+    @Test
+    fun `'(required)' and '(pattern)' fields`() {
+        assertSameViolations(PersonName.newBuilder().buildPartial())
+        assertSameViolations(PersonName.newBuilder().setValue("R2-D2").buildPartial())
+        assertSameViolations(PersonName.newBuilder().setValue("Luke").build())
+    }
+
+    @Test
+    fun `pattern modifiers`() {
+        assertSameViolations(
+            AllThePatterns.newBuilder()
+                .setLetters("abc1")
+                .setManyLines("single line")
+                .setPartial("Hello, world!")
+                .setUtf8("abc")
+                .buildPartial()
+        )
+    }
+
+    @Test
+    fun `number bounds`() {
+        assertSameViolations(Probability.newBuilder().setValue(1.5).buildPartial())
+        assertSameViolations(InterestRate.newBuilder().setPercent(0.0f).buildPartial())
+        assertSameViolations(Year.newBuilder().setDayCount(367).buildPartial())
+        assertSameViolations(Year.newBuilder().setDayCount(365).build())
+    }
+
+    @Test
+    fun `in-depth validated fields`() {
+        val invalidName = PersonName.newBuilder().setValue("R2-D2").buildPartial()
+        val invalidTime = Timestamps.fromSeconds(Long.MAX_VALUE / 2)
+        assertSameViolations(
+            InDepthValidatedMessage.newBuilder()
+                .setValidatable(invalidName)
+                .setNonValidatable(invalidTime)
+                .setAny(AnyPacker.pack(invalidName))
+                .buildPartial()
+        )
+        assertSameViolations(
+            InDepthValidatedRepeated.newBuilder()
+                .addValidatable(invalidName)
+                .addValidatable(PersonName.getDefaultInstance())
+                .addNonValidatable(invalidTime)
+                .addAny(AnyPacker.pack(invalidName))
+                .buildPartial()
+        )
+        assertSameViolations(
+            InDepthValidatedMaps.newBuilder()
+                .putValidatable("droid", invalidName)
+                .putNonValidatable("never", invalidTime)
+                .putAny("packed", AnyPacker.pack(invalidName))
+                .buildPartial()
+        )
+    }
+
+    @Test
+    fun `dynamic messages only when used explicitly`() {
+        val invalid = PersonName.newBuilder().setValue("R2-D2").buildPartial()
+        val valid = PersonName.newBuilder().setValue("Luke").build()
+        val dynamic = listOf(invalid, valid).map {
+            DynamicMessage.parseFrom(it.descriptorForType, it.toByteString())
+        }
+        val validator = DescriptorValidator.compiled(invalid.descriptorForType)
+
+        validator.violationsOf(dynamic[0]) shouldBe Validate.violationsOf(invalid)
+        validator.violationsOf(dynamic[1]).shouldBeEmpty()
+        Validate.violationsOf(dynamic[0]).shouldBeEmpty()
+        Validate.violationsOfAll(dynamic).byIndex() shouldBe emptyMap()
+    }
+
+    @Test
+    fun `nested messages with registered validators`() {
+        ValidatorRegistry.add(PersonName::class.java, AlwaysInvalidName())
+        try {
+            val validName = PersonName.newBuilder().setValue("Luke").buildPartial()
+            val message = InDepthValidatedMessage.newBuilder()
+                .setValidatable(validName)
+                .setAny(AnyPacker.pack(validName))
+                .buildPartial()
+
+            Validate.violationsOf(message).map { it.fieldPath.fieldNameList } shouldBe listOf(
+                listOf("validatable"),
+                listOf("any")
+            )
+            assertSameViolations(message)
+        } finally {
+            ValidatorRegistry.remove(PersonName::class.java)
+        }
+    }
+}
+
+private class AlwaysInvalidName : MessageValidator<PersonName> {
+    override fun validate(message: PersonName): List<DetectedViolation> =
+        listOf(MessageViolation(templateString { withPlaceholders = "Invalid name." }))
+}
+
+/**
+ * Asserts that the dynamic counterpart of the given message, and the serialized message
+ * are validated with the same result as the given message itself.
+ */
+private fun assertSameViolations(message: Message) {
+    val expected = Validate.violationsOf(message)
+    val type = message.descriptorForType
+    val dynamic = DynamicMessage.parseFrom(type, message.toByteString())
+
+    DescriptorValidator.forType(type).violationsOf(dynamic) shouldBe expected
+    DescriptorValidator.compiled(type).violationsOf(dynamic) shouldBe expected
+    WireValidator.forType(type).violationsOf(message.toByteArray()) shouldBe expected
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.spine.test.options
+
+import io.kotest.matchers.collections.shouldContainAll
+import io.kotest.matchers.shouldBe
+import io.spine.test.tools.validate.InDepthValidatedMessage
+import io.spine.test.tools.validate.Memo
+import io.spine.test.tools.validate.MemoBoard
+import io.spine.test.tools.validate.MemoBoardArchive
+import io.spine.test.tools.validate.PersonName
+import io.spine.test.tools.validate.PersonNameCard
+import io.spine.test.tools.validate.memo
+import io.spine.test.tools.validate.memoBoard
+import io.spine.test.tools.validate.memoBoardArchive
+import io.spine.validation.DetectedViolation
+import io.spine.validation.MessageValidator
+import io.spine.validation.MessageViolation
+import io.spine.string.templateString
+import io.spine.validation.ValidatorRegistry
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("Constraint-free message types should")
+internal class ConstraintFreeITest {
+
+    @Nested internal inner class
+    `report via 'hasConstraints()'` {
+
+        @Test
+        fun `no constraints for types without them`() {
+            Memo.hasConstraints() shouldBe false
+            MemoBoard.hasConstraints() shouldBe false
+            MemoBoardArchive.hasConstraints() shouldBe false
+        }
+
+        @Test
+        fun `constraints for types having them directly or transitively`() {
+            PersonName.hasConstraints() shouldBe true
+            PersonNameCard.hasConstraints() shouldBe true
+        }
+
+        @Test
+        fun `constraints for types validating messages of unknown constraints`() {
+            InDepthValidatedMessage.hasConstraints() shouldBe true
+        }
+    }
+
+    @Nested internal inner class
+    `still apply registered validators` {
+
+        private val board = memoBoard {
+            pinned = memo { text = "pinned" }
+            memos.add(memo { text = "first" })
+            memos.add(memo { text = "second" })
+        }
+
+        @AfterEach
+        fun removeValidator() {
+            ValidatorRegistry.remove(Memo::class.java)
+        }
+
+        @Test
+        fun `if there are any`() {
+            ValidatorRegistry.add(Memo::class.java, AlwaysInvalidMemo())
+
+            val violations = board.validate().get().constraintViolationList
+
+            violations.map { it.fieldPath.fieldNameList } shouldContainAll listOf(
+                listOf("pinned"),
+                listOf("memos")
+            )
+        }
+
+        @Test
+        fun `once per nested message`() {
+            ValidatorRegistry.add(Memo::class.java, AlwaysInvalidMemo())
+
+            val violations = board.validate().get().constraintViolationList
+
+            violations.map { it.fieldPath.fieldNameList } shouldBe listOf(
+                listOf("pinned"),
+                listOf("memos"),
+                listOf("memos")
+            )
+        }
+
+        @Test
+        fun `in transitively validated fields`() {
+            ValidatorRegistry.add(Memo::class.java, AlwaysInvalidMemo())
+            val archive = memoBoardArchive { boards.add(board) }
+
+            val violations = archive.validate().get().constraintViolationList
+
+            violations.map { it.fieldPath.fieldNameList } shouldContainAll listOf(
+                listOf("boards", "pinned"),
+                listOf("boards", "memos")
+            )
+        }
+
+        @Test
+        fun `reporting no violations if there are no validators`() {
+            board.validate().isPresent shouldBe false
+        }
+    }
+}
+
+private class AlwaysInvalidMemo : MessageValidator<Memo> {
+    override fun validate(message: Memo): List<DetectedViolation> =
+        listOf(MessageViolation(templateString { withPlaceholders = "Invalid memo." }))
+}
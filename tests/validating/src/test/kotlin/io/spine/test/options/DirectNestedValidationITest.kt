@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test.options
+
+import io.kotest.matchers.shouldBe
+import io.spine.base.FieldPath
+import io.spine.test.tools.validate.InDepthValidatedRepeated
+import io.spine.test.tools.validate.PersonName
+import io.spine.test.tools.validate.PersonNameCard
+import io.spine.validation.ConstraintViolation
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Direct validation of nested messages should")
+internal class DirectNestedValidationITest {
+
+    private val invalidName = PersonName.newBuilder()
+        .setValue("R2-D2")
+        .buildPartial()
+
+    @Test
+    fun `collect the same violations as 'validate()'`() {
+        val path = FieldPath.newBuilder()
+            .addFieldName("owner")
+            .build()
+        val collected = mutableListOf<ConstraintViolation>()
+
+        invalidName.validateInto(path, null, collected)
+
+        collected shouldBe invalidName.validate(path, null).get().constraintViolationList
+    }
+
+    @Test
+    fun `report violations of a singular field with its path`() {
+        val card = PersonNameCard.newBuilder()
+            .setName(invalidName)
+            .buildPartial()
+
+        val violations = card.validate().get().constraintViolationList
+
+        violations.map { it.fieldPath.fieldNameList } shouldBe listOf(listOf("name", "value"))
+    }
+
+    @Test
+    fun `report violations of repeated field elements with their path`() {
+        val message = InDepthValidatedRepeated.newBuilder()
+            .addValidatable(invalidName)
+            .addValidatable(invalidName)
+            .buildPartial()
+
+        val violations = message.validate().get().constraintViolationList
+
+        violations.map { it.fieldPath.fieldNameList } shouldBe listOf(
+            listOf("validatable", "value"),
+            listOf("validatable", "value")
+        )
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test.options
+
+import com.google.protobuf.fieldMask
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.spine.string.templateString
+import io.spine.test.tools.validate.GeoPoint
+import io.spine.test.tools.validate.Route
+import io.spine.test.tools.validate.RouteSegment
+import io.spine.test.tools.validate.Waypoint
+import io.spine.validation.ConstraintViolation
+import io.spine.validation.DetectedViolation
+import io.spine.validation.MessageValidator
+import io.spine.validation.MessageViolation
+import io.spine.validation.Validate
+import io.spine.validation.ValidatorRegistry
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Inlined constraints of nested messages should")
+internal class InlinedConstraintsITest {
+
+    private val invalidPoint = GeoPoint.newBuilder()
+        .setLatitude(100.0)
+        .buildPartial()
+
+    @Test
+    fun `report violations with the full field path`() {
+        val route = Route.newBuilder()
+            .setStart(invalidPoint)
+            .setStop(
+                Waypoint.newBuilder()
+                    .setPosition(GeoPoint.newBuilder().setLongitude(200.0))
+            )
+            .buildPartial()
+
+        Validate.violationsOf(route).fieldPaths() shouldContainExactlyInAnyOrder listOf(
+            "start.latitude",
+            "stop.name",
+            "stop.position.longitude"
+        )
+    }
+
+    @Test
+    fun `check only the selected fields of a nested message`() {
+        val route = Route.newBuilder()
+            .setStop(
+                Waypoint.newBuilder()
+                    .setPosition(invalidPoint)
+            )
+            .buildPartial()
+
+        route.validate(fieldMask { paths.add("stop.position") }).get()
+            .constraintViolationList
+            .fieldPaths() shouldBe listOf("stop.position.latitude")
+    }
+
+    @Test
+    fun `validate recursive messages`() {
+        val segment = RouteSegment.newBuilder()
+            .setLabel("A")
+            .setNext(
+                RouteSegment.newBuilder()
+                    .setNext(RouteSegment.newBuilder().setNext(RouteSegment.getDefaultInstance()))
+            )
+            .buildPartial()
+
+        Validate.violationsOf(segment).fieldPaths() shouldContainExactlyInAnyOrder listOf(
+            "next.label",
+            "next.next.label"
+        )
+    }
+
+    @Test
+    fun `apply the validators registered for the nested type`() {
+        ValidatorRegistry.add(GeoPoint::class.java, AlwaysInvalidPoint())
+        try {
+            val route = Route.newBuilder()
+                .setStart(GeoPoint.newBuilder().setLatitude(1.0))
+                .buildPartial()
+
+            Validate.violationsOf(route).fieldPaths() shouldBe listOf("start")
+        } finally {
+            ValidatorRegistry.remove(GeoPoint::class.java)
+        }
+    }
+}
+
+private class AlwaysInvalidPoint : MessageValidator<GeoPoint> {
+    override fun validate(message: GeoPoint): List<DetectedViolation> =
+        listOf(MessageViolation(templateString { withPlaceholders = "Invalid point." }))
+}
+
+private fun List<ConstraintViolation>.fieldPaths(): List<String> =
+    map { it.fieldPath.fieldNameList.joinToString(".") }
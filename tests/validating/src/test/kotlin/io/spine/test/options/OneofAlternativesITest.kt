@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.test.options
+
+import io.kotest.matchers.shouldBe
+import io.spine.test.tools.validate.Notice
+import io.spine.test.tools.validate.PersonName
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Constraints of `oneof` alternatives should")
+internal class OneofAlternativesITest {
+
+    @Test
+    fun `not be checked if no alternative is set`() {
+        val notice = Notice.newBuilder()
+            .setTitle("Closed")
+            .build()
+
+        notice.validate().isPresent shouldBe false
+    }
+
+    @Test
+    fun `be checked for a set string alternative`() {
+        notice { setText("Closed on 1 May") } shouldReport listOf("text")
+    }
+
+    @Test
+    fun `be checked for a set number alternative`() {
+        notice { setCode(1000) } shouldReport listOf("code")
+    }
+
+    @Test
+    fun `be checked for a set message alternative`() {
+        val invalid = PersonName.newBuilder()
+            .setValue("R2-D2")
+            .buildPartial()
+
+        notice { setAuthor(invalid) } shouldReport listOf("author", "value")
+    }
+
+    @Test
+    fun `accept a valid set alternative`() {
+        notice { setCode(404) }.validate().isPresent shouldBe false
+    }
+
+    @Test
+    fun `not affect the checks of other fields`() {
+        val notice = Notice.newBuilder()
+            .setCode(1000)
+            .buildPartial()
+
+        val violations = notice.validate().get().constraintViolationList
+
+        violations.map { it.fieldPath.fieldNameList }.toSet() shouldBe setOf(
+            listOf("title"),
+            listOf("code")
+        )
+    }
+}
+
+private fun notice(setBody: Notice.Builder.() -> Notice.Builder): Notice =
+    Notice.newBuilder()
+        .setTitle("Notice")
+        .setBody()
+        .buildPartial()
+
+private infix fun Notice.shouldReport(fieldPath: List<String>) {
+    val violations = validate().get().constraintViolationList
+    violations.map { it.fieldPath.fieldNameList } shouldBe listOf(fieldPath)
+}
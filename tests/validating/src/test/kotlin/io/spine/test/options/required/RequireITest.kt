@@ -33,6 +33,7 @@ import io.kotest.matchers.string.shouldContain
 import io.spine.test.tools.validate.Citizen
 import io.spine.test.tools.validate.Due
 import io.spine.test.tools.validate.FieldGroup
+import io.spine.test.tools.validate.OverlappingGroups
 import io.spine.type.TypeName
 import io.spine.string.format
 import io.spine.tools.validation.assertions.assertInvalid
@@ -81,6 +82,16 @@ internal class RequireITest {
             .setB2(ByteString.copyFromUtf8("b2"))
         assertValid(message)
     }
+
+    @Test
+    fun `groups sharing fields are checked independently`() {
+        assertInvalidWithParam(
+            OverlappingGroups.newBuilder().setName("n"),
+            "id & name | id & email | name & email"
+        )
+        assertValid(OverlappingGroups.newBuilder().setId("i").setEmail("e"))
+        assertValid(OverlappingGroups.newBuilder().setName("n").setEmail("e"))
+    }
 }
 
 private fun assertInvalidWithParam(message: Message.Builder, violationParam: String) {
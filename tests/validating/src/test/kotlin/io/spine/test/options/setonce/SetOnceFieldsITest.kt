@@ -103,6 +103,13 @@ internal class SetOnceFieldsITest {
             studentJack.toBuilder()
                 .mergeFrom(studentDonald.toByteArray())
         }
+
+        @Test
+        fun `by bytes merge after editing the field builder`() = assertValidationFails {
+            StudentSetOnce.newBuilder()
+                .apply { nameBuilder.mergeFrom(JACK) }
+                .mergeFrom(studentDonald.toByteArray())
+        }
     }
 
     @Nested inner class